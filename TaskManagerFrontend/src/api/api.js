@@ -24,19 +24,153 @@ export const loginRequest = (email, password) =>
 export const signupRequest = (payload) =>
     api.post("/employees/signup", payload);
 
+// PAGING
+// List endpoints return one keyset page; the cursor for the next page comes back in X-Next-Cursor
+export const nextCursor = (res) => res.headers["x-next-cursor"] ?? null;
+
+// Follows the cursor until the last page; only for views that really need the whole list
+const fetchAllPages = async (request, params = {}) => {
+  const data = [];
+  let cursor = null;
+  do {
+    const res = await request({ ...params, limit: 500, ...(cursor ? { cursor } : {}) });
+    data.push(...res.data);
+    cursor = nextCursor(res);
+  } while (cursor);
+  return { data };
+};
+
 // EMPLOYEES
-export const getEmployees = () => api.get("/employees");
+export const getEmployees = (params = {}) => api.get("/employees", { params });
+export const getAllEmployees = (params) => fetchAllPages(getEmployees, params);
 export const getEmployee = (id) => api.get(`/employees/${id}`);
 export const createEmployee = (data) => api.post("/employees", data);
 export const updateEmployee = (id, data) => api.put(`/employees/${id}`, data);
 export const deleteEmployee = (id) => api.delete(`/employees/${id}`);
 export const getEmployeeTasks = (id) => api.get(`/employees/${id}/tasks`);
+export const getEmployeeBoard = (id) => api.get(`/employees/${id}/board`);
+export const getEmployeeTaskChanges = (id, since) =>
+  api.get(`/employees/${id}/tasks/changes`, { params: since ? { since } : {} });
 
 // TASKS
-export const getTasks = () => api.get("/tasks");
+export const getTasks = (params = {}) => api.get("/tasks", { params });
+export const getAllTasks = (params) => fetchAllPages(getTasks, params);
 export const getTask = (id) => api.get(`/tasks/${id}`);
+export const getTaskStats = () => api.get("/tasks/stats");
+// Ranked full-text search over title and description; pages like getTasks, via X-Next-Cursor
+export const searchTasks = (params) => api.get("/tasks/search", { params });
+export const getTeamBoard = () => api.get("/tasks/board");
+// Board responses group cards by status; the pages keep a flat list and re-bucket on drag
+export const boardCards = (res) => Object.values(res.data.columns).flat();
+export const getTaskChanges = (since) => api.get("/tasks/changes", { params: since ? { since } : {} });
 export const createTask = (data) => api.post("/tasks", data);
 export const updateTask = (id, data) => api.put(`/tasks/${id}`, data);
 export const deleteTask = (id) => api.delete(`/tasks/${id}`);
 export const getTaskWorkflows = (id) => api.get(`/tasks/${id}/workflows`);
+// Completed tasks moved out of the live tables; pages like getTasks, via X-Next-Cursor
+export const getArchivedTasks = (params = {}) => api.get("/tasks/archive", { params });
+export const getArchivedTask = (id) => api.get(`/tasks/archive/${id}`);
+export const getArchivedTaskWorkflows = (id) => api.get(`/tasks/archive/${id}/workflows`);
 export const changeTaskStatus = (payload) => api.put("/tasks/status", payload);
+// Multi-select board moves: one request, one result per item ({ taskId, status, updated, error })
+export const changeTaskStatuses = (payloads) => api.put("/tasks/status/batch", payloads);
+
+// EXPORTS (format: "CSV" or "NDJSON"); the server streams the file instead of paging it into the browser
+const downloadExport = async (url, format) => {
+  const res = await api.get(url, { params: { format }, responseType: "blob" });
+  const name = /filename="?([^";]+)"?/.exec(res.headers["content-disposition"] || "")?.[1] || "export";
+  const link = document.createElement("a");
+  link.href = URL.createObjectURL(res.data);
+  link.download = name;
+  link.click();
+  URL.revokeObjectURL(link.href);
+};
+export const exportTasks = (format) => downloadExport("/tasks/export", format);
+export const exportTaskWorkflows = (format) => downloadExport("/tasks/workflows/export", format);
+
+// LIVE BOARDS
+// Boards keep a flat list of cards; changes from the feed or the stream are merged into it by id
+const mergeTasks = (setTasks, updatedTasks, deletedIds) => {
+  const updated = new Map(updatedTasks.map((t) => [t.id, t]));
+  const deleted = new Set(deletedIds);
+  setTasks((prev) =>
+    [...prev.filter((t) => !deleted.has(t.id) && !updated.has(t.id)), ...updated.values()]
+      .sort((a, b) => a.id - b.id)
+  );
+};
+
+// Delta sync: call without a cursor before loading the board, then pass the cursor each response hands back.
+// Drains every batch and returns the cursor for the next call.
+export const TASK_CHANGES_POLL_MS = 60000;
+export const syncTaskChanges = async (request, since, setTasks) => {
+  let cursor = since;
+  let hasMore = true;
+  while (hasMore) {
+    const { data } = await request(cursor);
+    if (data.updated.length || data.deleted.length) {
+      mergeTasks(setTasks, data.updated, data.deleted);
+    }
+    cursor = data.cursor;
+    hasMore = data.hasMore;
+  }
+  return cursor;
+};
+
+export const applyTaskEvent = (setTasks, event) =>
+  event.type === "DELETED"
+    ? mergeTasks(setTasks, [], [event.taskId])
+    : mergeTasks(setTasks, [event.task], []);
+
+// Push: server-sent task events. EventSource cannot send the Authorization header, so the stream is read
+// with fetch. Handlers are keyed by event name (connected, task, resync). Reconnects with backoff until
+// the returned function is called.
+export const subscribeTaskEvents = (path, handlers) => {
+  const controller = new AbortController();
+  let retryMs = 1000;
+
+  const dispatch = (block) => {
+    let name = "message";
+    const data = [];
+    for (const line of block.split("\n")) {
+      if (line.startsWith("event:")) name = line.slice(6).trim();
+      else if (line.startsWith("data:")) data.push(line.slice(5));
+    }
+    handlers[name]?.(data.join("\n"));
+  };
+
+  const connect = async () => {
+    try {
+      const token = localStorage.getItem("token");
+      const res = await fetch(`${API_BASE}${path}`, {
+        headers: {
+          Accept: "text/event-stream",
+          ...(token ? { Authorization: `Bearer ${token}` } : {}),
+        },
+        signal: controller.signal,
+      });
+      if (!res.ok) throw new Error(`Task event stream failed with ${res.status}`);
+
+      const reader = res.body.pipeThrough(new TextDecoderStream()).getReader();
+      let buffer = "";
+      retryMs = 1000;
+      for (;;) {
+        const { value, done } = await reader.read();
+        if (done) break;
+        buffer += value;
+        let end;
+        while ((end = buffer.indexOf("\n\n")) >= 0) {
+          dispatch(buffer.slice(0, end));
+          buffer = buffer.slice(end + 2);
+        }
+      }
+    } catch (err) {
+      if (controller.signal.aborted) return;
+      console.error(err);
+      retryMs = Math.min(retryMs * 2, 30000);
+    }
+    if (!controller.signal.aborted) setTimeout(connect, retryMs);
+  };
+
+  connect();
+  return () => controller.abort();
+};
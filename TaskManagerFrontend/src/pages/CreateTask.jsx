@@ -1,6 +1,6 @@
 import { useEffect, useState } from "react";
 import { useNavigate } from "react-router-dom";
-import { getEmployees, createTask } from "../api/api";
+import { getAllEmployees, createTask } from "../api/api";
 import Card from "../components/Card";
 
 export default function CreateTask() {
@@ -20,7 +20,7 @@ export default function CreateTask() {
   }, []);
 
   const loadEmployees = async () => {
-    const res = await getEmployees(); // 🔥 GET /employees
+    const res = await getAllEmployees(); // 🔥 GET /employees
     setEmployees(res.data);
   };
 
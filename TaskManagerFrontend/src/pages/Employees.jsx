@@ -1,6 +1,6 @@
 import { useEffect, useState } from "react";
 import { Link } from "react-router-dom";
-import { getEmployees } from "../api/api";
+import { getAllEmployees } from "../api/api";
 import Card from "../components/Card";
 
 export default function Employees() {
@@ -8,7 +8,7 @@ export default function Employees() {
   const [loading, setLoading] = useState(true);
 
   useEffect(() => {
-    getEmployees()
+    getAllEmployees()
       .then((res) => setEmployees(res.data))
       .finally(() => setLoading(false));
   }, []);
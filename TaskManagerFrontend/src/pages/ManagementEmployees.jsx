@@ -1,5 +1,5 @@
 import { useEffect, useState } from "react";
-import { getEmployees} from "../api/api";
+import { getAllEmployees} from "../api/api";
 import { deleteEmployee} from "../api/api";
 import ManagementSidebar from "../components/ManagementSidebar";
 import Card from "../components/Card";
@@ -15,7 +15,7 @@ export default function ManagementEmployees() {
   }, []);
 
   const loadEmployees = async () => {
-    const res = await getEmployees(); // 🔥 GET /employees
+    const res = await getAllEmployees(); // 🔥 GET /employees
     setEmployees(res.data);
   };
 
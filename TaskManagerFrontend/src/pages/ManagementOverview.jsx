@@ -1,16 +1,20 @@
 import { useEffect, useState } from "react";
-import { getEmployees, getTasks } from "../api/api";
+import { getEmployees, getTasks, getTaskStats } from "../api/api";
 import ManagementSidebar from "../components/ManagementSidebar";
 import { StatusBadge } from "../components/StatusBadge";
 
 export default function ManagementOverview() {
     const [employees, setEmployees] = useState([]);
     const [tasks, setTasks] = useState([]);
+    const [stats, setStats] = useState(null);
     const [loading, setLoading] = useState(true);
 
     useEffect(() => {
-        Promise.all([getEmployees(), getTasks()])
-            .then(([empRes, taskRes]) => {
+        // Counts come precomputed; only the 8 newest rows of each list are fetched
+        const latest = { direction: "DESC", limit: 8 };
+        Promise.all([getTaskStats(), getEmployees(latest), getTasks(latest)])
+            .then(([statsRes, empRes, taskRes]) => {
+                setStats(statsRes.data);
                 setEmployees(empRes.data);
                 setTasks(taskRes.data);
             })
@@ -33,21 +37,21 @@ export default function ManagementOverview() {
                             <div className="bg-blue-500/10 border border-blue-500/40 rounded-2xl p-4">
                                 <p className="text-xs text-slate-200">Total employees</p>
                                 <p className="text-2xl font-bold text-blue-300">
-                                    {employees.length}
+                                    {stats?.activeEmployees ?? 0}
                                 </p>
                             </div>
 
                             <div className="bg-emerald-500/10 border border-emerald-500/40 rounded-2xl p-4">
                                 <p className="text-xs text-slate-200">Total tasks</p>
                                 <p className="text-2xl font-bold text-emerald-300">
-                                    {tasks.length}
+                                    {stats?.totalTasks ?? 0}
                                 </p>
                             </div>
 
                             <div className="bg-amber-500/10 border border-amber-500/40 rounded-2xl p-4">
                                 <p className="text-xs text-slate-200">Completed tasks</p>
                                 <p className="text-2xl font-bold text-amber-300">
-                                    {tasks.filter((t) => t.status === "DONE").length}
+                                    {stats?.byStatus.DONE ?? 0}
                                 </p>
                             </div>
                         </div>
@@ -62,7 +66,7 @@ export default function ManagementOverview() {
                                 </h2>
 
                                 <div className="max-h-64 overflow-auto custom-scroll text-xs">
-                                    {employees.slice(-8).reverse().map((e) => (
+                                    {employees.map((e) => (
                                         <div
                                             key={e.id}
                                             className="flex items-center justify-between border-b border-slate-800 py-2 last:border-0"
@@ -103,7 +107,7 @@ export default function ManagementOverview() {
                                 </h2>
 
                                 <div className="max-h-64 overflow-auto custom-scroll text-xs">
-                                    {tasks.slice(-8).reverse().map((t) => (
+                                    {tasks.map((t) => (
                                         <div
                                             key={t.id}
                                             className="flex items-center justify-between border-b border-slate-800 py-2 last:border-0"
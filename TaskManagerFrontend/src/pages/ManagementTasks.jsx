@@ -1,5 +1,5 @@
 import { useEffect, useState } from "react";
-import { getTasks, deleteTask } from "../api/api";
+import { getTasks, searchTasks, deleteTask, nextCursor, exportTasks, exportTaskWorkflows } from "../api/api";
 import ManagementSidebar from "../components/ManagementSidebar";
 import Card from "../components/Card";
 import { StatusBadge } from "../components/StatusBadge";
@@ -9,14 +9,36 @@ import { useAuth } from "../context/AuthContext";
 
 export default function ManagementTasks() {
   const [tasks, setTasks] = useState([]);
+  const [cursor, setCursor] = useState(null);
+  const [filters, setFilters] = useState({ status: "", priority: "" });
+  const [query, setQuery] = useState("");
   const { user } = useAuth();
 
   useEffect(() => {
-    loadTasks();
-  }, []);
+    // Wait for a pause in typing before searching
+    const timer = setTimeout(loadTasks, query ? 300 : 0);
+    return () => clearTimeout(timer);
+  }, [filters, query]);
+
+  const filterParams = () =>
+    Object.fromEntries(Object.entries(filters).filter(([, v]) => v));
+
+  // Searching ranks by relevance across all tasks; the status and priority filters apply to browsing
+  const fetchPage = (params) =>
+    query.trim() ? searchTasks({ q: query.trim(), ...params }) : getTasks({ ...filterParams(), ...params });
 
   const loadTasks = () => {
-    getTasks().then((res) => setTasks(res.data));
+    fetchPage({}).then((res) => {
+      setTasks(res.data);
+      setCursor(nextCursor(res));
+    });
+  };
+
+  const loadMore = () => {
+    fetchPage({ cursor }).then((res) => {
+      setTasks((prev) => [...prev, ...res.data]);
+      setCursor(nextCursor(res));
+    });
   };
 
   const handleDelete = async (id) => {
@@ -32,14 +54,63 @@ export default function ManagementTasks() {
         <div className="flex items-center justify-between">
           <h1 className="text-xl font-semibold text-slate-50">Manage Tasks</h1>
 
-          {user.role === "HEAD_MANAGER" && (
-            <Link
-              to="/manage/tasks/create"
-              className="bg-blue-600 hover:bg-blue-700 text-xs px-3 py-2 rounded-lg text-white"
+          <div className="flex items-center gap-2">
+            <button
+              onClick={() => exportTasks("CSV")}
+              className="bg-slate-800 hover:bg-slate-700 text-xs px-3 py-2 rounded-lg text-slate-200"
             >
-              + Create Task
-            </Link>
-          )}
+              Export tasks
+            </button>
+            <button
+              onClick={() => exportTaskWorkflows("CSV")}
+              className="bg-slate-800 hover:bg-slate-700 text-xs px-3 py-2 rounded-lg text-slate-200"
+            >
+              Export history
+            </button>
+
+            {user.role === "HEAD_MANAGER" && (
+              <Link
+                to="/manage/tasks/create"
+                className="bg-blue-600 hover:bg-blue-700 text-xs px-3 py-2 rounded-lg text-white"
+              >
+                + Create Task
+              </Link>
+            )}
+          </div>
+        </div>
+
+        <div className="flex items-center gap-2">
+          <input
+            type="search"
+            value={query}
+            onChange={(e) => setQuery(e.target.value)}
+            placeholder="Search tasks..."
+            maxLength={200}
+            className="bg-slate-800 text-xs text-slate-200 rounded-lg px-2 py-1 flex-1"
+          />
+          <select
+            disabled={!!query.trim()}
+            value={filters.status}
+            onChange={(e) => setFilters({ ...filters, status: e.target.value })}
+            className="bg-slate-800 text-xs text-slate-200 rounded-lg px-2 py-1"
+          >
+            <option value="">All statuses</option>
+            <option value="CREATED">Created</option>
+            <option value="IN_PROGRESS">In progress</option>
+            <option value="RESOLVED">Resolved</option>
+            <option value="DONE">Done</option>
+          </select>
+          <select
+            disabled={!!query.trim()}
+            value={filters.priority}
+            onChange={(e) => setFilters({ ...filters, priority: e.target.value })}
+            className="bg-slate-800 text-xs text-slate-200 rounded-lg px-2 py-1"
+          >
+            <option value="">All priorities</option>
+            <option value="LOW">Low</option>
+            <option value="MEDIUM">Medium</option>
+            <option value="HIGH">High</option>
+          </select>
         </div>
 
         <div className="grid grid-cols-1 md:grid-cols-2 gap-3">
@@ -100,6 +171,15 @@ export default function ManagementTasks() {
             <p className="text-slate-500 text-sm col-span-full">No tasks.</p>
           )}
         </div>
+
+        {cursor && (
+          <button
+            onClick={loadMore}
+            className="text-xs px-3 py-2 rounded-lg bg-slate-800 hover:bg-slate-700 text-slate-200"
+          >
+            Load more
+          </button>
+        )}
       </main>
     </div>
   );
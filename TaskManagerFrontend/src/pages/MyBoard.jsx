@@ -1,7 +1,16 @@
-import { useEffect, useState } from "react";
+import { useEffect, useRef, useState } from "react";
 import { DragDropContext, Droppable, Draggable } from "@hello-pangea/dnd";
 import { useAuth } from "../context/AuthContext";
-import { getEmployeeTasks, changeTaskStatus } from "../api/api";
+import {
+  getEmployeeBoard,
+  boardCards,
+  getEmployeeTaskChanges,
+  syncTaskChanges,
+  applyTaskEvent,
+  subscribeTaskEvents,
+  TASK_CHANGES_POLL_MS,
+  changeTaskStatus,
+} from "../api/api";
 import Card from "../components/Card";
 import { StatusBadge,  } from "../components/StatusBadge";
 import { PriorityBadge } from "../components/PriorityBadge";
@@ -22,17 +31,53 @@ export default function MyBoard() {
   const [loading, setLoading] = useState(true);
   const [updating, setUpdating] = useState(false);
 
+  // Change-feed cursor; null until the first full load has finished
+  const cursor = useRef(null);
+  const syncing = useRef(false);
+
   useEffect(() => {
     if (!user) return;
+    cursor.current = null;
     loadTasks();
+    // Changes are pushed; the feed catches up after (re)connects and resyncs, and the slow poll is a safety net
+    const unsubscribe = subscribeTaskEvents(`/employees/${user.id}/tasks/events`, {
+      connected: pollChanges,
+      resync: pollChanges,
+      task: (data) => applyTaskEvent(setTasks, JSON.parse(data)),
+    });
+    const timer = setInterval(pollChanges, TASK_CHANGES_POLL_MS);
+    return () => {
+      unsubscribe();
+      clearInterval(timer);
+    };
     // eslint-disable-next-line react-hooks/exhaustive-deps
   }, [user?.id]);
 
-  const loadTasks = () => {
+  const fetchChanges = (since) => getEmployeeTaskChanges(user.id, since);
+
+  const loadTasks = async () => {
     setLoading(true);
-    getEmployeeTasks(user.id)
-      .then((res) => setTasks(res.data))
-      .finally(() => setLoading(false));
+    try {
+      // Cursor first, so changes made while the board loads are picked up by the next poll
+      const head = await fetchChanges();
+      const res = await getEmployeeBoard(user.id);
+      setTasks(boardCards(res));
+      cursor.current = head.data.cursor;
+    } finally {
+      setLoading(false);
+    }
+  };
+
+  const pollChanges = async () => {
+    if (!cursor.current || syncing.current) return;
+    syncing.current = true;
+    try {
+      cursor.current = await syncTaskChanges(fetchChanges, cursor.current, setTasks);
+    } catch (err) {
+      console.error(err);
+    } finally {
+      syncing.current = false;
+    }
   };
 
   const onDragEnd = async (result) => {
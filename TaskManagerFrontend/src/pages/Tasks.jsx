@@ -1,6 +1,6 @@
 import { useEffect, useState } from "react";
 import { Link } from "react-router-dom";
-import { getTasks } from "../api/api";
+import { getAllTasks } from "../api/api";
 import Card from "../components/Card";
 import { StatusBadge } from "../components/StatusBadge";
 import { PriorityBadge } from "../components/PriorityBadge";
@@ -10,7 +10,7 @@ export default function Tasks() {
   const [loading, setLoading] = useState(true);
 
   useEffect(() => {
-    getTasks()
+    getAllTasks()
       .then((res) => setTasks(res.data))
       .finally(() => setLoading(false));
   }, []);
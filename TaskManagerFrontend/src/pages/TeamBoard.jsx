@@ -1,7 +1,16 @@
-import { useEffect, useState } from "react";
+import { useEffect, useRef, useState } from "react";
 import { DragDropContext, Droppable, Draggable } from "@hello-pangea/dnd";
 import { useAuth } from "../context/AuthContext";
-import { getTasks, changeTaskStatus } from "../api/api";
+import {
+  getTeamBoard,
+  boardCards,
+  getTaskChanges,
+  syncTaskChanges,
+  applyTaskEvent,
+  subscribeTaskEvents,
+  TASK_CHANGES_POLL_MS,
+  changeTaskStatus,
+} from "../api/api";
 import Card from "../components/Card";
 import { StatusBadge } from "../components/StatusBadge";
 import { PriorityBadge } from "../components/PriorityBadge";
@@ -23,15 +32,49 @@ export default function TeamBoard() {
   const isHeadManager = user?.role === "HEAD_MANAGER";
   const isHrManager = user?.role === "HR_MANAGER";
 
+  // Change-feed cursor; null until the first full load has finished
+  const cursor = useRef(null);
+  const syncing = useRef(false);
+
   useEffect(() => {
     loadTasks();
+    // Changes are pushed; the feed catches up after (re)connects and resyncs, and the slow poll is a safety net
+    const unsubscribe = subscribeTaskEvents("/tasks/events", {
+      connected: pollChanges,
+      resync: pollChanges,
+      task: (data) => applyTaskEvent(setTasks, JSON.parse(data)),
+    });
+    const timer = setInterval(pollChanges, TASK_CHANGES_POLL_MS);
+    return () => {
+      unsubscribe();
+      clearInterval(timer);
+    };
+    // eslint-disable-next-line react-hooks/exhaustive-deps
   }, []);
 
-  const loadTasks = () => {
+  const loadTasks = async () => {
     setLoading(true);
-    getTasks()
-      .then((res) => setTasks(res.data))
-      .finally(() => setLoading(false));
+    try {
+      // Cursor first, so changes made while the board loads are picked up by the next poll
+      const head = await getTaskChanges();
+      const res = await getTeamBoard();
+      setTasks(boardCards(res));
+      cursor.current = head.data.cursor;
+    } finally {
+      setLoading(false);
+    }
+  };
+
+  const pollChanges = async () => {
+    if (!cursor.current || syncing.current) return;
+    syncing.current = true;
+    try {
+      cursor.current = await syncTaskChanges(getTaskChanges, cursor.current, setTasks);
+    } catch (err) {
+      console.error(err);
+    } finally {
+      syncing.current = false;
+    }
   };
 
   const onDragEnd = async (result) => {
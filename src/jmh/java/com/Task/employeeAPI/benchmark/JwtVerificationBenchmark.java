@@ -0,0 +1,63 @@
+package com.Task.employeeAPI.benchmark;
+
+import com.Task.employeeAPI.dao.Entity.Employee;
+import com.Task.employeeAPI.dao.Enums.Role;
+import com.Task.employeeAPI.security.CustomUserDetails;
+import com.Task.employeeAPI.security.JwtTokenUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the old filter path (key rebuilt and token parsed twice, principal loaded by email)
+ * with the single-pass claims path. The old path's {@code employees} lookup is not included,
+ * so the real per-request saving is larger than what this reports.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "my-secret-key-asdasd-asdasd-asdasd";
+
+    private JwtTokenUtil jwtTokenUtil;
+    private String token;
+
+    @Setup
+    public void setup() {
+        jwtTokenUtil = new JwtTokenUtil(SECRET, 3_600_000);
+
+        Employee employee = Employee.builder()
+                .id(42)
+                .name("Farid")
+                .email("farid@example.com")
+                .role(Role.EMPLOYEE)
+                .build();
+        token = jwtTokenUtil.generateToken(employee);
+    }
+
+    @Benchmark
+    public String legacyValidateThenExtractEmail() {
+        Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseClaimsJws(token);
+
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody()
+                .getSubject();
+    }
+
+    @Benchmark
+    public CustomUserDetails singlePassClaims() {
+        Claims claims = jwtTokenUtil.parseClaims(token);
+        return jwtTokenUtil.toUserDetails(claims);
+    }
+}
@@ -0,0 +1,77 @@
+package com.Task.employeeAPI.benchmark;
+
+import com.Task.employeeAPI.dao.Entity.Employee;
+import com.Task.employeeAPI.dao.Entity.Task;
+import com.Task.employeeAPI.dao.Enums.Priority;
+import com.Task.employeeAPI.dao.Enums.Role;
+import com.Task.employeeAPI.dao.Enums.Status;
+import com.Task.employeeAPI.dto.EmployeeDTO;
+import com.Task.employeeAPI.dto.TaskDTO;
+import com.Task.employeeAPI.mapper.EmployeeDtoMapperImpl;
+import com.Task.employeeAPI.mapper.TaskDtoMapper;
+import com.Task.employeeAPI.mapper.TaskDtoMapperImpl;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO conversion of one page of tasks with their assignees, the way the services did it with
+ * the reflective {@link ModelMapper} against the generated MapStruct mappers. Run with {@code -prof gc}
+ * to compare allocation per page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MappingBenchmark {
+
+    @Param({"50"})
+    private int pageSize;
+
+    private List<Task> tasks;
+    private ModelMapper modelMapper;
+    private TaskDtoMapper taskDtoMapper;
+
+    @Setup
+    public void setup() {
+        modelMapper = new ModelMapper();
+        taskDtoMapper = new TaskDtoMapperImpl(new EmployeeDtoMapperImpl());
+
+        tasks = new ArrayList<>(pageSize);
+        for (int i = 1; i <= pageSize; i++) {
+            Employee employee = new Employee();
+            employee.setId(i);
+            employee.setName("Name" + i);
+            employee.setSurname("Surname" + i);
+            employee.setEmail("employee" + i + "@example.com");
+            employee.setRole(Role.EMPLOYEE);
+
+            Task task = new Task();
+            task.setId(i);
+            task.setTitle("Task " + i);
+            task.setDescription("Description of task " + i);
+            task.setPriority(Priority.MEDIUM);
+            task.setStatus(Status.IN_PROGRESS);
+            task.setEmployee(employee);
+            tasks.add(task);
+        }
+    }
+
+    @Benchmark
+    public List<TaskDTO> modelMapper() {
+        List<TaskDTO> page = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            TaskDTO dto = modelMapper.map(task, TaskDTO.class);
+            dto.setEmployee(modelMapper.map(task.getEmployee(), EmployeeDTO.class));
+            page.add(dto);
+        }
+        return page;
+    }
+
+    @Benchmark
+    public List<TaskDTO> mapStruct() {
+        return taskDtoMapper.toDtos(tasks);
+    }
+}
@@ -0,0 +1,69 @@
+package com.Task.employeeAPI.benchmark;
+
+import com.Task.employeeAPI.dao.Enums.Role;
+import com.Task.employeeAPI.security.AllowedRoles;
+import com.Task.employeeAPI.security.CustomUserDetails;
+import com.Task.employeeAPI.security.RoleMaskAuthorizationManager;
+import org.aopalliance.intercept.MethodInvocation;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Per-request authorization cost of the old {@code @PreAuthorize} SpEL rule for GET /employees/{id}
+ * against the compiled {@link AllowedRoles} bitmask for the same rule. The caller is the owner and not
+ * a manager, so every role alternative is evaluated before access is granted.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RoleAuthorizationBenchmark {
+
+    public static class Endpoints {
+
+        @PreAuthorize("hasRole('HR') or hasRole('HR_MANAGER') or hasRole('HEAD_MANAGER') or #id == authentication.principal.id")
+        public void spel(Integer id) {
+        }
+
+        @AllowedRoles(value = {Role.HR, Role.HR_MANAGER, Role.HEAD_MANAGER}, owner = "id")
+        public void bitmask(Integer id) {
+        }
+    }
+
+    private PreAuthorizeAuthorizationManager preAuthorizeManager;
+    private RoleMaskAuthorizationManager roleMaskManager;
+    private MethodInvocation spelInvocation;
+    private MethodInvocation bitmaskInvocation;
+    private Supplier<Authentication> authentication;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        preAuthorizeManager = new PreAuthorizeAuthorizationManager();
+        roleMaskManager = new RoleMaskAuthorizationManager();
+
+        Endpoints endpoints = new Endpoints();
+        spelInvocation = new SimpleMethodInvocation(endpoints, Endpoints.class.getMethod("spel", Integer.class), 42);
+        bitmaskInvocation = new SimpleMethodInvocation(endpoints, Endpoints.class.getMethod("bitmask", Integer.class), 42);
+
+        CustomUserDetails user = CustomUserDetails.fromClaims(42, "Farid", "farid@example.com", Role.EMPLOYEE);
+        Authentication auth = UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities());
+        authentication = () -> auth;
+    }
+
+    @Benchmark
+    public AuthorizationDecision preAuthorizeSpel() {
+        return preAuthorizeManager.check(authentication, spelInvocation);
+    }
+
+    @Benchmark
+    public AuthorizationDecision allowedRolesBitmask() {
+        return roleMaskManager.check(authentication, bitmaskInvocation);
+    }
+}
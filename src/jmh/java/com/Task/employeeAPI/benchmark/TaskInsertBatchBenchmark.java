@@ -0,0 +1,91 @@
+package com.Task.employeeAPI.benchmark;
+
+import com.Task.employeeAPI.dao.Entity.Employee;
+import com.Task.employeeAPI.dao.Entity.Task;
+import com.Task.employeeAPI.dao.Entity.TaskWorkflow;
+import com.Task.employeeAPI.dao.Enums.Priority;
+import com.Task.employeeAPI.dao.Enums.Role;
+import com.Task.employeeAPI.dao.Enums.Status;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Insert throughput for a task import (one task and its first workflow row per item) as the Hibernate JDBC
+ * batch size grows. The entities take their ids from the pooled sequences, so only the batch size changes
+ * between runs; a batch size of 1 is the old one-statement-per-row behaviour. The default database is
+ * in-memory H2, which hides the network round trip that batching saves; pass
+ * {@code -p url=jdbc:postgresql://host/db?user=...&password=...} to measure against Postgres.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TaskInsertBatchBenchmark {
+
+    private static final int TASKS_PER_IMPORT = 500;
+
+    @Param({"1", "10", "50", "100"})
+    private int batchSize;
+
+    @Param({"jdbc:h2:mem:task-insert-batch;DB_CLOSE_DELAY=-1"})
+    private String url;
+
+    private SessionFactory sessionFactory;
+    private Employee assignee;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Employee.class)
+                .addAnnotatedClass(Task.class)
+                .addAnnotatedClass(TaskWorkflow.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, url)
+                // Column names as Spring Boot maps them (isDeleted -> is_deleted)
+                .setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy())
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, Integer.toString(batchSize))
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .buildSessionFactory();
+
+        assignee = new Employee();
+        assignee.setName("Farid");
+        assignee.setSurname("Valiyev");
+        assignee.setEmail("farid@example.com");
+        assignee.setRole(Role.EMPLOYEE);
+        sessionFactory.inTransaction(session -> session.persist(assignee));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS_PER_IMPORT)
+    public void insertTasksWithWorkflows() {
+        LocalDateTime now = LocalDateTime.now();
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < TASKS_PER_IMPORT; i++) {
+                Task task = new Task();
+                task.setTitle("Imported " + i);
+                task.setDescription("Imported from sprint planning");
+                task.setPriority(Priority.MEDIUM);
+                task.setStatus(Status.CREATED);
+                task.setEmployee(assignee);
+                session.persist(task);
+
+                TaskWorkflow workflow = new TaskWorkflow();
+                workflow.setTask(task);
+                workflow.setStatus(Status.CREATED);
+                workflow.setLastUpdated(now);
+                workflow.setUpdatedBy(assignee);
+                session.persist(workflow);
+            }
+        });
+    }
+}
@@ -0,0 +1,89 @@
+package com.Task.employeeAPI.benchmark;
+
+import com.Task.employeeAPI.dao.Enums.Role;
+import com.Task.employeeAPI.dao.Enums.Status;
+import com.Task.employeeAPI.security.CustomUserDetails;
+import com.Task.employeeAPI.services.concrete.TaskTransitionMatrix;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks every (current, requested) status pair for an employee and a head manager, once with the old
+ * if/else chain and once with a {@link TaskTransitionMatrix} lookup. The old chain signalled a refusal by
+ * throwing; here it returns the message instead, so the exception cost it also paid is left out.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TransitionRulesBenchmark {
+
+    private static final Status[] STATUSES = Status.values();
+
+    private CustomUserDetails[] users;
+
+    @Setup
+    public void setup() {
+        users = new CustomUserDetails[]{
+                CustomUserDetails.fromClaims(1, "Farid", "farid@example.com", Role.EMPLOYEE),
+                CustomUserDetails.fromClaims(2, "Head", "head@example.com", Role.HEAD_MANAGER)
+        };
+    }
+
+    @Benchmark
+    public void ifElseChain(Blackhole blackhole) {
+        for (CustomUserDetails user : users) {
+            boolean isHead = user.hasRole(Role.HEAD_MANAGER);
+            for (Status current : STATUSES) {
+                for (Status requested : STATUSES) {
+                    blackhole.consume(legacyRefusal(current, requested, isHead));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void matrixLookup(Blackhole blackhole) {
+        for (CustomUserDetails user : users) {
+            int roleMask = user.getRoleMask();
+            for (Status current : STATUSES) {
+                for (Status requested : STATUSES) {
+                    blackhole.consume(TaskTransitionMatrix.verdict(current, requested, roleMask));
+                }
+            }
+        }
+    }
+
+    private static String legacyRefusal(Status currentStatus, Status requestedStatus, boolean isHead) {
+        if (requestedStatus == Status.CREATED) {
+            return "Cannot set task to status CREATED!";
+        }
+        if (requestedStatus == Status.IN_PROGRESS) {
+            if (currentStatus == Status.CREATED && !isHead) {
+                return null;
+            } else if (currentStatus == Status.RESOLVED && isHead) {
+                return null;
+            } else {
+                return "Invalid transition to IN_PROGRESS.";
+            }
+        }
+        if (requestedStatus == Status.RESOLVED) {
+            if (currentStatus != Status.IN_PROGRESS) {
+                return "Task must be IN_PROGRESS to be set to RESOLVED.";
+            }
+            if (isHead) {
+                return "Only employees can set task to RESOLVED, heads cannot.";
+            }
+        }
+        if (requestedStatus == Status.DONE) {
+            if (currentStatus != Status.RESOLVED) {
+                return "Task must be RESOLVED to be set to DONE.";
+            }
+            if (!isHead) {
+                return "Only HEAD_MANAGER can mark task as DONE.";
+            }
+        }
+        return null;
+    }
+}
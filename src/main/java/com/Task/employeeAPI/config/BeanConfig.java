@@ -1,23 +1,10 @@
 package com.Task.employeeAPI.config;
 
-import org.modelmapper.ModelMapper;
-import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.JavaMailSenderImpl;
 
+// The JavaMailSender comes from Spring Boot, configured by the spring.mail.* properties
 @Configuration
 @EnableJpaAuditing
 public class BeanConfig {
-
-    @Bean
-    public ModelMapper modelMapper() {
-        return new ModelMapper();
-    }
-
-    @Bean
-    public JavaMailSender getJavaMailSender() {
-        return new JavaMailSenderImpl();
-    }
 }
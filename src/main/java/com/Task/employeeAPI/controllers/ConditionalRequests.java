@@ -0,0 +1,29 @@
+package com.Task.employeeAPI.controllers;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Conditional GET support for version-tagged reads. The handler checks the tag before it loads anything,
+ * so a matching {@code If-None-Match} gets a 304 without a database query or JSON serialization.
+ */
+final class ConditionalRequests {
+
+    // Browsers may keep the response but have to revalidate it on every use
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    private ConditionalRequests() {
+    }
+
+    /**
+     * Sets the ETag and cache headers. Returns {@code true} when the client's copy is current; the status is
+     * then already 304 and the handler should return {@code null}.
+     */
+    static boolean notModified(ServletWebRequest request, String version) {
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        }
+        return request.checkNotModified(version);
+    }
+}
@@ -1,18 +1,33 @@
 package com.Task.employeeAPI.controllers;
 
+import com.Task.employeeAPI.dao.Enums.Role;
 import com.Task.employeeAPI.dto.*;
+import com.Task.employeeAPI.exceptions.NotFoundException;
+import com.Task.employeeAPI.services.concrete.DataVersionService;
+import com.Task.employeeAPI.services.concrete.EmployeeOffboardingService;
+import com.Task.employeeAPI.services.concrete.TaskBoardService;
+import com.Task.employeeAPI.services.concrete.TaskChangeFeedService;
+import com.Task.employeeAPI.services.concrete.TaskEventStreamService;
 import com.Task.employeeAPI.services.concrete.TaskService;
 import com.Task.employeeAPI.services.concrete.EmployeeService;
+import com.Task.employeeAPI.security.AllowedRoles;
 import io.micrometer.core.annotation.Timed;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.net.URI;
 import java.util.List;
 
 //@Timed(value = "http.server.requests", extraTags = {"service", "EmployeeService"})
@@ -23,7 +38,12 @@ import java.util.List;
 public class EmployeeController {
 
     private final EmployeeService employeeService;
+    private final EmployeeOffboardingService employeeOffboardingService;
     private final TaskService taskService;
+    private final TaskBoardService taskBoardService;
+    private final DataVersionService dataVersionService;
+    private final TaskChangeFeedService taskChangeFeedService;
+    private final TaskEventStreamService taskEventStreamService;
 
 
     @PostMapping("/signup")
@@ -32,9 +52,9 @@ public class EmployeeController {
     }
 
     @PostMapping("/login")
-    public AuthResponseDTO login(@RequestBody @Valid EmployeeLoginDTO userLoginDTO) {
+    public AuthResponseDTO login(@RequestBody @Valid EmployeeLoginDTO userLoginDTO, HttpServletRequest request) {
 
-        AuthResponseDTO token = employeeService.login(userLoginDTO);
+        AuthResponseDTO token = employeeService.login(userLoginDTO, request.getRemoteAddr());
 
         if (token == null) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
@@ -44,43 +64,96 @@ public class EmployeeController {
     }
 
     @GetMapping("/{id}")
-    @PreAuthorize("hasRole('HR') or hasRole('HR_MANAGER') or hasRole('HEAD_MANAGER') or #id == authentication.principal.id")
+    @AllowedRoles(value = {Role.HR, Role.HR_MANAGER, Role.HEAD_MANAGER}, owner = "id")
     public EmployeeDTO getEmployeeById(
-            @PathVariable @Min(value = 1, message = "ID must be positive") Integer id
+            @PathVariable @Min(value = 1, message = "ID must be positive") Integer id,
+            ServletWebRequest request
     ) {
+        if (ConditionalRequests.notModified(request, dataVersionService.employeeTag(id))) {
+            return null;
+        }
         return employeeService.findEmployeeById(id);
     }
 
     @Timed(value = "http.server.requests", extraTags = {"service", "EmployeeService"})
     @GetMapping
-    @PreAuthorize("hasRole('HR') or hasRole('HR_MANAGER') or hasRole('HEAD_MANAGER')")
-    public List<EmployeeDTO> getAllEmployee() {
-        return employeeService.findAll();
+    @AllowedRoles({Role.HR, Role.HR_MANAGER, Role.HEAD_MANAGER})
+    public ResponseEntity<List<EmployeeDTO>> getAllEmployee(
+            @RequestParam(required = false) Role role,
+            @RequestParam(required = false) Integer cursor,
+            @RequestParam(defaultValue = "50") @Min(1) @Max(500) int limit,
+            @RequestParam(defaultValue = "ASC") Sort.Direction direction,
+            ServletWebRequest request
+    ) {
+        if (ConditionalRequests.notModified(request, dataVersionService.globalTag())) {
+            return null;
+        }
+        return PageResponses.of(employeeService.findPage(role, cursor, limit, direction));
     }
 
     @PostMapping
-    @PreAuthorize("hasRole('HR_MANAGER') or hasRole('HEAD_MANAGER')")
+    @AllowedRoles({Role.HR_MANAGER, Role.HEAD_MANAGER})
     @ResponseStatus(HttpStatus.CREATED)
     public EmployeeDTO createEmployee(@Valid @RequestBody EmployeeDTO employeeDTO) {
         return employeeService.createEmployee(employeeDTO);
     }
 
     @PutMapping("/{id}")
-    @PreAuthorize("hasRole('HR') or hasRole('HR_MANAGER') or hasRole('HEAD_MANAGER')")
+    @AllowedRoles({Role.HR, Role.HR_MANAGER, Role.HEAD_MANAGER})
     public EmployeeDTO updateEmployeeById(@PathVariable Integer id, @Valid @RequestBody EmployeeUpdateDTO employeeDTO) {
         return employeeService.updateEmployeeById(id, employeeDTO);
     }
 
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasRole('HR_MANAGER') or hasRole('HEAD_MANAGER')")
-    public EmployeeDTO deleteEmployeeById(@PathVariable Integer id) {
-        return employeeService.deleteEmployeeById(id);
+    @AllowedRoles({Role.HR_MANAGER, Role.HEAD_MANAGER})
+    public ResponseEntity<EmployeeDTO> deleteEmployeeById(@PathVariable Integer id) {
+        EmployeeDTO employee = employeeService.deleteEmployeeById(id);
+        // 202 while a large task list is still being removed in the background
+        boolean running = employeeOffboardingService.findStatus(id)
+                .map(status -> status.getState() == OffboardingStatusDTO.State.RUNNING)
+                .orElse(false);
+        if (running) {
+            return ResponseEntity.accepted().location(URI.create("/employees/" + id + "/offboarding")).body(employee);
+        }
+        return ResponseEntity.ok(employee);
+    }
+
+    @GetMapping("/{id}/offboarding")
+    @AllowedRoles({Role.HR_MANAGER, Role.HEAD_MANAGER})
+    public OffboardingStatusDTO getOffboardingStatus(@PathVariable Integer id) {
+        return employeeOffboardingService.findStatus(id)
+                .orElseThrow(() -> new NotFoundException("No offboarding job for employee " + id + "!"));
     }
 
     @GetMapping("/{id}/tasks")
-    @PreAuthorize("hasRole('HR_MANAGER') or hasRole('HEAD_MANAGER')  or hasRole('HR') or #id == authentication.principal.id")
-    public List<TaskDTO> getAllEmployeeTasks(@PathVariable Integer id) {
+    @AllowedRoles(value = {Role.HR, Role.HR_MANAGER, Role.HEAD_MANAGER}, owner = "id")
+    public List<TaskDTO> getAllEmployeeTasks(@PathVariable Integer id, ServletWebRequest request) {
+        if (ConditionalRequests.notModified(request, dataVersionService.employeeTag(id))) {
+            return null;
+        }
         EmployeeDTO employee = employeeService.findEmployeeById(id);
         return taskService.findAllEmployeeTasks(employee.getId());
     }
+
+    @GetMapping("/{id}/tasks/changes")
+    @AllowedRoles(value = {Role.HR, Role.HR_MANAGER, Role.HEAD_MANAGER}, owner = "id")
+    public TaskChangesDTO getEmployeeTaskChanges(
+            @PathVariable Integer id,
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "500") @Min(1) @Max(500) int limit
+    ) {
+        return taskChangeFeedService.changesSince(since, id, limit);
+    }
+
+    @GetMapping(value = "/{id}/tasks/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @AllowedRoles(value = {Role.HR, Role.HR_MANAGER, Role.HEAD_MANAGER}, owner = "id")
+    public SseEmitter streamEmployeeTaskEvents(@PathVariable Integer id) {
+        return taskEventStreamService.subscribe(id);
+    }
+
+    @GetMapping("/{id}/board")
+    @AllowedRoles(value = {Role.HR, Role.HR_MANAGER, Role.HEAD_MANAGER}, owner = "id")
+    public TaskBoardDTO getEmployeeBoard(@PathVariable Integer id) {
+        return taskBoardService.getEmployeeBoard(id);
+    }
 }
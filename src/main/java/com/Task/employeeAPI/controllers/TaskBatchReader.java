@@ -0,0 +1,79 @@
+package com.Task.employeeAPI.controllers;
+
+import com.Task.employeeAPI.dto.TaskCreateDTO;
+import com.Task.employeeAPI.exceptions.BadRequestException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Reads the body of {@code POST /tasks/batch} element by element. Each task is bound and validated as soon as
+ * it is parsed, so a bad element fails the request without building a tree of the whole array first, and an
+ * oversized import is refused once it passes the limit instead of after it has been read.
+ */
+@Component
+class TaskBatchReader {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader taskReader;
+    private final Validator validator;
+    private final int maxSize;
+
+    TaskBatchReader(ObjectMapper objectMapper, Validator validator,
+                    @Value("${tasks.batch.max-size:1000}") int maxSize) {
+        this.objectMapper = objectMapper;
+        this.taskReader = objectMapper.readerFor(TaskCreateDTO.class);
+        this.validator = validator;
+        this.maxSize = maxSize;
+    }
+
+    List<TaskCreateDTO> read(InputStream body) throws IOException {
+        List<TaskCreateDTO> tasks = new ArrayList<>();
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new BadRequestException("Request body must be a JSON array of tasks!");
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (tasks.size() == maxSize) {
+                    throw new BadRequestException("A batch can contain at most " + maxSize + " tasks!");
+                }
+                TaskCreateDTO task = taskReader.readValue(parser);
+                validate(tasks.size(), task);
+                tasks.add(task);
+            }
+        } catch (JsonProcessingException e) {
+            throw new BadRequestException("Malformed task batch: " + e.getOriginalMessage());
+        }
+
+        if (tasks.isEmpty()) {
+            throw new BadRequestException("Task batch must not be empty!");
+        }
+        return tasks;
+    }
+
+    private void validate(int index, TaskCreateDTO task) {
+        if (task == null) {
+            throw new BadRequestException("Task " + index + " must not be null!");
+        }
+        Set<ConstraintViolation<TaskCreateDTO>> violations = validator.validate(task);
+        if (!violations.isEmpty()) {
+            throw new BadRequestException("Task " + index + ": " + violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(" ")));
+        }
+    }
+}
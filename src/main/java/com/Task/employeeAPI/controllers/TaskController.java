@@ -1,18 +1,46 @@
 package com.Task.employeeAPI.controllers;
 
+import com.Task.employeeAPI.dao.Enums.Priority;
+import com.Task.employeeAPI.dao.Enums.Role;
+import com.Task.employeeAPI.dao.Enums.Status;
+import com.Task.employeeAPI.dto.TaskBoardDTO;
+import com.Task.employeeAPI.dto.TaskChangesDTO;
 import com.Task.employeeAPI.dto.TaskCreateDTO;
+import com.Task.employeeAPI.dto.TaskStatusResultDTO;
 import com.Task.employeeAPI.dto.TaskWorkflowDTO;
+import com.Task.employeeAPI.services.concrete.DataVersionService;
+import com.Task.employeeAPI.services.concrete.TaskArchiveService;
+import com.Task.employeeAPI.services.concrete.TaskBoardService;
+import com.Task.employeeAPI.services.concrete.TaskChangeFeedService;
+import com.Task.employeeAPI.services.concrete.TaskEventStreamService;
+import com.Task.employeeAPI.services.concrete.TaskExportService;
+import com.Task.employeeAPI.services.concrete.TaskSearchService;
 import com.Task.employeeAPI.services.concrete.TaskService;
+import com.Task.employeeAPI.services.concrete.TaskStatisticsService;
 import com.Task.employeeAPI.services.concrete.TaskWorkflowService;
 import com.Task.employeeAPI.dto.TaskDTO;
+import com.Task.employeeAPI.dto.TaskStatsDTO;
 import com.Task.employeeAPI.payload.TaskWorkflowPayload;
+import com.Task.employeeAPI.security.AllowedRoles;
 import io.micrometer.core.annotation.Timed;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.util.List;
 
 //@Timed(value = "http.server.requests", extraTags = {"service", "TaskService"})
@@ -24,49 +52,166 @@ public class TaskController {
 
     private final TaskService taskService;
     private final TaskWorkflowService taskWorkflowService;
+    private final TaskExportService taskExportService;
+    private final TaskStatisticsService taskStatisticsService;
+    private final TaskBoardService taskBoardService;
+    private final DataVersionService dataVersionService;
+    private final TaskChangeFeedService taskChangeFeedService;
+    private final TaskEventStreamService taskEventStreamService;
+    private final TaskSearchService taskSearchService;
+    private final TaskBatchReader taskBatchReader;
+    private final TaskArchiveService taskArchiveService;
 
     @GetMapping("/{id}")
-    @PreAuthorize("hasRole('HR_MANAGER') or hasRole('HEAD_MANAGER')")
+    @AllowedRoles({Role.HR_MANAGER, Role.HEAD_MANAGER})
     public TaskDTO getTaskById(@PathVariable Integer id) {
         return taskService.findTaskById(id);
     }
 
     @Timed(value = "http.server.requests", extraTags = {"service", "EmployeeService"})
     @GetMapping
-    @PreAuthorize("hasRole('HR_MANAGER') or hasRole('HEAD_MANAGER')")
-    public List<TaskDTO> getAllTask() {
-        return taskService.findAll();
+    @AllowedRoles({Role.HR_MANAGER, Role.HEAD_MANAGER})
+    public ResponseEntity<List<TaskDTO>> getAllTask(
+            @RequestParam(required = false) Status status,
+            @RequestParam(required = false) Priority priority,
+            @RequestParam(required = false) Integer employeeId,
+            @RequestParam(required = false) Integer cursor,
+            @RequestParam(defaultValue = "50") @Min(1) @Max(500) int limit,
+            @RequestParam(defaultValue = "ASC") Sort.Direction direction,
+            ServletWebRequest request
+    ) {
+        if (ConditionalRequests.notModified(request, dataVersionService.globalTag())) {
+            return null;
+        }
+        return PageResponses.of(taskService.findPage(status, priority, employeeId, cursor, limit, direction));
     }
 
+    @GetMapping("/search")
+    @AllowedRoles({Role.HR_MANAGER, Role.HEAD_MANAGER})
+    public ResponseEntity<List<TaskDTO>> searchTasks(
+            @RequestParam @Size(max = 200) String q,
+            @RequestParam(required = false) @Min(0) Integer cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit
+    ) {
+        return PageResponses.of(taskSearchService.search(q, cursor, limit));
+    }
+
+    @GetMapping("/archive")
+    @AllowedRoles({Role.HR_MANAGER, Role.HEAD_MANAGER})
+    public ResponseEntity<List<TaskDTO>> getArchivedTasks(
+            @RequestParam(required = false) Integer employeeId,
+            @RequestParam(required = false) @Min(0) Integer cursor,
+            @RequestParam(defaultValue = "50") @Min(1) @Max(500) int limit
+    ) {
+        return PageResponses.of(taskArchiveService.findArchivedPage(employeeId, cursor, limit));
+    }
+
+    @GetMapping("/archive/{id}")
+    @AllowedRoles({Role.HR_MANAGER, Role.HEAD_MANAGER})
+    public TaskDTO getArchivedTaskById(@PathVariable Integer id) {
+        return taskArchiveService.findArchivedTaskById(id);
+    }
+
+    @GetMapping("/archive/{id}/workflows")
+    @AllowedRoles({Role.HR_MANAGER, Role.HEAD_MANAGER})
+    public List<TaskWorkflowDTO> getArchivedWorkflows(@PathVariable Integer id) {
+        return taskArchiveService.findArchivedWorkflows(id);
+    }
+
+    @GetMapping("/stats")
+    @AllowedRoles({Role.HR_MANAGER, Role.HEAD_MANAGER})
+    public TaskStatsDTO getTaskStats() {
+        return taskStatisticsService.getStats();
+    }
+
+    @GetMapping("/board")
+    @AllowedRoles({Role.HR_MANAGER, Role.HEAD_MANAGER})
+    public TaskBoardDTO getTeamBoard() {
+        return taskBoardService.getTeamBoard();
+    }
+
+    @GetMapping("/changes")
+    @AllowedRoles({Role.HR_MANAGER, Role.HEAD_MANAGER})
+    public TaskChangesDTO getTaskChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "500") @Min(1) @Max(500) int limit
+    ) {
+        return taskChangeFeedService.changesSince(since, null, limit);
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @AllowedRoles({Role.HR_MANAGER, Role.HEAD_MANAGER})
+    public SseEmitter streamTaskEvents() {
+        return taskEventStreamService.subscribe(null);
+    }
+
+    @GetMapping("/export")
+    @AllowedRoles({Role.HR_MANAGER, Role.HEAD_MANAGER})
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @RequestParam(defaultValue = "NDJSON") TaskExportService.Format format
+    ) {
+        return export("tasks", format, out -> taskExportService.exportTasks(format, out));
+    }
+
+    @GetMapping("/workflows/export")
+    @AllowedRoles({Role.HR_MANAGER, Role.HEAD_MANAGER})
+    public ResponseEntity<StreamingResponseBody> exportWorkflows(
+            @RequestParam(defaultValue = "NDJSON") TaskExportService.Format format
+    ) {
+        return export("task-workflows", format, out -> taskExportService.exportWorkflows(format, out));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> export(String name, TaskExportService.Format format, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(name + "." + format.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
 
     @PostMapping
-    @PreAuthorize("hasRole('HEAD_MANAGER')")
+    @AllowedRoles(Role.HEAD_MANAGER)
     public TaskDTO createTask(@Valid @RequestBody TaskCreateDTO taskDTO) {
 
         return taskService.createTask(taskDTO);
     }
 
+    // Read with a streaming parser rather than @RequestBody, so each element is validated as it arrives
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @AllowedRoles(Role.HEAD_MANAGER)
+    public List<TaskDTO> createTasks(HttpServletRequest request) throws IOException {
+        return taskService.createTasks(taskBatchReader.read(request.getInputStream()));
+    }
+
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasRole('HEAD_MANAGER')")
+    @AllowedRoles(Role.HEAD_MANAGER)
     public TaskDTO deleteTaskById(@PathVariable Integer id) {
         return taskService.deleteTaskById(id);
     }
 
     @PutMapping("/{id}")
-    @PreAuthorize("hasRole('HEAD_MANAGER')")
+    @AllowedRoles(Role.HEAD_MANAGER)
     public TaskDTO updateTaskById(@PathVariable Integer id, @Valid @RequestBody TaskDTO taskDTO) {
         return taskService.updateTaskById(id, taskDTO);
     }
 
     @GetMapping("{id}/workflows")
-    @PreAuthorize("hasRole('HEAD_MANAGER') or hasRole('HR_MANAGER') or hasRole('EMPLOYEE') ")
+    @AllowedRoles({Role.EMPLOYEE, Role.HR_MANAGER, Role.HEAD_MANAGER})
     public List<TaskWorkflowDTO> getWorkflowsOfTheTask(@PathVariable Integer id) {
         return taskWorkflowService.getAllWorkflowsByTaskId(id);
     }
 
     @PutMapping("/status")
-    @PreAuthorize("hasRole('HEAD_MANAGER') or hasRole('HR_MANAGER') or hasRole('HR')  or hasRole('EMPLOYEE')")
+    @AllowedRoles({Role.EMPLOYEE, Role.HR, Role.HR_MANAGER, Role.HEAD_MANAGER})
     public TaskWorkflowPayload changeStatus(@Valid @RequestBody TaskWorkflowPayload payload){
         return taskWorkflowService.setStatus(payload);
     }
+
+    @PutMapping("/status/batch")
+    @AllowedRoles({Role.EMPLOYEE, Role.HR, Role.HR_MANAGER, Role.HEAD_MANAGER})
+    public List<TaskStatusResultDTO> changeStatuses(@RequestBody @Size(min = 1, max = 500) List<@Valid TaskWorkflowPayload> payloads) {
+        return taskWorkflowService.setStatuses(payloads);
+    }
 }
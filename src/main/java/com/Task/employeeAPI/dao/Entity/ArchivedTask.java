@@ -0,0 +1,45 @@
+package com.Task.employeeAPI.dao.Entity;
+
+import com.Task.employeeAPI.dao.Enums.Priority;
+import com.Task.employeeAPI.dao.Enums.Status;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * A finished task moved out of {@code tasks} by the archiver. It keeps the id it had while it was live and
+ * holds the assignee as a plain id, so the archive never blocks changes to the hot tables.
+ */
+@Setter
+@Getter
+@Entity
+@Table(name = "tasks_archive", indexes = {
+        @Index(name = "idx_tasks_archive_employee_id_id", columnList = "employee_id, id")
+})
+public class ArchivedTask {
+
+    @Id
+    private int id;
+
+    private String title;
+
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    private Priority priority;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    private Status status;
+
+    @Column(name = "employee_id")
+    private Integer employeeId;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
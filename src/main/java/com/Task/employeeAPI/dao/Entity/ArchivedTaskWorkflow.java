@@ -0,0 +1,37 @@
+package com.Task.employeeAPI.dao.Entity;
+
+import com.Task.employeeAPI.dao.Enums.Status;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * A {@code task_workflow} row of an archived task, with the same id and the references kept as plain ids.
+ */
+@Setter
+@Getter
+@Entity
+@Table(name = "task_workflow_archive", indexes = {
+        @Index(name = "idx_task_workflow_archive_task_id", columnList = "task_id")
+})
+public class ArchivedTaskWorkflow {
+
+    @Id
+    private int id;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    private Status status;
+
+    private LocalDateTime lastUpdated;
+
+    @Column(name = "employee_id")
+    private Integer updatedById;
+
+    @Column(name = "task_id", nullable = false)
+    private int taskId;
+}
@@ -5,34 +5,53 @@ import com.Task.employeeAPI.dao.Enums.Priority;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
+@EntityListeners(AuditingEntityListener.class)
 @Entity
 @Setter
 @Getter
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_status_id", columnList = "status, id"),
+        @Index(name = "idx_tasks_priority_id", columnList = "priority, id"),
+        @Index(name = "idx_tasks_employee_id_id", columnList = "employee_id, id")
+})
 public class Task {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private int id;
 
     private String title;
 
     private String description;
 
+    // Stored as varchar on every database; H2 would otherwise be expected to hold a native enum
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     private Priority priority;
 
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     private Status status = Status.CREATED;
 
     @ManyToOne
     @JoinColumn(name = "employee_id")
     private Employee employee;
 
+    // Lower bound of the task's workflow history, which lets history lookups skip older partitions
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
     @OneToMany(mappedBy = "task")
     private Set<TaskWorkflow> taskWorkflows= new HashSet<>();
 }
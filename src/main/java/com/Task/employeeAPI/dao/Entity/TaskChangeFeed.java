@@ -0,0 +1,30 @@
+package com.Task.employeeAPI.dao.Entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * The change feed's single counter row: the last feed position handed out to committed markers, and the
+ * highest position retention has deleted up to. Cursors at or below {@code purgedSeq} can no longer be served.
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "task_change_feed")
+public class TaskChangeFeed {
+
+    @Id
+    private int id;
+
+    @Column(name = "last_seq", nullable = false)
+    private long lastSeq;
+
+    @Column(name = "purged_seq", nullable = false)
+    private long purgedSeq;
+}
@@ -0,0 +1,68 @@
+package com.Task.employeeAPI.dao.Entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Change-log entry behind the delta feed: one per creation, edit, status change, assignee rename or deletion.
+ * A deletion marker is the task's tombstone, so it keeps the ids rather than foreign keys. {@code feedSeq} is
+ * left empty by the writer and set once the marker is committed (see {@code TaskChangeFeedService}).
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "task_change_markers", indexes = {
+        @Index(name = "idx_task_change_markers_feed_seq_id", columnList = "feed_seq, id"),
+        @Index(name = "idx_task_change_markers_employee_id_feed_seq_id", columnList = "employee_id, feed_seq, id")
+})
+public class TaskChangeMarker {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private int id;
+
+    @Column(name = "task_id", nullable = false)
+    private int taskId;
+
+    @Column(name = "employee_id")
+    private Integer employeeId;
+
+    private boolean deleted;
+
+    @Column(nullable = false)
+    private LocalDateTime changedAt;
+
+    @Column(name = "feed_seq")
+    private Long feedSeq;
+
+    public static TaskChangeMarker changed(Task task) {
+        return of(task, false);
+    }
+
+    // For a change written without loading the task
+    public static TaskChangeMarker changed(int taskId, Integer employeeId, LocalDateTime changedAt) {
+        TaskChangeMarker marker = new TaskChangeMarker();
+        marker.setTaskId(taskId);
+        marker.setEmployeeId(employeeId);
+        marker.setChangedAt(changedAt);
+        return marker;
+    }
+
+    public static TaskChangeMarker deleted(Task task) {
+        return of(task, true);
+    }
+
+    private static TaskChangeMarker of(Task task, boolean deleted) {
+        TaskChangeMarker marker = new TaskChangeMarker();
+        marker.setTaskId(task.getId());
+        marker.setEmployeeId(task.getEmployee() == null ? null : task.getEmployee().getId());
+        marker.setDeleted(deleted);
+        marker.setChangedAt(LocalDateTime.now());
+        return marker;
+    }
+}
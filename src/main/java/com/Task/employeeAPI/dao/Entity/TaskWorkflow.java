@@ -4,6 +4,8 @@ import com.Task.employeeAPI.dao.Enums.Status;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -13,14 +15,18 @@ import java.time.LocalDateTime;
 @Setter
 @Getter
 @Entity
-@Table(name = "task_workflow")
+@Table(name = "task_workflow", indexes = {
+        @Index(name = "idx_task_workflow_task_id_last_updated", columnList = "task_id, last_updated")
+})
 public class TaskWorkflow {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_workflow_seq")
+    @SequenceGenerator(name = "task_workflow_seq", sequenceName = "task_workflow_seq", allocationSize = 50)
     private int id;
 
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     private Status status = Status.CREATED;
 
     @LastModifiedDate
@@ -10,6 +10,21 @@ public enum Role {
     HR_MANAGER,
     HEAD_MANAGER;
 
+    private final int mask = 1 << ordinal();
+
+    // Single bit identifying this role inside a permission bitmask
+    public int mask() {
+        return mask;
+    }
+
+    public static int maskOf(Role... roles) {
+        int mask = 0;
+        for (Role role : roles) {
+            mask |= role.mask;
+        }
+        return mask;
+    }
+
     @JsonCreator
     public static Role customRoleCreator(Object value) {
         if (value instanceof String s) {
@@ -0,0 +1,46 @@
+package com.Task.employeeAPI.dao.Repository;
+
+import com.Task.employeeAPI.dao.Entity.ArchivedTask;
+import com.Task.employeeAPI.dto.TaskDTO;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Integer> {
+
+    // Archiving: copies a chunk of tasks in one statement, before they are deleted from the hot table
+    @Modifying
+    @Query("""
+            insert into ArchivedTask (id, title, description, priority, status, employeeId, archivedAt)
+            select t.id, t.title, t.description, t.priority, t.status, t.employee.id, :archivedAt
+            from Task t where t.id in :taskIds""")
+    int copyFromTasks(@Param("taskIds") Collection<Integer> taskIds, @Param("archivedAt") LocalDateTime archivedAt);
+
+    // Same projection as the hot listings; the assignee is joined by id and may have been deleted since
+    String ARCHIVED_TASK_VIEW = """
+            select new com.Task.employeeAPI.dto.TaskDTO(
+                a.id, a.title, a.description, a.priority, a.status,
+                a.employeeId, e.name, e.surname, e.email, e.role)
+            from ArchivedTask a left join Employee e on e.id = a.employeeId
+            """;
+
+    @Query(ARCHIVED_TASK_VIEW + "where a.id = :id")
+    Optional<TaskDTO> findViewById(@Param("id") int id);
+
+    @Query(ARCHIVED_TASK_VIEW + """
+            where a.id > :cursor
+              and (:employeeId is null or a.employeeId = :employeeId)
+            order by a.id asc""")
+    List<TaskDTO> findPageAfter(@Param("cursor") int cursor,
+                                @Param("employeeId") Integer employeeId,
+                                Limit limit);
+}
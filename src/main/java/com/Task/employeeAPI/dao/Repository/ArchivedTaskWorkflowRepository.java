@@ -0,0 +1,30 @@
+package com.Task.employeeAPI.dao.Repository;
+
+import com.Task.employeeAPI.dao.Entity.ArchivedTaskWorkflow;
+import com.Task.employeeAPI.dto.TaskWorkflowDTO;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArchivedTaskWorkflowRepository extends JpaRepository<ArchivedTaskWorkflow, Integer> {
+
+    @Modifying
+    @Query("""
+            insert into ArchivedTaskWorkflow (id, status, lastUpdated, updatedById, taskId)
+            select w.id, w.status, w.lastUpdated, w.updatedBy.id, w.task.id
+            from TaskWorkflow w where w.task.id in :taskIds""")
+    int copyFromWorkflows(@Param("taskIds") Collection<Integer> taskIds);
+
+    @Query("""
+            select new com.Task.employeeAPI.dto.TaskWorkflowDTO(w.id, w.status, w.updatedById, w.taskId, w.lastUpdated)
+            from ArchivedTaskWorkflow w
+            where w.taskId = :taskId
+            order by w.id""")
+    List<TaskWorkflowDTO> findViewsByTaskId(@Param("taskId") int taskId);
+}
@@ -0,0 +1,18 @@
+package com.Task.employeeAPI.dao.Repository;
+
+import com.Task.employeeAPI.dao.Entity.Employee;
+import com.Task.employeeAPI.dao.Enums.Role;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+/**
+ * Keyset pages of the active employees, seeking past the cursor on the id. A {@code null} role is left out of
+ * the query rather than matched by a catch-all, so the role-filtered page is its own statement on the role index.
+ */
+public interface EmployeePageRepository {
+
+    List<Employee> findActivePageAfter(int cursor, Role role, Limit limit);
+
+    List<Employee> findActivePageBefore(int cursor, Role role, Limit limit);
+}
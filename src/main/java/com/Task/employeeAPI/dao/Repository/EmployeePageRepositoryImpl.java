@@ -0,0 +1,46 @@
+package com.Task.employeeAPI.dao.Repository;
+
+import com.Task.employeeAPI.dao.Entity.Employee;
+import com.Task.employeeAPI.dao.Enums.Role;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+// Picked up by Spring Data as the implementation of EmployeePageRepository inside EmployeeRepository
+public class EmployeePageRepositoryImpl implements EmployeePageRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Employee> findActivePageAfter(int cursor, Role role, Limit limit) {
+        return findActivePage("e.id > :cursor", "asc", cursor, role, limit);
+    }
+
+    @Override
+    public List<Employee> findActivePageBefore(int cursor, Role role, Limit limit) {
+        return findActivePage("e.id < :cursor", "desc", cursor, role, limit);
+    }
+
+    // Same as the task pages: (:role is null or ...) would leave one plan for both the filtered and unfiltered page
+    private List<Employee> findActivePage(String seek, String direction, int cursor, Role role, Limit limit) {
+        StringBuilder jpql = new StringBuilder("select e from Employee e where e.isDeleted = false and ").append(seek);
+        if (role != null) {
+            jpql.append(" and e.role = :role");
+        }
+        jpql.append(" order by e.id ").append(direction);
+
+        TypedQuery<Employee> query = entityManager.createQuery(jpql.toString(), Employee.class)
+                .setParameter("cursor", cursor);
+        if (role != null) {
+            query.setParameter("role", role);
+        }
+        if (limit.isLimited()) {
+            query.setMaxResults(limit.max());
+        }
+        return query.getResultList();
+    }
+}
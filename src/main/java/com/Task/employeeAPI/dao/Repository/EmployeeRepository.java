@@ -3,12 +3,14 @@ package com.Task.employeeAPI.dao.Repository;
 import com.Task.employeeAPI.dao.Entity.Employee;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface EmployeeRepository extends JpaRepository<Employee, Integer> {
+public interface EmployeeRepository extends JpaRepository<Employee, Integer>, EmployeePageRepository {
     List<Employee> findByIsDeletedFalse();
     Employee findByEmailAndIsDeletedFalse(String email);
     Optional<Employee> findByIdAndIsDeletedFalse(Integer id);
-
+    List<Employee> findByIdInAndIsDeletedFalse(Collection<Integer> ids);
+    long countByIsDeletedFalse();
 }
@@ -0,0 +1,27 @@
+package com.Task.employeeAPI.dao.Repository;
+
+import com.Task.employeeAPI.dao.Entity.TaskChangeFeed;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TaskChangeFeedRepository extends JpaRepository<TaskChangeFeed, Integer> {
+
+    // Locks the counter row until commit, so feed positions are handed out one transaction at a time
+    @Modifying
+    @Query("update TaskChangeFeed f set f.lastSeq = f.lastSeq + 1 where f.id = 1")
+    int advance();
+
+    @Query("select f.lastSeq from TaskChangeFeed f where f.id = 1")
+    long findLastSeq();
+
+    @Query("select f.purgedSeq from TaskChangeFeed f where f.id = 1")
+    long findPurgedSeq();
+
+    @Modifying
+    @Query("update TaskChangeFeed f set f.purgedSeq = :seq where f.id = 1 and f.purgedSeq < :seq")
+    int advancePurgedSeq(@Param("seq") long seq);
+}
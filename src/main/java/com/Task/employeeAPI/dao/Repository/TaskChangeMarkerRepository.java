@@ -0,0 +1,75 @@
+package com.Task.employeeAPI.dao.Repository;
+
+import com.Task.employeeAPI.dao.Entity.TaskChangeMarker;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TaskChangeMarkerRepository extends JpaRepository<TaskChangeMarker, Integer> {
+
+    // Delta feed: seek past the cursor on (feed_seq, id), so the cost follows the number of new markers.
+    // Markers not yet given a position have a null feed_seq and are never returned.
+    @Query("""
+            select m from TaskChangeMarker m
+            where m.feedSeq >= :seq
+              and (m.feedSeq > :seq or m.id > :id)
+            order by m.feedSeq asc, m.id asc""")
+    List<TaskChangeMarker> findChangesAfter(@Param("seq") long seq, @Param("id") int id, Limit limit);
+
+    @Query("""
+            select m from TaskChangeMarker m
+            where m.employeeId = :employeeId
+              and m.feedSeq >= :seq
+              and (m.feedSeq > :seq or m.id > :id)
+            order by m.feedSeq asc, m.id asc""")
+    List<TaskChangeMarker> findEmployeeChangesAfter(@Param("employeeId") int employeeId,
+                                                    @Param("seq") long seq,
+                                                    @Param("id") int id,
+                                                    Limit limit);
+
+    boolean existsByFeedSeqIsNull();
+
+    // Only committed markers (and the caller's own) are visible, so in-flight ones keep a null feed_seq.
+    // Cleared so the markers read next carry their new position.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update TaskChangeMarker m set m.feedSeq = :seq where m.feedSeq is null")
+    int stampUnsequenced(@Param("seq") long seq);
+
+    @Query("select max(m.feedSeq) from TaskChangeMarker m where m.changedAt < :before")
+    Long findLastSeqChangedBefore(@Param("before") LocalDateTime before);
+
+    @Modifying
+    @Query("delete from TaskChangeMarker m where m.feedSeq <= :seq")
+    int deleteUpToSeq(@Param("seq") long seq);
+
+    // Creations and board moves of a whole batch in one statement
+    @Modifying
+    @Query("""
+            insert into TaskChangeMarker (taskId, employeeId, deleted, changedAt)
+            select t.id, t.employee.id, false, :changedAt from Task t where t.id in :taskIds""")
+    int markChanged(@Param("taskIds") Collection<Integer> taskIds, @Param("changedAt") LocalDateTime changedAt);
+
+    // Cards embed the assignee's name, so renaming an employee marks every one of their tasks in one statement
+    @Transactional
+    @Modifying
+    @Query("""
+            insert into TaskChangeMarker (taskId, employeeId, deleted, changedAt)
+            select t.id, t.employee.id, false, :changedAt from Task t where t.employee.id = :employeeId""")
+    int markEmployeeTasks(@Param("employeeId") int employeeId, @Param("changedAt") LocalDateTime changedAt);
+
+    // Tombstones for a chunk of tasks about to be deleted in bulk
+    @Modifying
+    @Query("""
+            insert into TaskChangeMarker (taskId, employeeId, deleted, changedAt)
+            select t.id, t.employee.id, true, :changedAt from Task t where t.id in :taskIds""")
+    int markDeleted(@Param("taskIds") Collection<Integer> taskIds, @Param("changedAt") LocalDateTime changedAt);
+}
@@ -0,0 +1,20 @@
+package com.Task.employeeAPI.dao.Repository;
+
+import com.Task.employeeAPI.dao.Enums.Priority;
+import com.Task.employeeAPI.dao.Enums.Status;
+import com.Task.employeeAPI.dto.TaskDTO;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+/**
+ * Keyset pages of the task listing: seek past the cursor on the id instead of OFFSET, so cost does not grow
+ * with depth. Each filter that is {@code null} is left out of the query altogether, so every combination of
+ * filters is its own statement that the planner can match to an index.
+ */
+public interface TaskPageRepository {
+
+    List<TaskDTO> findPageAfter(int cursor, Status status, Priority priority, Integer employeeId, Limit limit);
+
+    List<TaskDTO> findPageBefore(int cursor, Status status, Priority priority, Integer employeeId, Limit limit);
+}
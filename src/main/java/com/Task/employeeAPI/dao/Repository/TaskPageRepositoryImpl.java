@@ -0,0 +1,60 @@
+package com.Task.employeeAPI.dao.Repository;
+
+import com.Task.employeeAPI.dao.Enums.Priority;
+import com.Task.employeeAPI.dao.Enums.Status;
+import com.Task.employeeAPI.dto.TaskDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+// Picked up by Spring Data as the implementation of TaskPageRepository inside TaskRepository
+public class TaskPageRepositoryImpl implements TaskPageRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskDTO> findPageAfter(int cursor, Status status, Priority priority, Integer employeeId, Limit limit) {
+        return findPage("t.id > :cursor", "asc", cursor, status, priority, employeeId, limit);
+    }
+
+    @Override
+    public List<TaskDTO> findPageBefore(int cursor, Status status, Priority priority, Integer employeeId, Limit limit) {
+        return findPage("t.id < :cursor", "desc", cursor, status, priority, employeeId, limit);
+    }
+
+    // A (:x is null or ...) filter would make one plan serve every combination, usually a scan of the id index
+    private List<TaskDTO> findPage(String seek, String direction, int cursor,
+                                   Status status, Priority priority, Integer employeeId, Limit limit) {
+        StringBuilder jpql = new StringBuilder(TaskRepository.TASK_VIEW).append("where ").append(seek);
+        if (status != null) {
+            jpql.append(" and t.status = :status");
+        }
+        if (priority != null) {
+            jpql.append(" and t.priority = :priority");
+        }
+        if (employeeId != null) {
+            jpql.append(" and t.employee.id = :employeeId");
+        }
+        jpql.append(" order by t.id ").append(direction);
+
+        TypedQuery<TaskDTO> query = entityManager.createQuery(jpql.toString(), TaskDTO.class)
+                .setParameter("cursor", cursor);
+        if (status != null) {
+            query.setParameter("status", status);
+        }
+        if (priority != null) {
+            query.setParameter("priority", priority);
+        }
+        if (employeeId != null) {
+            query.setParameter("employeeId", employeeId);
+        }
+        if (limit.isLimited()) {
+            query.setMaxResults(limit.max());
+        }
+        return query.getResultList();
+    }
+}
@@ -1,14 +1,113 @@
 package com.Task.employeeAPI.dao.Repository;
 
 import com.Task.employeeAPI.dao.Entity.Task;
+import com.Task.employeeAPI.dao.Enums.Priority;
+import com.Task.employeeAPI.dao.Enums.Status;
+import com.Task.employeeAPI.dto.TaskDTO;
+import com.Task.employeeAPI.events.TaskSnapshot;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+import static org.hibernate.jpa.SpecHints.HINT_SPEC_LOCK_TIMEOUT;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Integer> {
+public interface TaskRepository extends JpaRepository<Task, Integer>, TaskPageRepository, TaskStatusRepository {
+
+    // On the foreign key rather than a join to employees, so idx_tasks_employee_id_id applies
+    @Query("select t from Task t where t.employee.id = :id")
+    List<Task> findByEmployee_id(@Param("id") Integer id);
+
+    long countByEmployee_Id(Integer id);
+
+    // Offboarding: one chunk of an employee's tasks at a time, as the snapshots their delete events carry
+    @Query("""
+            select new com.Task.employeeAPI.events.TaskSnapshot(t.id, t.status, t.priority, t.employee.id)
+            from Task t
+            where t.employee.id = :employeeId
+            order by t.id""")
+    List<TaskSnapshot> findSnapshotsByEmployeeId(@Param("employeeId") int employeeId, Limit limit);
+
+    // Deleted employees whose tasks are not purged yet, e.g. after a restart during offboarding
+    @Query("select distinct t.employee.id from Task t where t.employee.isDeleted = true")
+    List<Integer> findDeletedEmployeeIdsWithTasks();
+
+    // Archiving: finished tasks whose workflow history has been quiet since before the cutoff, one chunk at a time.
+    // The rows are locked until the chunk commits so no status change slips in between the copy and the delete;
+    // rows another transaction holds are skipped and left for the next run (a lock timeout of -2 is SKIP LOCKED).
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = HINT_SPEC_LOCK_TIMEOUT, value = "-2"))
+    @Query("""
+            select new com.Task.employeeAPI.events.TaskSnapshot(t.id, t.status, t.priority, t.employee.id)
+            from Task t
+            where t.status = com.Task.employeeAPI.dao.Enums.Status.DONE
+              and not exists (select 1 from TaskWorkflow w where w.task = t and w.lastUpdated >= :cutoff)
+            order by t.id""")
+    List<TaskSnapshot> findArchivableSnapshots(@Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+    // Compare-and-set status transition: matches no row when the task has moved on since it was read
+    @Modifying
+    @Query("update Task t set t.status = :to where t.id = :id and t.status = :from")
+    int updateStatusIfCurrent(@Param("id") int id, @Param("from") Status from, @Param("to") Status to);
+
+    @Modifying
+    @Query("delete from Task t where t.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Integer> ids);
+
+    interface TaskCount {
+        Status getStatus();
+        Priority getPriority();
+        Integer getEmployeeId();
+        long getCount();
+    }
+
+    // Full recount used to reconcile the in-memory statistics
+    @Query("""
+            select t.status as status, t.priority as priority, e.id as employeeId, count(t) as count
+            from Task t left join Employee e on e.id = t.employee.id
+            group by t.status, t.priority, e.id""")
+    List<TaskCount> countByStatusPriorityAndEmployee();
+
+    // Listing projections: task columns plus the assignee's, built straight into TaskDTO by one select.
+    // Password and the employee's task/workflow collections are never read. Joined on the foreign key rather
+    // than through t.employee, so t.employee.id in a filter stays on tasks.employee_id and its index.
+    String TASK_VIEW = """
+            select new com.Task.employeeAPI.dto.TaskDTO(
+                t.id, t.title, t.description, t.priority, t.status,
+                e.id, e.name, e.surname, e.email, e.role)
+            from Task t left join Employee e on e.id = t.employee.id
+            """;
+
+    // Bulk status moves: the tasks and their assignees in one select instead of one per eager assignee
+    @Query("select t from Task t left join fetch t.employee where t.id in :ids")
+    List<Task> findWithEmployeeByIdIn(@Param("ids") Collection<Integer> ids);
+
+    @Query(TASK_VIEW + "where t.id = :id")
+    Optional<TaskDTO> findViewById(@Param("id") int id);
+
+    @Query(TASK_VIEW + "where t.id in :ids")
+    List<TaskDTO> findViewsByIdIn(@Param("ids") Collection<Integer> ids);
+
+    @Query(TASK_VIEW + "where t.employee.id = :employeeId")
+    List<TaskDTO> findViewsByEmployeeId(@Param("employeeId") int employeeId);
 
-    List<Task> findByEmployee_id(Integer id);
+    // Export cursor: rows are pulled from the driver in fetch-size batches while the caller consumes the stream
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query(TASK_VIEW + "order by t.id")
+    Stream<TaskDTO> streamAllViews();
 }
@@ -0,0 +1,21 @@
+package com.Task.employeeAPI.dao.Repository;
+
+import com.Task.employeeAPI.dao.Enums.Status;
+import com.Task.employeeAPI.events.TaskSnapshot;
+
+import java.util.Optional;
+
+/**
+ * Status changes written without reading the task first. The move is a compare-and-set on the status, and the
+ * fields the caller still needs come back from the update itself (RETURNING on Postgres, the requested
+ * generated columns on H2), so a move costs one statement instead of a select and an update.
+ */
+public interface TaskStatusRepository {
+
+    /**
+     * Moves task {@code id} from {@code from} to {@code to}, only if it is assigned to {@code assigneeId} unless
+     * that is {@code null}. Returns the task as moved, or empty if no row matched. Runs on the connection of
+     * the current transaction, bypassing the persistence context: a loaded copy of the task keeps its old status.
+     */
+    Optional<TaskSnapshot> moveStatus(int id, Integer assigneeId, Status from, Status to);
+}
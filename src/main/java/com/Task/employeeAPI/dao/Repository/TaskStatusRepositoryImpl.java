@@ -0,0 +1,51 @@
+package com.Task.employeeAPI.dao.Repository;
+
+import com.Task.employeeAPI.dao.Enums.Priority;
+import com.Task.employeeAPI.dao.Enums.Status;
+import com.Task.employeeAPI.events.TaskSnapshot;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Optional;
+
+// Picked up by Spring Data as the implementation of TaskStatusRepository inside TaskRepository
+public class TaskStatusRepositoryImpl implements TaskStatusRepository {
+
+    // Asked for as generated keys, which the Postgres driver sends as RETURNING and H2 reads from the updated row
+    private static final String[] RETURNED = {"priority", "employee_id"};
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<TaskSnapshot> moveStatus(int id, Integer assigneeId, Status from, Status to) {
+        String sql = "update tasks set status = ? where id = ? and status = ?"
+                + (assigneeId == null ? "" : " and employee_id = ?");
+
+        // Pending changes go first, as they would before a JPQL update
+        entityManager.flush();
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql, RETURNED)) {
+                statement.setString(1, to.name());
+                statement.setInt(2, id);
+                statement.setString(3, from.name());
+                if (assigneeId != null) {
+                    statement.setInt(4, assigneeId);
+                }
+                if (statement.executeUpdate() == 0) {
+                    return Optional.empty();
+                }
+                try (ResultSet moved = statement.getGeneratedKeys()) {
+                    moved.next();
+                    String priority = moved.getString(1);
+                    int employeeId = moved.getInt(2);
+                    return Optional.of(new TaskSnapshot(id, to, priority == null ? null : Priority.valueOf(priority),
+                            moved.wasNull() ? null : employeeId));
+                }
+            }
+        });
+    }
+}
@@ -1,12 +1,45 @@
 package com.Task.employeeAPI.dao.Repository;
 
 import com.Task.employeeAPI.dao.Entity.TaskWorkflow;
+import com.Task.employeeAPI.dto.TaskWorkflowDTO;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface TaskWorkflowRepository extends JpaRepository<TaskWorkflow, Integer> {
-    List<TaskWorkflow> findByTask_Id(Integer id);
+    // Explicit JPQL on the foreign key: the derived query would join tasks and filter on tasks.id, and the
+    // planner cannot then use the task_id index
+    @Query("select w from TaskWorkflow w where w.task.id = :id")
+    List<TaskWorkflow> findByTask_Id(@Param("id") Integer id);
+
+    // History of one task from the day it was created: on the partitioned Postgres table the lower bound on
+    // last_updated prunes every month before it, instead of probing the task_id index of each partition
+    @Query("select w from TaskWorkflow w where w.task.id = :id and w.lastUpdated >= :since")
+    List<TaskWorkflow> findByTask_IdAndLastUpdatedGreaterThanEqual(@Param("id") Integer id, @Param("since") LocalDateTime since);
+
+    // Flushes first and clears after, so no loaded workflow is left pointing at a task deleted next
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from TaskWorkflow w where w.task.id in :taskIds")
+    int deleteByTaskIdIn(@Param("taskIds") Collection<Integer> taskIds);
+
+    // Export cursor: rows are pulled from the driver in fetch-size batches while the caller consumes the stream
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("""
+            select new com.Task.employeeAPI.dto.TaskWorkflowDTO(w.id, w.status, u.id, t.id, w.lastUpdated)
+            from TaskWorkflow w left join w.updatedBy u left join w.task t
+            order by w.id""")
+    Stream<TaskWorkflowDTO> streamAllViews();
 }
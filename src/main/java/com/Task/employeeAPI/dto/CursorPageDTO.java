@@ -0,0 +1,17 @@
+package com.Task.employeeAPI.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * One keyset page. {@code nextCursor} is the id to pass as {@code cursor} for the next page,
+ * or {@code null} when this is the last page.
+ */
+@Data
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+    private List<T> items;
+    private Integer nextCursor;
+}
@@ -0,0 +1,27 @@
+package com.Task.employeeAPI.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of removing a deleted employee's tasks. {@code totalTasks} is counted when the job starts;
+ * {@code error} is set when the job is {@code FAILED}, and deleting the employee again resumes it.
+ */
+@Data
+@AllArgsConstructor
+public class OffboardingStatusDTO {
+
+    public enum State {
+        RUNNING, DONE, FAILED
+    }
+
+    private int employeeId;
+    private State state;
+    private long totalTasks;
+    private long deletedTasks;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+}
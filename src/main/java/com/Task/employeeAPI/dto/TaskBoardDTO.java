@@ -0,0 +1,15 @@
+package com.Task.employeeAPI.dto;
+
+import com.Task.employeeAPI.dao.Enums.Status;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+public class TaskBoardDTO {
+    // One column per status, in workflow order, each sorted by task id
+    private Map<Status, List<TaskDTO>> columns;
+}
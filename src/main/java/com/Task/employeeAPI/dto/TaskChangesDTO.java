@@ -0,0 +1,21 @@
+package com.Task.employeeAPI.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Tasks changed since the client's cursor. {@code updated} holds the current state of each created, edited or
+ * transitioned task. {@code deleted} holds the ids of tasks that no longer exist. Pass {@code cursor} back as
+ * {@code since} on the next poll. When {@code hasMore} is set, poll again right away. A cursor older than the
+ * feed's retention is answered with 410 Gone: reload the board and take a new cursor.
+ */
+@Data
+@AllArgsConstructor
+public class TaskChangesDTO {
+    private List<TaskDTO> updated;
+    private List<Integer> deleted;
+    private String cursor;
+    private boolean hasMore;
+}
@@ -1,14 +1,17 @@
 package com.Task.employeeAPI.dto;
 
 import com.Task.employeeAPI.dao.Enums.Priority;
+import com.Task.employeeAPI.dao.Enums.Role;
 import com.Task.employeeAPI.dao.Enums.Status;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
 public class TaskDTO {
 
     private Integer id;
@@ -32,5 +35,27 @@ public class TaskDTO {
 
 
     private EmployeeDTO employee;
-}
 
+    /**
+     * Row constructor for the JPQL projections in {@code TaskRepository}: the task and its assignee come
+     * from one joined select, so no entity (and none of its lazy collections) is loaded while mapping.
+     */
+    public TaskDTO(Integer id, String title, String description, Priority priority, Status status,
+                   Integer employeeId, String employeeName, String employeeSurname, String employeeEmail, Role employeeRole) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.priority = priority;
+        this.status = status;
+        this.employeeId = employeeId;
+        if (employeeId != null) {
+            EmployeeDTO employee = new EmployeeDTO();
+            employee.setId(employeeId);
+            employee.setName(employeeName);
+            employee.setSurname(employeeSurname);
+            employee.setEmail(employeeEmail);
+            employee.setRole(employeeRole);
+            this.employee = employee;
+        }
+    }
+}
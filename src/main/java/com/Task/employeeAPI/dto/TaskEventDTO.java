@@ -0,0 +1,23 @@
+package com.Task.employeeAPI.dto;
+
+import com.Task.employeeAPI.dao.Enums.Status;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * One pushed task change. {@code task} is the card as it is now, or {@code null} for {@code DELETED};
+ * {@code previousStatus} is set for {@code STATUS_CHANGED}.
+ */
+@Data
+@AllArgsConstructor
+public class TaskEventDTO {
+
+    public enum Type {
+        CREATED, UPDATED, STATUS_CHANGED, DELETED
+    }
+
+    private Type type;
+    private int taskId;
+    private Status previousStatus;
+    private TaskDTO task;
+}
@@ -0,0 +1,18 @@
+package com.Task.employeeAPI.dto;
+
+import com.Task.employeeAPI.dao.Enums.Priority;
+import com.Task.employeeAPI.dao.Enums.Status;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+public class TaskStatsDTO {
+    private long totalTasks;
+    private long activeEmployees;
+    private Map<Status, Long> byStatus;
+    private Map<Priority, Long> byPriority;
+    private Map<Integer, Long> byAssignee;
+}
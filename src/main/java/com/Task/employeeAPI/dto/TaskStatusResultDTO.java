@@ -0,0 +1,19 @@
+package com.Task.employeeAPI.dto;
+
+import com.Task.employeeAPI.dao.Enums.Status;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Outcome of one item of a bulk status change. {@code status} is the task's status after the batch, and
+ * {@code error} says why the move was refused when {@code updated} is {@code false}.
+ */
+@Data
+@AllArgsConstructor
+public class TaskStatusResultDTO {
+
+    private Integer taskId;
+    private Status status;
+    private boolean updated;
+    private String error;
+}
@@ -1,11 +1,15 @@
 package com.Task.employeeAPI.dto;
 
 import com.Task.employeeAPI.dao.Enums.Status;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class TaskWorkflowDTO {
     private Integer id;
     private Status status;
@@ -0,0 +1,21 @@
+package com.Task.employeeAPI.events;
+
+/**
+ * Published when an employee is created, deleted or has their profile (name, surname) changed, so views that
+ * embed assignee details can refresh them. {@code activeDelta} is how the number of active employees moved:
+ * {@code 1} for a new employee, {@code -1} for a deletion and {@code 0} for a profile change.
+ */
+public record EmployeeChangedEvent(int employeeId, int activeDelta) {
+
+    public EmployeeChangedEvent(int employeeId) {
+        this(employeeId, 0);
+    }
+
+    public static EmployeeChangedEvent created(int employeeId) {
+        return new EmployeeChangedEvent(employeeId, 1);
+    }
+
+    public static EmployeeChangedEvent deleted(int employeeId) {
+        return new EmployeeChangedEvent(employeeId, -1);
+    }
+}
@@ -0,0 +1,21 @@
+package com.Task.employeeAPI.events;
+
+/**
+ * Published whenever a task is created, edited, moved to another status or deleted.
+ * {@code before} is {@code null} for a new task and {@code after} is {@code null} for a deleted one.
+ * Listeners should use {@code @TransactionalEventListener} so they only see committed changes.
+ */
+public record TaskChangedEvent(TaskSnapshot before, TaskSnapshot after) {
+
+    public static TaskChangedEvent created(TaskSnapshot after) {
+        return new TaskChangedEvent(null, after);
+    }
+
+    public static TaskChangedEvent deleted(TaskSnapshot before) {
+        return new TaskChangedEvent(before, null);
+    }
+
+    public int taskId() {
+        return after != null ? after.id() : before.id();
+    }
+}
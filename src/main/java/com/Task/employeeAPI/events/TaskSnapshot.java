@@ -0,0 +1,21 @@
+package com.Task.employeeAPI.events;
+
+import com.Task.employeeAPI.dao.Entity.Task;
+import com.Task.employeeAPI.dao.Enums.Priority;
+import com.Task.employeeAPI.dao.Enums.Status;
+
+/**
+ * The fields of a task that derived views (counters, boards, change feeds) key on, captured at one point in time.
+ * Immutable, so it is safe to hand to listeners after the entity has moved on or been deleted.
+ */
+public record TaskSnapshot(int id, Status status, Priority priority, Integer employeeId) {
+
+    public static TaskSnapshot of(Task task) {
+        return new TaskSnapshot(
+                task.getId(),
+                task.getStatus(),
+                task.getPriority(),
+                task.getEmployee() == null ? null : task.getEmployee().getId()
+        );
+    }
+}
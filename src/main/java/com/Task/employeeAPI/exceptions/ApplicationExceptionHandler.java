@@ -1,6 +1,7 @@
 package com.Task.employeeAPI.exceptions;
 
 import com.Task.employeeAPI.dto.ExceptionDTO;
+import jakarta.validation.ConstraintViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -24,4 +25,16 @@ public class ApplicationExceptionHandler {
                 .status(HttpStatus.BAD_REQUEST)
                 .body(exceptionDTO);
     }
+
+    @ExceptionHandler
+    public ResponseEntity<ExceptionDTO> handleConstraintViolation(ConstraintViolationException exception) {
+        String message = exception.getConstraintViolations().stream()
+                .findFirst()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .orElse(exception.getMessage());
+        ExceptionDTO exceptionDTO = new ExceptionDTO("VALIDATION_ERROR", message, HttpStatus.BAD_REQUEST);
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(exceptionDTO);
+    }
 }
@@ -0,0 +1,9 @@
+package com.Task.employeeAPI.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class ConflictException extends ApplicationException{
+    public ConflictException(String message) {
+        super("CONFLICT", message, HttpStatus.CONFLICT);
+    }
+}
@@ -0,0 +1,9 @@
+package com.Task.employeeAPI.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class GoneException extends ApplicationException{
+    public GoneException(String message) {
+        super("GONE", message, HttpStatus.GONE);
+    }
+}
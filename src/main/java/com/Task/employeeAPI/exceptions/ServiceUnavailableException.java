@@ -0,0 +1,9 @@
+package com.Task.employeeAPI.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class ServiceUnavailableException extends ApplicationException{
+    public ServiceUnavailableException(String message) {
+        super("SERVICE_UNAVAILABLE", message, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
@@ -0,0 +1,9 @@
+package com.Task.employeeAPI.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class TooManyRequestsException extends ApplicationException{
+    public TooManyRequestsException(String message) {
+        super("TOO_MANY_REQUESTS", message, HttpStatus.TOO_MANY_REQUESTS);
+    }
+}
@@ -0,0 +1,25 @@
+package com.Task.employeeAPI.mapper;
+
+import com.Task.employeeAPI.dao.Entity.Employee;
+import com.Task.employeeAPI.dto.EmployeeDTO;
+import org.mapstruct.Builder;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring", builder = @Builder(disableBuilder = true))
+public interface EmployeeDtoMapper {
+
+    // The password hash never leaves the service
+    @Mapping(target = "password", ignore = true)
+    EmployeeDTO toDto(Employee employee);
+
+    List<EmployeeDTO> toDtos(List<Employee> employees);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "deleted", ignore = true)
+    @Mapping(target = "tasks", ignore = true)
+    @Mapping(target = "workflows", ignore = true)
+    Employee toEntity(EmployeeDTO employeeDTO);
+}
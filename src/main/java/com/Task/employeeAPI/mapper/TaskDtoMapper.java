@@ -0,0 +1,18 @@
+package com.Task.employeeAPI.mapper;
+
+import com.Task.employeeAPI.dao.Entity.Task;
+import com.Task.employeeAPI.dto.TaskDTO;
+import org.mapstruct.InjectionStrategy;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring", uses = EmployeeDtoMapper.class, injectionStrategy = InjectionStrategy.CONSTRUCTOR)
+public interface TaskDtoMapper {
+
+    @Mapping(target = "employeeId", source = "employee.id")
+    TaskDTO toDto(Task task);
+
+    List<TaskDTO> toDtos(List<Task> tasks);
+}
@@ -0,0 +1,18 @@
+package com.Task.employeeAPI.mapper;
+
+import com.Task.employeeAPI.dao.Entity.TaskWorkflow;
+import com.Task.employeeAPI.dto.TaskWorkflowDTO;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface TaskWorkflowDtoMapper {
+
+    @Mapping(target = "updatedById", source = "updatedBy.id")
+    @Mapping(target = "taskId", source = "task.id")
+    TaskWorkflowDTO toDto(TaskWorkflow taskWorkflow);
+
+    List<TaskWorkflowDTO> toDtos(List<TaskWorkflow> taskWorkflows);
+}
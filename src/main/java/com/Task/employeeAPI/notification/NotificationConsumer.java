@@ -12,13 +12,12 @@ public class NotificationConsumer {
 
     private final EmailService emailService;
 
-    // Fake method, called manually if needed
+    // Delivers one notification; runs on a NotificationProducer lane thread, never on a request thread
     public void process(NotificationDTO dto) {
         if (dto.getEmail() == null) {
             throw new BadRequestException("Email is null!");
         }
 
-        // Direct call — no Kafka needed
         emailService.sendEmail(dto.getEmail(), dto.getSubject(), dto.getBody());
     }
 }
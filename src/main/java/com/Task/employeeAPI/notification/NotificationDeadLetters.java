@@ -0,0 +1,51 @@
+package com.Task.employeeAPI.notification;
+
+import com.Task.employeeAPI.dto.NotificationDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Notifications the pipeline gave up on: refused because their lane was full, or failed on every attempt.
+ * Kept in memory like the queue itself, up to {@code capacity} entries, dropping the oldest first. They can be
+ * inspected and replayed through {@code /actuator/notifications}.
+ */
+@Component
+public class NotificationDeadLetters {
+
+    public record DeadLetter(NotificationDTO notification, int attempts, String error, Instant failedAt) {
+    }
+
+    private final ArrayDeque<DeadLetter> letters = new ArrayDeque<>();
+    private final int capacity;
+
+    public NotificationDeadLetters(@Value("${notifications.dead-letter-capacity:1000}") int capacity) {
+        this.capacity = capacity;
+    }
+
+    public synchronized void add(NotificationDTO notification, int attempts, String error) {
+        if (letters.size() == capacity) {
+            letters.removeFirst();
+        }
+        letters.addLast(new DeadLetter(notification, attempts, error, Instant.now()));
+    }
+
+    public synchronized List<DeadLetter> snapshot() {
+        return new ArrayList<>(letters);
+    }
+
+    // Empties the store, handing its entries to the caller (e.g. to queue them again)
+    public synchronized List<DeadLetter> drain() {
+        List<DeadLetter> drained = new ArrayList<>(letters);
+        letters.clear();
+        return drained;
+    }
+
+    public synchronized int size() {
+        return letters.size();
+    }
+}
@@ -0,0 +1,55 @@
+package com.Task.employeeAPI.notification;
+
+import com.Task.employeeAPI.notification.NotificationDeadLetters.DeadLetter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Exposed as /actuator/notifications to HEAD_MANAGER only; a POST queues every dead letter again
+@Component
+@Endpoint(id = "notifications")
+@RequiredArgsConstructor
+public class NotificationEndpoint {
+
+    private final NotificationProducer notificationProducer;
+    private final NotificationDeadLetters deadLetters;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("queued", notificationProducer.queued());
+        status.put("deadLetters", deadLetters.snapshot().stream().map(NotificationEndpoint::describe).toList());
+        return status;
+    }
+
+    @WriteOperation
+    public Map<String, Object> replay() {
+        List<DeadLetter> letters = deadLetters.drain();
+        int requeued = 0;
+        for (DeadLetter letter : letters) {
+            requeued += notificationProducer.enqueue(letter.notification()) ? 1 : 0;
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("requeued", requeued);
+        result.put("refused", letters.size() - requeued);
+        return result;
+    }
+
+    // The body is left out: it is task content
+    private static Map<String, Object> describe(DeadLetter letter) {
+        Map<String, Object> described = new LinkedHashMap<>();
+        described.put("recipient", letter.notification().getEmail());
+        described.put("subject", letter.notification().getSubject());
+        described.put("attempts", letter.attempts());
+        described.put("error", letter.error());
+        described.put("failedAt", letter.failedAt().toString());
+        return described;
+    }
+}
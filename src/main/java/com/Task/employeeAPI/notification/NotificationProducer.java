@@ -1,16 +1,295 @@
 package com.Task.employeeAPI.notification;
 
 import com.Task.employeeAPI.dto.NotificationDTO;
-import lombok.RequiredArgsConstructor;
+import com.Task.employeeAPI.exceptions.ApplicationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailParseException;
+import org.springframework.mail.MailPreparationException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process notification pipeline. {@link #sendNotification} never waits on the mail server: the message is
+ * put on one of {@code lanes} bounded queues, picked by recipient, and one virtual thread per lane delivers
+ * its queue in order through {@link NotificationConsumer}. A failed delivery is scheduled for a retry with
+ * exponential backoff on its lane's {@link DelayQueue}, and after {@code max-attempts} it goes to
+ * {@link NotificationDeadLetters}. While it waits, later messages to the same recipient are held back behind
+ * it, so each recipient still gets their messages in order, and the lane goes on delivering to everyone
+ * else. A message whose lane is full goes to the dead letters at once instead of holding up the caller.
+ *
+ * <p>A message sent inside a transaction is queued when the transaction commits, so a change that is rolled
+ * back notifies no one. On shutdown every message not yet delivered, queued, held or waiting to retry, goes to
+ * the dead letters.
+ */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class NotificationProducer {
 
+    private static final Duration SHUTDOWN_WAIT = Duration.ofSeconds(1);
+
     private final NotificationConsumer consumer;
+    private final NotificationDeadLetters deadLetters;
+    private final List<Lane> lanes;
+    private final List<Thread> workers;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter rejected;
+    private final Counter failed;
+    private final Timer delivery;
+
+    public NotificationProducer(NotificationConsumer consumer,
+                                NotificationDeadLetters deadLetters,
+                                MeterRegistry meterRegistry,
+                                @Value("${notifications.lanes:8}") int laneCount,
+                                @Value("${notifications.lane-capacity:256}") int laneCapacity,
+                                @Value("${notifications.retry.max-attempts:5}") int maxAttempts,
+                                @Value("${notifications.retry.initial-backoff:PT1S}") Duration initialBackoff,
+                                @Value("${notifications.retry.max-backoff:PT1M}") Duration maxBackoff) {
+        this.consumer = consumer;
+        this.deadLetters = deadLetters;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.sent = Counter.builder("notifications.sent")
+                .description("Notifications delivered to the mail server")
+                .register(meterRegistry);
+        this.retried = Counter.builder("notifications.retries")
+                .description("Failed deliveries that were retried after a backoff")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("notifications.rejected")
+                .description("Notifications refused because their lane was full")
+                .register(meterRegistry);
+        this.failed = Counter.builder("notifications.failed")
+                .description("Notifications that failed on every attempt")
+                .register(meterRegistry);
+        this.delivery = Timer.builder("notifications.delivery")
+                .description("Time to hand one notification to the mail server")
+                .register(meterRegistry);
+
+        this.lanes = new ArrayList<>(laneCount);
+        this.workers = new ArrayList<>(laneCount);
+        for (int i = 0; i < laneCount; i++) {
+            Lane lane = new Lane(new ArrayBlockingQueue<>(laneCapacity));
+            lanes.add(lane);
+            workers.add(Thread.ofVirtual().name("notifications-" + i).start(() -> drain(lane)));
+        }
+        Gauge.builder("notifications.queued", this, NotificationProducer::queued)
+                .description("Notifications waiting in the lanes, including those waiting to retry")
+                .register(meterRegistry);
+        Gauge.builder("notifications.dead.letters", deadLetters, NotificationDeadLetters::size)
+                .register(meterRegistry);
+    }
+
+    // One attempt due at dueNanos; backoff is the wait before the attempt after it
+    private record Retry(NotificationDTO notification, int attempt, Duration backoff, long dueNanos) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+
+    private static final class Lane {
+        final BlockingQueue<NotificationDTO> queue;
+        final DelayQueue<Retry> retries = new DelayQueue<>();
+        // Recipients with a delivery waiting to retry, and the messages to them taken off the queue meanwhile.
+        // Only the lane's thread touches it.
+        final Map<String, Deque<NotificationDTO>> held = new HashMap<>();
+        // Messages in retries or held, for queued() on other threads
+        final AtomicInteger deferred = new AtomicInteger();
+
+        Lane(BlockingQueue<NotificationDTO> queue) {
+            this.queue = queue;
+        }
+    }
 
     public void sendNotification(NotificationDTO notification) {
-        consumer.process(notification);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(notification);
+                }
+            });
+        } else {
+            enqueue(notification);
+        }
+    }
+
+    // Returns at once: false if the message was refused and dead-lettered instead
+    public boolean enqueue(NotificationDTO notification) {
+        String recipient = notification.getEmail();
+        if (recipient == null || recipient.isBlank()) {
+            log.warn("Dropped notification '{}' without a recipient", notification.getSubject());
+            return false;
+        }
+        if (laneOf(recipient).queue.offer(notification)) {
+            return true;
+        }
+        rejected.increment();
+        deadLetters.add(notification, 0, "Notification queue is full");
+        return false;
+    }
+
+    public int queued() {
+        int queued = 0;
+        for (Lane lane : lanes) {
+            queued += lane.queue.size() + lane.deferred.get();
+        }
+        return queued;
+    }
+
+    // Each lane moves what it still has to the dead letters as it stops; a lane busy in a delivery is not waited for
+    @PreDestroy
+    public void shutdown() {
+        int undelivered = queued();
+        workers.forEach(Thread::interrupt);
+        for (Thread worker : workers) {
+            try {
+                worker.join(SHUTDOWN_WAIT);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (undelivered > 0) {
+            log.warn("Shutting down with {} notifications undelivered; they were moved to the dead letters", undelivered);
+        }
+    }
+
+    // Same recipient, same lane: its messages are delivered in the order they were sent
+    private Lane laneOf(String recipient) {
+        return lanes.get(Math.floorMod(recipientKey(recipient).hashCode(), lanes.size()));
+    }
+
+    private static String recipientKey(String recipient) {
+        return recipient.toLowerCase(Locale.ROOT);
+    }
+
+    // Retries that are due go first; otherwise waits for a new message, but no longer than the next retry
+    private void drain(Lane lane) {
+        try {
+            while (true) {
+                Retry due = lane.retries.poll();
+                if (due != null) {
+                    lane.deferred.decrementAndGet();
+                    deliver(lane, due.notification(), due.attempt(), due.backoff());
+                    continue;
+                }
+                Retry next = lane.retries.peek();
+                NotificationDTO notification = next == null
+                        ? lane.queue.take()
+                        : lane.queue.poll(next.getDelay(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+                if (notification == null) {
+                    continue;
+                }
+                Deque<NotificationDTO> held = lane.held.get(recipientKey(notification.getEmail()));
+                if (held != null) {
+                    held.add(notification);
+                    lane.deferred.incrementAndGet();
+                } else {
+                    deliver(lane, notification, 1, initialBackoff);
+                }
+            }
+        } catch (InterruptedException e) {
+            abandon(lane);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Nothing is lost silently when the lane stops: what it still had goes to the dead letters, each recipient's
+    // messages in the order they were sent (a retry before the messages held behind it)
+    private void abandon(Lane lane) {
+        for (Retry retry : lane.retries) {
+            deadLetters.add(retry.notification(), retry.attempt() - 1, "Interrupted while waiting to retry");
+        }
+        for (Deque<NotificationDTO> held : lane.held.values()) {
+            held.forEach(notification -> deadLetters.add(notification, 0, "Interrupted while held behind a retry"));
+        }
+        List<NotificationDTO> queued = new ArrayList<>();
+        lane.queue.drainTo(queued);
+        queued.forEach(notification -> deadLetters.add(notification, 0, "Interrupted before delivery"));
+        lane.retries.clear();
+        lane.held.clear();
+        lane.deferred.set(0);
+    }
+
+    // Delivers the message, then any held behind it, until one has to wait for a retry or none are left
+    private void deliver(Lane lane, NotificationDTO notification, int attempt, Duration backoff) {
+        String recipient = recipientKey(notification.getEmail());
+        while (tryDeliver(lane, notification, attempt, backoff)) {
+            Deque<NotificationDTO> held = lane.held.get(recipient);
+            notification = held == null ? null : held.poll();
+            if (notification == null) {
+                lane.held.remove(recipient);
+                return;
+            }
+            lane.deferred.decrementAndGet();
+            attempt = 1;
+            backoff = initialBackoff;
+        }
+    }
+
+    // True once the message is delivered or given up on; false if it was scheduled to retry
+    private boolean tryDeliver(Lane lane, NotificationDTO notification, int attempt, Duration backoff) {
+        long start = System.nanoTime();
+        try {
+            consumer.process(notification);
+            delivery.record(Duration.ofNanos(System.nanoTime() - start));
+            sent.increment();
+            return true;
+        } catch (RuntimeException e) {
+            if (attempt >= maxAttempts || isPermanent(e)) {
+                failed.increment();
+                deadLetters.add(notification, attempt, e.toString());
+                log.warn("Gave up on notification '{}' to {} after {} attempts", notification.getSubject(),
+                        notification.getEmail(), attempt, e);
+                return true;
+            }
+        }
+        retried.increment();
+        Duration nextBackoff = backoff.multipliedBy(2);
+        if (nextBackoff.compareTo(maxBackoff) > 0) {
+            nextBackoff = maxBackoff;
+        }
+        lane.held.computeIfAbsent(recipientKey(notification.getEmail()), recipient -> new ArrayDeque<>());
+        lane.retries.add(new Retry(notification, attempt + 1, nextBackoff, System.nanoTime() + backoff.toNanos()));
+        lane.deferred.incrementAndGet();
+        return false;
+    }
+
+    // Retrying cannot fix a message that cannot be built or addressed
+    private static boolean isPermanent(RuntimeException e) {
+        return e instanceof MailParseException || e instanceof MailPreparationException || e instanceof ApplicationException;
     }
 }
@@ -0,0 +1,26 @@
+package com.Task.employeeAPI.security;
+
+import com.Task.employeeAPI.dao.Enums.Role;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Method-level authorization checked by {@link RoleMaskAuthorizationManager}.
+ * The roles are compiled into a bitmask once per method, so each call costs a single bit test.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface AllowedRoles {
+
+    Role[] value();
+
+    /**
+     * Name of an integer parameter that also grants access when it equals the caller's employee id.
+     */
+    String owner() default "";
+}
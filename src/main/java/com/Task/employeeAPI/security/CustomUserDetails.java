@@ -1,20 +1,37 @@
 package com.Task.employeeAPI.security;
 
+import com.Task.employeeAPI.dao.Enums.Role;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Getter
 public class CustomUserDetails implements UserDetails{
 
+    private static final Map<Role, List<GrantedAuthority>> ROLE_AUTHORITIES = new EnumMap<>(Role.class);
+    private static final Map<String, Role> ROLES_BY_AUTHORITY = new HashMap<>();
+
+    static {
+        for (Role role : Role.values()) {
+            ROLE_AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+            ROLES_BY_AUTHORITY.put("ROLE_" + role.name(), role);
+        }
+    }
+
     private final int id;
     private final String name;
     private final String password;
     private final String email;
     private final Collection<? extends GrantedAuthority> authorities;
     private final boolean isActive;
+    private final int roleMask;
 
     public CustomUserDetails(int id, String name, String password, String email, Collection<? extends GrantedAuthority> authorities, boolean isActive) {
         this.id = id;
@@ -23,6 +40,36 @@ public class CustomUserDetails implements UserDetails{
         this.email = email;
         this.authorities = authorities;
         this.isActive = !isActive;
+        this.roleMask = roleMaskOf(authorities);
+    }
+
+    // Principal rebuilt from a verified JWT; it never carries a password
+    public static CustomUserDetails fromClaims(int id, String name, String email, Role role) {
+        return new CustomUserDetails(id, name, null, email, authoritiesOf(role), false);
+    }
+
+    public static List<GrantedAuthority> authoritiesOf(Role role) {
+        return ROLE_AUTHORITIES.get(role);
+    }
+
+    // Authority strings are scanned once here, so role checks on the request path are a single bit test
+    public static int roleMaskOf(Collection<? extends GrantedAuthority> authorities) {
+        int mask = 0;
+        for (GrantedAuthority authority : authorities) {
+            Role role = ROLES_BY_AUTHORITY.get(authority.getAuthority());
+            if (role != null) {
+                mask |= role.mask();
+            }
+        }
+        return mask;
+    }
+
+    public boolean hasRole(Role role) {
+        return (roleMask & role.mask()) != 0;
+    }
+
+    public boolean hasAnyRole(int mask) {
+        return (roleMask & mask) != 0;
     }
 
     @Override
@@ -3,21 +3,52 @@ package com.Task.employeeAPI.security;
 import com.Task.employeeAPI.dao.Entity.Employee;
 import com.Task.employeeAPI.dao.Repository.EmployeeRepository;
 import com.Task.employeeAPI.exceptions.NotFoundException;
-import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.time.Duration;
+import java.util.Date;
 
 @Service
-@RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
     private final EmployeeRepository employeeRepository;
 
+    // email -> principal; entries are immutable and evicted whenever the employee changes
+    private final Cache<String, CustomUserDetails> principals;
+
+    // employee id -> revocation time; kept only as long as a token issued before it can still be valid
+    private final Cache<Integer, Long> revocations;
+
+    public CustomUserDetailsService(EmployeeRepository employeeRepository,
+                                    JwtTokenUtil jwtTokenUtil,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${security.principal-cache.maximum-size:10000}") long maximumSize,
+                                    @Value("${security.principal-cache.ttl:PT5M}") Duration ttl) {
+        this.employeeRepository = employeeRepository;
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.revocations = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(jwtTokenUtil.getExpiration()))
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, principals, "principals");
+    }
+
     @Override
     public CustomUserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        return principals.get(email, this::loadFromDatabase);
+    }
+
+    private CustomUserDetails loadFromDatabase(String email) {
         Employee employee = employeeRepository.findByEmailAndIsDeletedFalse(email);
 
         if (employee == null) {
@@ -29,11 +60,30 @@ public class CustomUserDetailsService implements UserDetailsService {
                 employee.getName(),
                 employee.getPassword(),
                 employee.getEmail(),
-                List.of(new SimpleGrantedAuthority("ROLE_" + employee.getRole().name())),
+                CustomUserDetails.authoritiesOf(employee.getRole()),
                 employee.isDeleted()
                 );
     }
 
+    public void evict(String email) {
+        principals.invalidate(email);
+    }
+
+    /**
+     * Evicts the cached principal and rejects every token issued to the employee so far.
+     * Used when an employee is deleted or their role changes, because such tokens carry stale claims.
+     */
+    public void revoke(Employee employee) {
+        principals.invalidate(employee.getEmail());
+        revocations.put(employee.getId(), System.currentTimeMillis());
+    }
+
+    public boolean isRevoked(int employeeId, Date issuedAt) {
+        Long revokedAt = revocations.getIfPresent(employeeId);
+        // iat has second precision, so a token issued in the same second as the revocation is rejected too
+        return revokedAt != null && (issuedAt == null || issuedAt.getTime() <= revokedAt);
+    }
+
 //    public CustomUserDetails loadUserByEmail(String email) throws UsernameNotFoundException {
 //        Employee employee = employeeRepository.findByEmailAndIsDeletedFalse(email);
 //
@@ -51,4 +101,3 @@ public class CustomUserDetailsService implements UserDetailsService {
 //        );
 //    }
 }
-
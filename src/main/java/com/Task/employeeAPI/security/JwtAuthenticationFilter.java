@@ -1,5 +1,6 @@
 package com.Task.employeeAPI.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -28,11 +29,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String header = req.getHeader("Authorization");
         if (header != null && header.startsWith("Bearer ")) {
             String token = header.substring(7);
-            if (jwtUtil.validateToken(token)) {
-                String email = jwtUtil.getEmailFromToken(token);
-                CustomUserDetails ud = userDetailsService.loadUserByUsername(email);
-                UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(ud, null, ud.getAuthorities());
-                SecurityContextHolder.getContext().setAuthentication(auth);
+            Claims claims = jwtUtil.parseClaims(token);
+            if (claims != null) {
+                CustomUserDetails ud = jwtUtil.toUserDetails(claims);
+                if (ud == null) {
+                    // Token issued before id/role claims existed
+                    ud = userDetailsService.loadUserByUsername(claims.getSubject());
+                }
+                if (!userDetailsService.isRevoked(ud.getId(), claims.getIssuedAt())) {
+                    UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(ud, null, ud.getAuthorities());
+                    SecurityContextHolder.getContext().setAuthentication(auth);
+                }
             }
         }
         chain.doFilter(req, res);
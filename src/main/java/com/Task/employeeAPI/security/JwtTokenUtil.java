@@ -1,5 +1,10 @@
 package com.Task.employeeAPI.security;
 
+import com.Task.employeeAPI.dao.Entity.Employee;
+import com.Task.employeeAPI.dao.Enums.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -12,41 +17,80 @@ import java.util.Date;
 @Component
 public class JwtTokenUtil {
 
-    @Value("my-secret-key-asdasd-asdasd-asdasd")
-    private String secret;
+    private static final String ID_CLAIM = "id";
+    private static final String ROLE_CLAIM = "role";
+    private static final String NAME_CLAIM = "name";
 
-    @Value("360000")
-    private long expiration;
+    private final long expiration;
 
-    public String generateToken(String email) {
-        Key key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    // Key and parser are immutable and thread-safe, so they are built once instead of per token
+    private final Key key;
+    private final JwtParser parser;
 
+    public JwtTokenUtil(@Value("my-secret-key-asdasd-asdasd-asdasd") String secret,
+                        @Value("360000") long expiration) {
+        this.expiration = expiration;
+        this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+    }
+
+    public String generateToken(Employee employee) {
         return Jwts.builder()
-                .setSubject(email)
+                .setSubject(employee.getEmail())
+                .claim(ID_CLAIM, employee.getId())
+                .claim(ROLE_CLAIM, employee.getRole().name())
+                .claim(NAME_CLAIM, employee.getName())
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public boolean validateToken(String token) {
+    public long getExpiration() {
+        return expiration;
+    }
+
+    /**
+     * Verifies signature and expiry in a single parse.
+     *
+     * @return the verified claims, or {@code null} if the token is invalid
+     */
+    public Claims parseClaims(String token) {
         try {
-            Jwts.parserBuilder()
-                .setSigningKey(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
-                .build()
-                .parseClaimsJws(token);
-            return true;
-        } catch (Exception e) {
-
-            return false;
+            return parser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Builds the principal straight from verified claims.
+     *
+     * @return the principal, or {@code null} for tokens issued without id/role claims
+     */
+    public CustomUserDetails toUserDetails(Claims claims) {
+        Integer id = claims.get(ID_CLAIM, Integer.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        if (id == null || role == null) {
+            return null;
         }
+
+        return CustomUserDetails.fromClaims(
+                id,
+                claims.get(NAME_CLAIM, String.class),
+                claims.getSubject(),
+                Role.valueOf(role)
+        );
+    }
+
+    public boolean validateToken(String token) {
+        return parseClaims(token) != null;
     }
 
     public String getEmailFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
-                .build()
-                .parseClaimsJws(token)
+        return parser.parseClaimsJws(token)
                 .getBody()
                 .getSubject();
     }
@@ -0,0 +1,96 @@
+package com.Task.employeeAPI.security;
+
+import com.Task.employeeAPI.exceptions.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Brute-force guard for {@code /employees/login}. Failed attempts are counted per email and per client address
+ * over a sliding window. Once either count reaches its threshold, further attempts are rejected before any
+ * BCrypt verification runs. The sketches are sized from the failures expected per window across all keys, so
+ * that other accounts' failures practically never add up to a lockout.
+ */
+@Component
+public class LoginAttemptThrottle {
+
+    private final SlidingWindowCounter emailFailures;
+    private final SlidingWindowCounter clientFailures;
+    private final int maxFailuresPerEmail;
+    private final int maxFailuresPerClient;
+    private final Duration window;
+
+    private final Counter failures;
+    private final Counter throttledByEmail;
+    private final Counter throttledByClient;
+
+    public LoginAttemptThrottle(MeterRegistry meterRegistry,
+                                @Value("${security.login-throttle.window:PT15M}") Duration window,
+                                @Value("${security.login-throttle.max-failures-per-email:5}") int maxFailuresPerEmail,
+                                @Value("${security.login-throttle.max-failures-per-client:20}") int maxFailuresPerClient,
+                                @Value("${security.login-throttle.expected-failures-per-window:50000}") int expectedFailures) {
+        int sketchWidth = SlidingWindowCounter.widthFor(expectedFailures);
+        this.emailFailures = new SlidingWindowCounter(sketchWidth, window, System::nanoTime);
+        this.clientFailures = new SlidingWindowCounter(sketchWidth, window, System::nanoTime);
+        this.maxFailuresPerEmail = maxFailuresPerEmail;
+        this.maxFailuresPerClient = maxFailuresPerClient;
+        this.window = window;
+
+        this.failures = Counter.builder("security.login.failures").register(meterRegistry);
+        this.throttledByEmail = Counter.builder("security.login.throttled").tag("scope", "email").register(meterRegistry);
+        this.throttledByClient = Counter.builder("security.login.throttled").tag("scope", "client").register(meterRegistry);
+    }
+
+    public void checkAllowed(String email, String clientAddress) {
+        if (email != null && emailFailures.estimate(normalize(email)) >= maxFailuresPerEmail) {
+            throttledByEmail.increment();
+            throw new TooManyRequestsException("Too many failed login attempts for this account, try again later");
+        }
+        if (clientAddress != null && clientFailures.estimate(clientAddress) >= maxFailuresPerClient) {
+            throttledByClient.increment();
+            throw new TooManyRequestsException("Too many failed login attempts from this client, try again later");
+        }
+    }
+
+    public void recordFailure(String email, String clientAddress) {
+        failures.increment();
+        if (email != null) {
+            emailFailures.increment(normalize(email));
+        }
+        if (clientAddress != null) {
+            clientFailures.increment(clientAddress);
+        }
+    }
+
+    public double estimateEmailFailures(String email) {
+        return emailFailures.estimate(normalize(email));
+    }
+
+    public double estimateClientFailures(String clientAddress) {
+        return clientFailures.estimate(clientAddress);
+    }
+
+    public int getMaxFailuresPerEmail() {
+        return maxFailuresPerEmail;
+    }
+
+    public int getMaxFailuresPerClient() {
+        return maxFailuresPerClient;
+    }
+
+    public Duration getWindow() {
+        return window;
+    }
+
+    public int getMemoryFootprintCells() {
+        return emailFailures.memoryFootprintCells() + clientFailures.memoryFootprintCells();
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,43 @@
+package com.Task.employeeAPI.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Exposed to HEAD_MANAGER only, as /actuator/loginthrottle and /actuator/loginthrottle/{email or client address}
+@Component
+@Endpoint(id = "loginthrottle")
+@RequiredArgsConstructor
+public class LoginThrottleEndpoint {
+
+    private final LoginAttemptThrottle loginAttemptThrottle;
+
+    @ReadOperation
+    public Map<String, Object> settings() {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("window", loginAttemptThrottle.getWindow().toString());
+        settings.put("maxFailuresPerEmail", loginAttemptThrottle.getMaxFailuresPerEmail());
+        settings.put("maxFailuresPerClient", loginAttemptThrottle.getMaxFailuresPerClient());
+        settings.put("sketchCells", loginAttemptThrottle.getMemoryFootprintCells());
+        return settings;
+    }
+
+    @ReadOperation
+    public Map<String, Object> failures(@Selector String key) {
+        double emailFailures = loginAttemptThrottle.estimateEmailFailures(key);
+        double clientFailures = loginAttemptThrottle.estimateClientFailures(key);
+
+        Map<String, Object> failures = new LinkedHashMap<>();
+        failures.put("key", key);
+        failures.put("estimatedEmailFailures", emailFailures);
+        failures.put("estimatedClientFailures", clientFailures);
+        failures.put("throttled", emailFailures >= loginAttemptThrottle.getMaxFailuresPerEmail()
+                || clientFailures >= loginAttemptThrottle.getMaxFailuresPerClient());
+        return failures;
+    }
+}
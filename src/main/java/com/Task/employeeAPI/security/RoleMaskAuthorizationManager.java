@@ -0,0 +1,90 @@
+package com.Task.employeeAPI.security;
+
+import com.Task.employeeAPI.dao.Enums.Role;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Enforces {@link AllowedRoles}. Each annotated method is compiled once into a role bitmask plus the index of
+ * its owner parameter. Checks for {@link CustomUserDetails} principals then need no SpEL evaluation, no authority
+ * string comparison and no allocation.
+ */
+public class RoleMaskAuthorizationManager implements AuthorizationManager<MethodInvocation> {
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private final ParameterNameDiscoverer parameterNames = new DefaultParameterNameDiscoverer();
+    private final Map<Method, CompiledRule> rules = new ConcurrentHashMap<>();
+
+    private record CompiledRule(int mask, int ownerIndex) {
+    }
+
+    // Still abstract in Spring Security 6.5 though deprecated in favour of authorize
+    @Deprecated
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        return authorize(authentication, invocation);
+    }
+
+    @Override
+    public AuthorizationDecision authorize(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        CompiledRule rule = rules.get(invocation.getMethod());
+        if (rule == null) {
+            rule = rules.computeIfAbsent(invocation.getMethod(), this::compile);
+        }
+
+        Authentication auth = authentication.get();
+        if (auth == null || !auth.isAuthenticated()) {
+            return DENIED;
+        }
+
+        if (auth.getPrincipal() instanceof CustomUserDetails user) {
+            if (user.hasAnyRole(rule.mask())) {
+                return GRANTED;
+            }
+            return isOwner(rule, invocation, user.getId()) ? GRANTED : DENIED;
+        }
+
+        // Principals without a precomputed mask (e.g. test users) fall back to their authorities
+        return (CustomUserDetails.roleMaskOf(auth.getAuthorities()) & rule.mask()) != 0 ? GRANTED : DENIED;
+    }
+
+    private static boolean isOwner(CompiledRule rule, MethodInvocation invocation, int userId) {
+        return rule.ownerIndex() >= 0
+                && invocation.getArguments()[rule.ownerIndex()] instanceof Integer id
+                && id == userId;
+    }
+
+    private CompiledRule compile(Method method) {
+        AllowedRoles allowedRoles = AnnotationUtils.findAnnotation(method, AllowedRoles.class);
+        if (allowedRoles == null) {
+            throw new IllegalStateException("Method " + method + " is not annotated with @AllowedRoles");
+        }
+
+        int ownerIndex = -1;
+        if (!allowedRoles.owner().isEmpty()) {
+            String[] names = parameterNames.getParameterNames(method);
+            for (int i = 0; names != null && i < names.length; i++) {
+                if (names[i].equals(allowedRoles.owner())) {
+                    ownerIndex = i;
+                }
+            }
+            if (ownerIndex < 0) {
+                throw new IllegalStateException("Owner parameter '" + allowedRoles.owner() + "' not found on " + method);
+            }
+        }
+
+        return new CompiledRule(Role.maskOf(allowedRoles.value()), ownerIndex);
+    }
+}
@@ -0,0 +1,186 @@
+package com.Task.employeeAPI.security;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Approximate per-key event counter over a sliding time window.
+ *
+ * <p>Counts are kept in two count-min sketches, one for the current window and one for the previous.
+ * The sliding estimate weights the previous window by how much of it still overlaps. Memory is fixed at
+ * {@code 2 * depth * width} ints whatever the number of keys. Old counts decay by rotating the windows,
+ * and a key can only be overestimated, never underestimated.
+ *
+ * <p>Each row hashes the key's bytes with SipHash under its own random key, drawn when the counter is
+ * created. Keys that collide in one row are unrelated in the others, and the collisions cannot be worked out
+ * in advance, so nobody can pick keys that raise a chosen key's count. Increments are conservative: only the
+ * cells holding the key's minimum are raised, which keeps other keys' noise out of the estimate for longer.
+ */
+public final class SlidingWindowCounter {
+
+    private static final int DEPTH = 4;
+    private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final int width;
+    private final int mask;
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicReference<Windows> windows;
+    private final long[] rowKeys = new long[2 * DEPTH];
+
+    private record Windows(long start, AtomicIntegerArray current, AtomicIntegerArray previous) {
+    }
+
+    public SlidingWindowCounter(int width, Duration window, LongSupplier nanoClock) {
+        if (Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("Sketch width must be a power of two: " + width);
+        }
+        this.width = width;
+        this.mask = width - 1;
+        this.windowNanos = window.toNanos();
+        this.nanoClock = nanoClock;
+        this.windows = new AtomicReference<>(new Windows(nanoClock.getAsLong(), newSketch(), newSketch()));
+        SecureRandom random = new SecureRandom();
+        for (int i = 0; i < rowKeys.length; i++) {
+            rowKeys[i] = random.nextLong();
+        }
+    }
+
+    /**
+     * Width for about one event per cell when {@code expectedEvents} arrive in a window. A key that never had
+     * an event then reads 5 or more only if all four of its cells do, which is well under one in a million
+     * even with the previous window still at full weight.
+     */
+    public static int widthFor(int expectedEvents) {
+        return Math.max(64, Integer.highestOneBit(Math.max(1, expectedEvents - 1)) << 1);
+    }
+
+    /**
+     * Lock-free conservative update. Every cell seen at the key's minimum {@code m} is moved from exactly
+     * {@code m} to {@code m + 1} by compare-and-set, in row order; if any of them has moved meanwhile, the
+     * increment starts over from a fresh read. Two increments of one key can therefore never both claim the
+     * same step, so the key is not underestimated. Cells raised before a failed attempt only overestimate.
+     * The generation is read once: an increment racing a rotation lands in the window just retired, which is
+     * still counted as the previous one.
+     */
+    public void increment(String key) {
+        AtomicIntegerArray sketch = rotate().current();
+        int[] indexes = indexes(key);
+
+        while (!raiseMinimum(sketch, indexes)) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static boolean raiseMinimum(AtomicIntegerArray sketch, int[] indexes) {
+        int min = Integer.MAX_VALUE;
+        int[] seen = new int[indexes.length];
+        for (int i = 0; i < indexes.length; i++) {
+            seen[i] = sketch.get(indexes[i]);
+            min = Math.min(min, seen[i]);
+        }
+        for (int i = 0; i < indexes.length; i++) {
+            if (seen[i] == min && !sketch.compareAndSet(indexes[i], min, min + 1)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public double estimate(String key) {
+        Windows w = rotate();
+        double previousWeight = Math.max(0.0, 1.0 - (double) (nanoClock.getAsLong() - w.start()) / windowNanos);
+
+        double min = Double.MAX_VALUE;
+        for (int index : indexes(key)) {
+            min = Math.min(min, w.current().get(index) + w.previous().get(index) * previousWeight);
+        }
+        return min;
+    }
+
+    public int memoryFootprintCells() {
+        return 2 * DEPTH * width;
+    }
+
+    private Windows rotate() {
+        while (true) {
+            Windows w = windows.get();
+            long elapsed = nanoClock.getAsLong() - w.start();
+            if (elapsed < windowNanos) {
+                return w;
+            }
+
+            // Exactly one window passed: current becomes previous. Longer gaps drop everything.
+            Windows next = elapsed < 2 * windowNanos
+                    ? new Windows(w.start() + windowNanos, newSketch(), w.current())
+                    : new Windows(w.start() + (elapsed / windowNanos) * windowNanos, newSketch(), newSketch());
+            windows.compareAndSet(w, next);
+        }
+    }
+
+    private int[] indexes(String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        int[] indexes = new int[DEPTH];
+        for (int row = 0; row < DEPTH; row++) {
+            long hash = sipHash24(rowKeys[2 * row], rowKeys[2 * row + 1], bytes);
+            indexes[row] = row * width + ((int) hash & mask);
+        }
+        return indexes;
+    }
+
+    private AtomicIntegerArray newSketch() {
+        return new AtomicIntegerArray(DEPTH * width);
+    }
+
+    // SipHash-2-4 (Aumasson and Bernstein), the keyed hash used against hash flooding
+    static long sipHash24(long k0, long k1, byte[] data) {
+        long[] v = {
+                0x736f6d6570736575L ^ k0,
+                0x646f72616e646f6dL ^ k1,
+                0x6c7967656e657261L ^ k0,
+                0x7465646279746573L ^ k1
+        };
+        int tail = data.length & ~7;
+        for (int i = 0; i < tail; i += 8) {
+            compress(v, (long) LONG_LE.get(data, i));
+        }
+        long last = (long) data.length << 56;
+        for (int i = tail; i < data.length; i++) {
+            last |= (data[i] & 0xFFL) << (8 * (i - tail));
+        }
+        compress(v, last);
+
+        v[2] ^= 0xFF;
+        for (int round = 0; round < 4; round++) {
+            sipRound(v);
+        }
+        return v[0] ^ v[1] ^ v[2] ^ v[3];
+    }
+
+    private static void compress(long[] v, long m) {
+        v[3] ^= m;
+        sipRound(v);
+        sipRound(v);
+        v[0] ^= m;
+    }
+
+    private static void sipRound(long[] v) {
+        v[0] += v[1];
+        v[1] = Long.rotateLeft(v[1], 13) ^ v[0];
+        v[0] = Long.rotateLeft(v[0], 32);
+        v[2] += v[3];
+        v[3] = Long.rotateLeft(v[3], 16) ^ v[2];
+        v[0] += v[3];
+        v[3] = Long.rotateLeft(v[3], 21) ^ v[0];
+        v[2] += v[1];
+        v[1] = Long.rotateLeft(v[1], 17) ^ v[2];
+        v[2] = Long.rotateLeft(v[2], 32);
+    }
+}
@@ -1,19 +1,21 @@
 package com.Task.employeeAPI.services.abstraction;
 
+import com.Task.employeeAPI.dao.Enums.Role;
 import com.Task.employeeAPI.dto.AuthResponseDTO;
+import com.Task.employeeAPI.dto.CursorPageDTO;
 import com.Task.employeeAPI.dto.EmployeeDTO;
 import com.Task.employeeAPI.dto.EmployeeLoginDTO;
 import com.Task.employeeAPI.dto.EmployeeUpdateDTO;
 
-import java.util.List;
+import org.springframework.data.domain.Sort;
 
 
 public interface IEmployeeService {
     AuthResponseDTO signup(EmployeeDTO employeeDTO);
-    AuthResponseDTO login(EmployeeLoginDTO employeeLoginDTO);
+    AuthResponseDTO login(EmployeeLoginDTO employeeLoginDTO, String clientAddress);
     EmployeeDTO createEmployee(EmployeeDTO employeeDTO);
     EmployeeDTO findEmployeeById(Integer id);
-    List<EmployeeDTO> findAll();
+    CursorPageDTO<EmployeeDTO> findPage(Role role, Integer cursor, int limit, Sort.Direction direction);
     EmployeeDTO deleteEmployeeById(Integer id);
     EmployeeDTO updateEmployeeById(Integer id, EmployeeUpdateDTO employeeDTO);
 }
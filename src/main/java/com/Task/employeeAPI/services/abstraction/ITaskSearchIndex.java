@@ -0,0 +1,13 @@
+package com.Task.employeeAPI.services.abstraction;
+
+import java.util.List;
+
+/**
+ * Full-text index over task titles and descriptions. Selected by {@code tasks.search.backend}:
+ * {@code postgres} in production, {@code memory} for H2 and tests.
+ */
+public interface ITaskSearchIndex {
+
+    /** Ids of the tasks matching every term of {@code query}, best match first, ties by id. */
+    List<Integer> search(String query, int offset, int limit);
+}
@@ -1,14 +1,20 @@
 package com.Task.employeeAPI.services.abstraction;
 
+import com.Task.employeeAPI.dao.Enums.Priority;
+import com.Task.employeeAPI.dao.Enums.Status;
+import com.Task.employeeAPI.dto.CursorPageDTO;
 import com.Task.employeeAPI.dto.TaskCreateDTO;
 import com.Task.employeeAPI.dto.TaskDTO;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 
 public interface ITaskService {
     TaskDTO createTask(TaskCreateDTO taskDTO);
+    List<TaskDTO> createTasks(List<TaskCreateDTO> taskDTOs);
     TaskDTO findTaskById(Integer id);
-    List<TaskDTO> findAll();
+    CursorPageDTO<TaskDTO> findPage(Status status, Priority priority, Integer employeeId,
+                                    Integer cursor, int limit, Sort.Direction direction);
     TaskDTO deleteTaskById(Integer id);
     TaskDTO updateTaskById(Integer id, TaskDTO taskDTO);
 }
@@ -1,5 +1,6 @@
 package com.Task.employeeAPI.services.abstraction;
 
+import com.Task.employeeAPI.dto.TaskStatusResultDTO;
 import com.Task.employeeAPI.dto.TaskWorkflowDTO;
 import com.Task.employeeAPI.payload.TaskWorkflowPayload;
 
@@ -8,4 +9,5 @@ import java.util.List;
 public interface ITaskWorkflowService {
     List<TaskWorkflowDTO> getAllWorkflowsByTaskId(Integer id);
     TaskWorkflowPayload setStatus(TaskWorkflowPayload taskWorkflowPayload);
+    List<TaskStatusResultDTO> setStatuses(List<TaskWorkflowPayload> payloads);
 }
@@ -0,0 +1,59 @@
+package com.Task.employeeAPI.services.concrete;
+
+import com.Task.employeeAPI.events.EmployeeChangedEvent;
+import com.Task.employeeAPI.events.TaskChangedEvent;
+import com.Task.employeeAPI.events.TaskSnapshot;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Data versions behind the ETags of the task and employee reads. The global version moves on every committed
+ * task or employee change. Each employee also has a version that moves when they or one of their tasks change.
+ *
+ * <p>Versions are bumped after commit, so callers must read the tag <em>before</em> loading the data. Loading
+ * first could pair data from before a write with the version from after it, and that stale body would then
+ * validate forever. Every tag also carries the startup time, so a restart never reuses tags.
+ */
+@Service
+public class DataVersionService {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong global = new AtomicLong();
+    private final Map<Integer, AtomicLong> byEmployee = new ConcurrentHashMap<>();
+
+    public String globalTag() {
+        return epoch + "-" + global.get();
+    }
+
+    public String employeeTag(int employeeId) {
+        AtomicLong version = byEmployee.get(employeeId);
+        return epoch + "-e" + employeeId + "-" + (version == null ? 0 : version.get());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        bumpAssignee(event.before());
+        bumpAssignee(event.after());
+        global.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        bump(event.employeeId());
+        global.incrementAndGet();
+    }
+
+    private void bumpAssignee(TaskSnapshot snapshot) {
+        if (snapshot != null && snapshot.employeeId() != null) {
+            bump(snapshot.employeeId());
+        }
+    }
+
+    private void bump(int employeeId) {
+        byEmployee.computeIfAbsent(employeeId, id -> new AtomicLong()).incrementAndGet();
+    }
+}
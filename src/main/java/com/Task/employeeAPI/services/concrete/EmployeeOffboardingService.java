@@ -0,0 +1,187 @@
+package com.Task.employeeAPI.services.concrete;
+
+import com.Task.employeeAPI.dao.Repository.TaskChangeMarkerRepository;
+import com.Task.employeeAPI.dao.Repository.TaskRepository;
+import com.Task.employeeAPI.dao.Repository.TaskWorkflowRepository;
+import com.Task.employeeAPI.dto.OffboardingStatusDTO;
+import com.Task.employeeAPI.dto.OffboardingStatusDTO.State;
+import com.Task.employeeAPI.events.TaskChangedEvent;
+import com.Task.employeeAPI.events.TaskSnapshot;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Removes a deleted employee's tasks with set-based statements, one chunk of task ids per transaction:
+ * tombstones for the change feed, then the workflow rows and the tasks themselves as bulk deletes. No
+ * transaction or connection is held for longer than one chunk.
+ *
+ * <p>Employees with few tasks are purged in the calling request. Larger ones are handed to a single
+ * background thread, so at most one pool connection is spent on offboarding, and their progress is
+ * available from {@link #findStatus}. There is at most one running job per employee, and finished jobs are
+ * forgotten once they are older than {@code status-ttl}. A purge cut short by a restart is picked up again
+ * on startup.
+ */
+@Slf4j
+@Service
+public class EmployeeOffboardingService {
+
+    private static final class Job {
+        private final int employeeId;
+        private final long totalTasks;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicLong deletedTasks = new AtomicLong();
+        private volatile State state = State.RUNNING;
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+
+        Job(int employeeId, long totalTasks) {
+            this.employeeId = employeeId;
+            this.totalTasks = totalTasks;
+        }
+
+        OffboardingStatusDTO toDto() {
+            return new OffboardingStatusDTO(employeeId, state, totalTasks, deletedTasks.get(), startedAt, finishedAt, error);
+        }
+    }
+
+    private final TaskRepository taskRepository;
+    private final TaskWorkflowRepository taskWorkflowRepository;
+    private final TaskChangeMarkerRepository taskChangeMarkerRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("employee-offboarding").daemon().factory());
+    private final Map<Integer, Job> jobs = new ConcurrentHashMap<>();
+    private final int chunkSize;
+    private final int inlineLimit;
+    private final Duration statusTtl;
+
+    public EmployeeOffboardingService(TaskRepository taskRepository,
+                                      TaskWorkflowRepository taskWorkflowRepository,
+                                      TaskChangeMarkerRepository taskChangeMarkerRepository,
+                                      ApplicationEventPublisher eventPublisher,
+                                      TransactionTemplate transactionTemplate,
+                                      @Value("${employees.offboarding.chunk-size:500}") int chunkSize,
+                                      @Value("${employees.offboarding.inline-limit:500}") int inlineLimit,
+                                      @Value("${employees.offboarding.status-ttl:PT24H}") Duration statusTtl) {
+        this.taskRepository = taskRepository;
+        this.taskWorkflowRepository = taskWorkflowRepository;
+        this.taskChangeMarkerRepository = taskChangeMarkerRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.inlineLimit = inlineLimit;
+        this.statusTtl = statusTtl;
+    }
+
+    /**
+     * Purges the tasks of an employee who is already marked deleted. Returns the job, which is finished
+     * unless the employee had more than the inline limit of tasks.
+     */
+    public OffboardingStatusDTO offboard(int employeeId) {
+        Job job = new Job(employeeId, taskRepository.countByEmployee_Id(employeeId));
+        Job current = register(job);
+        if (current != job) {
+            return current.toDto();
+        }
+        if (job.totalTasks <= inlineLimit) {
+            run(job);
+        } else {
+            worker.execute(() -> run(job));
+        }
+        return job.toDto();
+    }
+
+    // Atomically makes job the employee's job, unless one is already running: returns whichever is current
+    private Job register(Job job) {
+        return jobs.compute(job.employeeId,
+                (employeeId, existing) -> existing != null && existing.state == State.RUNNING ? existing : job);
+    }
+
+    public Optional<OffboardingStatusDTO> findStatus(int employeeId) {
+        return Optional.ofNullable(jobs.get(employeeId)).map(Job::toDto);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterrupted() {
+        for (Integer employeeId : taskRepository.findDeletedEmployeeIdsWithTasks()) {
+            Job job = new Job(employeeId, taskRepository.countByEmployee_Id(employeeId));
+            if (register(job) == job) {
+                worker.execute(() -> run(job));
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${employees.offboarding.eviction-interval:PT1H}",
+            initialDelayString = "${employees.offboarding.eviction-interval:PT1H}")
+    public void evictFinished() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(statusTtl);
+        // Removes an entry only while it still maps to the finished job, never a job registered since
+        jobs.values().removeIf(job -> job.state != State.RUNNING && !job.finishedAt.isAfter(cutoff));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // A chunk is one transaction, so stopping between chunks leaves nothing half-deleted
+        worker.shutdownNow();
+    }
+
+    private void run(Job job) {
+        State outcome = State.FAILED;
+        try {
+            int deleted;
+            do {
+                deleted = deleteChunk(job.employeeId);
+                job.deletedTasks.addAndGet(deleted);
+            } while (deleted == chunkSize && !Thread.currentThread().isInterrupted());
+            if (deleted == chunkSize) {
+                job.error = "Stopped by shutdown, resumed on the next start";
+            } else {
+                outcome = State.DONE;
+            }
+        } catch (RuntimeException e) {
+            log.error("Offboarding of employee {} failed", job.employeeId, e);
+            job.error = e.getMessage();
+        } finally {
+            // finishedAt first: a job seen as finished always has it
+            job.finishedAt = LocalDateTime.now();
+            job.state = outcome;
+        }
+    }
+
+    private int deleteChunk(int employeeId) {
+        Integer deleted = transactionTemplate.execute(status -> {
+            List<TaskSnapshot> tasks = taskRepository.findSnapshotsByEmployeeId(employeeId, Limit.of(chunkSize));
+            if (tasks.isEmpty()) {
+                return 0;
+            }
+            List<Integer> taskIds = tasks.stream().map(TaskSnapshot::id).toList();
+
+            taskChangeMarkerRepository.markDeleted(taskIds, LocalDateTime.now());
+            taskWorkflowRepository.deleteByTaskIdIn(taskIds);
+            taskRepository.deleteByIdIn(taskIds);
+            // Delivered when this chunk commits
+            tasks.forEach(task -> eventPublisher.publishEvent(TaskChangedEvent.deleted(task)));
+            return tasks.size();
+        });
+        return deleted == null ? 0 : deleted;
+    }
+}
@@ -1,22 +1,27 @@
 package com.Task.employeeAPI.services.concrete;
 
-import com.Task.employeeAPI.dao.Entity.Task;
-import com.Task.employeeAPI.dao.Entity.TaskWorkflow;
-import com.Task.employeeAPI.dao.Repository.TaskRepository;
-import com.Task.employeeAPI.dao.Repository.TaskWorkflowRepository;
+import com.Task.employeeAPI.dao.Repository.TaskChangeMarkerRepository;
 import com.Task.employeeAPI.dto.AuthResponseDTO;
+import com.Task.employeeAPI.dto.CursorPageDTO;
 import com.Task.employeeAPI.dto.EmployeeUpdateDTO;
+import com.Task.employeeAPI.events.EmployeeChangedEvent;
 import com.Task.employeeAPI.exceptions.BadRequestException;
 import com.Task.employeeAPI.exceptions.NotFoundException;
+import com.Task.employeeAPI.security.CustomUserDetailsService;
 import com.Task.employeeAPI.security.JwtTokenUtil;
+import com.Task.employeeAPI.security.LoginAttemptThrottle;
 import com.Task.employeeAPI.dao.Entity.Employee;
+import com.Task.employeeAPI.dao.Enums.Role;
 import com.Task.employeeAPI.dao.Repository.EmployeeRepository;
 import com.Task.employeeAPI.dto.EmployeeDTO;
 import com.Task.employeeAPI.dto.EmployeeLoginDTO;
+import com.Task.employeeAPI.mapper.EmployeeDtoMapper;
 import com.Task.employeeAPI.mapper.EmployeeMapper;
 import com.Task.employeeAPI.services.abstraction.IEmployeeService;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -27,6 +32,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -34,13 +40,16 @@ import java.util.List;
 public class EmployeeService implements IEmployeeService {
 
     private final EmployeeRepository employeeRepository;
-    private final TaskRepository taskRepository;
-    private final TaskWorkflowRepository taskWorkflowRepository;
+    private final TaskChangeMarkerRepository taskChangeMarkerRepository;
+    private final EmployeeOffboardingService employeeOffboardingService;
     private final JwtTokenUtil jwtTokenUtil;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
-    private final ModelMapper modelMapper;
+    private final EmployeeDtoMapper employeeDtoMapper;
     private final EmployeeMapper employeeMapper;
+    private final CustomUserDetailsService userDetailsService;
+    private final LoginAttemptThrottle loginAttemptThrottle;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public AuthResponseDTO signup(EmployeeDTO employeeDTO) {
@@ -59,9 +68,10 @@ public class EmployeeService implements IEmployeeService {
                 .build();
 
         employeeRepository.save(employee);
+        eventPublisher.publishEvent(EmployeeChangedEvent.created(employee.getId()));
 
         // Generate JWT using their email (or ID if you want)
-        String token = jwtTokenUtil.generateToken(employee.getEmail());
+        String token = jwtTokenUtil.generateToken(employee);
 
         // Create response object
         AuthResponseDTO.UserInfo userInfo = new AuthResponseDTO.UserInfo(
@@ -75,9 +85,12 @@ public class EmployeeService implements IEmployeeService {
     }
 
 
+    // Not transactional on purpose: no pooled connection is held while BCrypt runs
     @Override
-    @Transactional(readOnly = true)
-    public AuthResponseDTO login(EmployeeLoginDTO employeeLoginDTO) {
+    public AuthResponseDTO login(EmployeeLoginDTO employeeLoginDTO, String clientAddress) {
+        // Throttled attempts are rejected before authenticate() spends a BCrypt verification on them
+        loginAttemptThrottle.checkAllowed(employeeLoginDTO.getEmail(), clientAddress);
+
         try {
             Authentication auth = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(
@@ -91,7 +104,7 @@ public class EmployeeService implements IEmployeeService {
                 throw new com.Task.employeeAPI.exceptions.BadCredentialsException("Invalid email or password");
             }
 
-            String token = jwtTokenUtil.generateToken(employee.getEmail());
+            String token = jwtTokenUtil.generateToken(employee);
 
             AuthResponseDTO.UserInfo userInfo = new AuthResponseDTO.UserInfo(
                     employee.getId(),
@@ -103,6 +116,7 @@ public class EmployeeService implements IEmployeeService {
             return new AuthResponseDTO(token, userInfo);
 
         } catch (AuthenticationException ex) {
+            loginAttemptThrottle.recordFailure(employeeLoginDTO.getEmail(), clientAddress);
             throw new com.Task.employeeAPI.exceptions.BadCredentialsException("Invalid email or password");
         }
     }
@@ -120,10 +134,11 @@ public class EmployeeService implements IEmployeeService {
             throw new BadRequestException("Email or username already exists");
         }
 
-        Employee employee = modelMapper.map(employeeDTO, Employee.class);
+        Employee employee = employeeDtoMapper.toEntity(employeeDTO);
         employee.setPassword(passwordEncoder.encode(employee.getPassword()));
         employeeRepository.save(employee);
-        return modelMapper.map(employee, EmployeeDTO.class);
+        eventPublisher.publishEvent(EmployeeChangedEvent.created(employee.getId()));
+        return employeeDtoMapper.toDto(employee);
     }
 
     @Override
@@ -135,17 +150,20 @@ public class EmployeeService implements IEmployeeService {
             throw new NotFoundException("Employee with ID " + id + " was not found!");
         }
 
-        return modelMapper.map(employee, EmployeeDTO.class);
+        return employeeDtoMapper.toDto(employee);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<EmployeeDTO> findAll() {
-        return employeeRepository
-                .findByIsDeletedFalse()
-                .stream()
-                .map(employee -> modelMapper.map(employee, EmployeeDTO.class))
-                .toList();
+    public CursorPageDTO<EmployeeDTO> findPage(Role role, Integer cursor, int limit, Sort.Direction direction) {
+        Limit fetch = Limit.of(limit + 1);
+        List<Employee> employees = direction == Sort.Direction.DESC
+                ? employeeRepository.findActivePageBefore(cursor == null ? Integer.MAX_VALUE : cursor, role, fetch)
+                : employeeRepository.findActivePageAfter(cursor == null ? 0 : cursor, role, fetch);
+
+        boolean hasNext = employees.size() > limit;
+        List<Employee> page = hasNext ? employees.subList(0, limit) : employees;
+        return new CursorPageDTO<>(employeeDtoMapper.toDtos(page), hasNext ? page.get(limit - 1).getId() : null);
     }
 
     @Override
@@ -154,15 +172,19 @@ public class EmployeeService implements IEmployeeService {
                 .findById(id)
                 .orElseThrow(() -> new NotFoundException("Employee with  ID " + id + " doesn't exist!"));
 
+        // Deleting an already deleted employee changes nothing the statistics count
+        boolean wasActive = !employee.isDeleted();
         employee.setDeleted(true);
-        List<Task> tasks = taskRepository.findByEmployee_id(employee.getId());
-        for (Task task : tasks) {
-            List<TaskWorkflow> workflows = taskWorkflowRepository.findByTask_Id(task.getId());
-            taskWorkflowRepository.deleteAll(workflows);
-            taskRepository.deleteById(task.getId());
-        }
         employeeRepository.save(employee);
-        return modelMapper.map(employee, EmployeeDTO.class);
+        eventPublisher.publishEvent(wasActive
+                ? EmployeeChangedEvent.deleted(employee.getId())
+                : new EmployeeChangedEvent(employee.getId()));
+        // Deleted employees must lose access right away, even with a still-valid token
+        userDetailsService.revoke(employee);
+
+        // Their tasks go in bulk-deleted chunks, in the background when there are many
+        employeeOffboardingService.offboard(employee.getId());
+        return employeeDtoMapper.toDto(employee);
     }
 
     @Override
@@ -180,6 +202,9 @@ public class EmployeeService implements IEmployeeService {
         employee.setName(employeeDTO.getName());
         employee.setSurname(employeeDTO.getSurname());
         employeeRepository.save(employee);
-        return modelMapper.map(employee, EmployeeDTO.class);
+        taskChangeMarkerRepository.markEmployeeTasks(employee.getId(), LocalDateTime.now());
+        userDetailsService.evict(employee.getEmail());
+        eventPublisher.publishEvent(new EmployeeChangedEvent(employee.getId()));
+        return employeeDtoMapper.toDto(employee);
     }
 }
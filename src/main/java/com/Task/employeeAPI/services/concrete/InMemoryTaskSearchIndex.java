@@ -0,0 +1,149 @@
+package com.Task.employeeAPI.services.concrete;
+
+import com.Task.employeeAPI.dao.Repository.TaskRepository;
+import com.Task.employeeAPI.dto.TaskDTO;
+import com.Task.employeeAPI.events.TaskChangedEvent;
+import com.Task.employeeAPI.services.abstraction.ITaskSearchIndex;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * In-process inverted index for databases without full-text search (H2, tests). Each token maps to the ids
+ * of the tasks that contain it. A search intersects the postings of the query terms, starting from the
+ * rarest, and ranks the matches by TF-IDF, so its cost follows the number of matches rather than the table.
+ *
+ * <p>The index is loaded on startup and kept current by committed {@link TaskChangedEvent}s. Status changes
+ * do not touch the text and are skipped.
+ */
+@Service
+@ConditionalOnProperty(name = "tasks.search.backend", havingValue = "memory", matchIfMissing = true)
+public class InMemoryTaskSearchIndex implements ITaskSearchIndex {
+
+    private final TaskRepository taskRepository;
+    private final Object writeLock = new Object();
+
+    // token -> (task id -> occurrences of the token in that task)
+    private final Map<String, Map<Integer, Integer>> postings = new ConcurrentHashMap<>();
+    // task id -> its token counts, so an edit or delete can take the old postings out
+    private final Map<Integer, Map<String, Integer>> documents = new ConcurrentHashMap<>();
+
+    public InMemoryTaskSearchIndex(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    private static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+
+    @Override
+    public List<Integer> search(String query, int offset, int limit) {
+        List<Map<Integer, Integer>> termPostings = new ArrayList<>();
+        for (String term : new LinkedHashSet<>(tokenize(query))) {
+            Map<Integer, Integer> posting = postings.get(term);
+            if (posting == null) {
+                // Every term must match
+                return List.of();
+            }
+            termPostings.add(posting);
+        }
+        if (termPostings.isEmpty()) {
+            return List.of();
+        }
+
+        termPostings.sort(Comparator.comparingInt(Map::size));
+        int totalDocuments = Math.max(1, documents.size());
+        Map<Integer, Double> scores = new HashMap<>();
+        candidates:
+        for (Integer taskId : termPostings.get(0).keySet()) {
+            double score = 0;
+            for (Map<Integer, Integer> posting : termPostings) {
+                Integer occurrences = posting.get(taskId);
+                if (occurrences == null) {
+                    continue candidates;
+                }
+                score += occurrences * Math.log(1.0 + (double) totalDocuments / posting.size());
+            }
+            scores.put(taskId, score);
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Integer, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .skip(offset)
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.before() != null && event.after() != null && event.before().status() != event.after().status()) {
+            return;
+        }
+        synchronized (writeLock) {
+            int taskId = event.taskId();
+            if (event.after() == null) {
+                unindex(taskId);
+            } else {
+                taskRepository.findViewById(taskId).ifPresentOrElse(this::index, () -> unindex(taskId));
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        // Events wait for the load, so none of them can be overwritten by an older row
+        synchronized (writeLock) {
+            postings.clear();
+            documents.clear();
+            try (Stream<TaskDTO> tasks = taskRepository.streamAllViews()) {
+                tasks.forEach(this::index);
+            }
+        }
+    }
+
+    private void index(TaskDTO task) {
+        unindex(task.getId());
+
+        Map<String, Integer> counts = new HashMap<>();
+        Stream.concat(tokenize(task.getTitle()).stream(), tokenize(task.getDescription()).stream())
+                .forEach(token -> counts.merge(token, 1, Integer::sum));
+
+        counts.forEach((token, occurrences) ->
+                postings.computeIfAbsent(token, t -> new ConcurrentHashMap<>()).put(task.getId(), occurrences));
+        documents.put(task.getId(), counts);
+    }
+
+    private void unindex(int taskId) {
+        Map<String, Integer> previous = documents.remove(taskId);
+        if (previous == null) {
+            return;
+        }
+        for (String token : previous.keySet()) {
+            postings.computeIfPresent(token, (t, posting) -> {
+                posting.remove(taskId);
+                return posting.isEmpty() ? null : posting;
+            });
+        }
+    }
+}
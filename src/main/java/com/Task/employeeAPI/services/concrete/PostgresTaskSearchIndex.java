@@ -0,0 +1,36 @@
+package com.Task.employeeAPI.services.concrete;
+
+import com.Task.employeeAPI.services.abstraction.ITaskSearchIndex;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Postgres full-text search: an expression GIN index over the task's {@code tsvector}, queried with
+ * {@code websearch_to_tsquery} and ranked by {@code ts_rank}. The query repeats the indexed expression
+ * exactly, otherwise the planner cannot use the index ({@code idx_tasks_search}, created by the migrations).
+ */
+@Service
+@ConditionalOnProperty(name = "tasks.search.backend", havingValue = "postgres")
+public class PostgresTaskSearchIndex implements ITaskSearchIndex {
+
+    private static final String DOCUMENT = "to_tsvector('english', coalesce(title, '') || ' ' || coalesce(description, ''))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PostgresTaskSearchIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Integer> search(String query, int offset, int limit) {
+        return jdbcTemplate.queryForList("""
+                select id
+                from tasks, websearch_to_tsquery('english', ?) query
+                where %s @@ query
+                order by ts_rank(%s, query) desc, id
+                limit ? offset ?""".formatted(DOCUMENT, DOCUMENT), Integer.class, query, limit, offset);
+    }
+}
@@ -0,0 +1,137 @@
+package com.Task.employeeAPI.services.concrete;
+
+import com.Task.employeeAPI.dao.Repository.ArchivedTaskRepository;
+import com.Task.employeeAPI.dao.Repository.ArchivedTaskWorkflowRepository;
+import com.Task.employeeAPI.dao.Repository.TaskChangeMarkerRepository;
+import com.Task.employeeAPI.dao.Repository.TaskRepository;
+import com.Task.employeeAPI.dao.Repository.TaskWorkflowRepository;
+import com.Task.employeeAPI.dto.CursorPageDTO;
+import com.Task.employeeAPI.dto.TaskDTO;
+import com.Task.employeeAPI.dto.TaskWorkflowDTO;
+import com.Task.employeeAPI.events.TaskChangedEvent;
+import com.Task.employeeAPI.events.TaskSnapshot;
+import com.Task.employeeAPI.exceptions.NotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Keeps {@code tasks} and {@code task_workflow} down to live work. Tasks that are {@code DONE} and whose
+ * workflow history has not moved for the configured age are copied with their workflow rows into
+ * {@code tasks_archive} and {@code task_workflow_archive}, then deleted from the hot tables. Each chunk of
+ * task ids is one transaction of set-based statements, so no lock or connection is held for the whole run.
+ * The chunk's task rows are selected {@code FOR UPDATE SKIP LOCKED}: a task being changed right now is left
+ * for the next run, and no change can reach one between its copy and its delete.
+ *
+ * <p>To the change feed, the board, the statistics and the search index an archived task is a deleted one:
+ * it gets a tombstone and a delete event. The archive has its own read path below.
+ */
+@Slf4j
+@Service
+public class TaskArchiveService {
+
+    private final TaskRepository taskRepository;
+    private final TaskWorkflowRepository taskWorkflowRepository;
+    private final TaskChangeMarkerRepository taskChangeMarkerRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final ArchivedTaskWorkflowRepository archivedTaskWorkflowRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration age;
+    private final int chunkSize;
+
+    public TaskArchiveService(TaskRepository taskRepository,
+                              TaskWorkflowRepository taskWorkflowRepository,
+                              TaskChangeMarkerRepository taskChangeMarkerRepository,
+                              ArchivedTaskRepository archivedTaskRepository,
+                              ArchivedTaskWorkflowRepository archivedTaskWorkflowRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${tasks.archive.age:P90D}") Duration age,
+                              @Value("${tasks.archive.chunk-size:500}") int chunkSize) {
+        this.taskRepository = taskRepository;
+        this.taskWorkflowRepository = taskWorkflowRepository;
+        this.taskChangeMarkerRepository = taskChangeMarkerRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.archivedTaskWorkflowRepository = archivedTaskWorkflowRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.age = age;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.archive.interval:PT1H}", initialDelayString = "${tasks.archive.interval:PT1H}")
+    public void archiveCompleted() {
+        try {
+            int archived = archiveCompletedBefore(LocalDateTime.now().minus(age));
+            if (archived > 0) {
+                log.info("Archived {} completed tasks", archived);
+            }
+        } catch (RuntimeException e) {
+            // Chunks already committed stay archived; the next run continues from there
+            log.error("Task archiving failed", e);
+        }
+    }
+
+    /**
+     * Archives every {@code DONE} task with no workflow activity since {@code cutoff}. Returns how many were moved.
+     */
+    public int archiveCompletedBefore(LocalDateTime cutoff) {
+        int total = 0;
+        int archived;
+        do {
+            archived = archiveChunk(cutoff);
+            total += archived;
+        } while (archived == chunkSize);
+        return total;
+    }
+
+    private int archiveChunk(LocalDateTime cutoff) {
+        Integer archived = transactionTemplate.execute(status -> {
+            List<TaskSnapshot> tasks = taskRepository.findArchivableSnapshots(cutoff, Limit.of(chunkSize));
+            if (tasks.isEmpty()) {
+                return 0;
+            }
+            List<Integer> taskIds = tasks.stream().map(TaskSnapshot::id).toList();
+            LocalDateTime now = LocalDateTime.now();
+
+            archivedTaskRepository.copyFromTasks(taskIds, now);
+            archivedTaskWorkflowRepository.copyFromWorkflows(taskIds);
+            taskChangeMarkerRepository.markDeleted(taskIds, now);
+            taskWorkflowRepository.deleteByTaskIdIn(taskIds);
+            taskRepository.deleteByIdIn(taskIds);
+            // Delivered when this chunk commits
+            tasks.forEach(task -> eventPublisher.publishEvent(TaskChangedEvent.deleted(task)));
+            return tasks.size();
+        });
+        return archived == null ? 0 : archived;
+    }
+
+    public TaskDTO findArchivedTaskById(int id) {
+        return archivedTaskRepository.findViewById(id)
+                .orElseThrow(() -> new NotFoundException("Archived task with id " + id + " was not found!"));
+    }
+
+    public CursorPageDTO<TaskDTO> findArchivedPage(Integer employeeId, Integer cursor, int limit) {
+        // One extra row tells us whether another page exists without a count query
+        List<TaskDTO> tasks = archivedTaskRepository.findPageAfter(cursor == null ? 0 : cursor, employeeId, Limit.of(limit + 1));
+        boolean hasNext = tasks.size() > limit;
+        List<TaskDTO> page = hasNext ? tasks.subList(0, limit) : tasks;
+        return new CursorPageDTO<>(page, hasNext ? page.get(limit - 1).getId() : null);
+    }
+
+    public List<TaskWorkflowDTO> findArchivedWorkflows(int taskId) {
+        if (!archivedTaskRepository.existsById(taskId)) {
+            throw new NotFoundException("Archived task with id " + taskId + " was not found!");
+        }
+        return archivedTaskWorkflowRepository.findViewsByTaskId(taskId);
+    }
+}
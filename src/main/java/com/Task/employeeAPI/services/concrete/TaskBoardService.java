@@ -0,0 +1,219 @@
+package com.Task.employeeAPI.services.concrete;
+
+import com.Task.employeeAPI.dao.Enums.Status;
+import com.Task.employeeAPI.dao.Repository.TaskRepository;
+import com.Task.employeeAPI.dto.TaskBoardDTO;
+import com.Task.employeeAPI.dto.TaskDTO;
+import com.Task.employeeAPI.events.EmployeeChangedEvent;
+import com.Task.employeeAPI.events.TaskChangedEvent;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Materialized Kanban board: task cards bucketed by status, team-wide and per assignee, held in memory.
+ *
+ * <p>Reads copy one set of buckets and never touch the database. Writes come from committed
+ * {@link TaskChangedEvent}s: the changed card is re-read by primary key and moved between buckets.
+ * A periodic rebuild from the database replaces the whole board; changes that commit while a rebuild is
+ * streaming are replayed onto the new board before it is swapped in.
+ *
+ * <p>Cards are read from the database without holding the write lock, which only covers moving them
+ * between buckets. Every read takes a ticket first, and a card is only applied if its ticket is newer than
+ * the one that last wrote that card. A read started later sees at least every commit an earlier one saw, so
+ * a slow read can never put back a card older than the one on the board.
+ */
+@Service
+public class TaskBoardService {
+
+    private final TaskRepository taskRepository;
+    private final Object writeLock = new Object();
+    private final AtomicLong tickets = new AtomicLong();
+
+    private volatile Board board = new Board(0);
+    // Non-null while a rebuild is running: ids changed in the meantime, replayed onto the rebuilt board
+    private Set<Integer> changedDuringRebuild;
+
+    public TaskBoardService(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    private static final class Columns {
+        final Map<Status, ConcurrentSkipListMap<Integer, TaskDTO>> byStatus = new EnumMap<>(Status.class);
+
+        Columns() {
+            // Filled once and never structurally modified, so concurrent reads of the EnumMap are safe
+            for (Status status : Status.values()) {
+                byStatus.put(status, new ConcurrentSkipListMap<>());
+            }
+        }
+
+        TaskBoardDTO toDto() {
+            Map<Status, List<TaskDTO>> columns = new EnumMap<>(Status.class);
+            byStatus.forEach((status, cards) -> columns.put(status, new ArrayList<>(cards.values())));
+            return new TaskBoardDTO(columns);
+        }
+    }
+
+    private static final class Board {
+        final Map<Integer, TaskDTO> cards = new ConcurrentHashMap<>();
+        final Columns team = new Columns();
+        final Map<Integer, Columns> byEmployee = new ConcurrentHashMap<>();
+        // Ticket of the read that last wrote each card; cards not in here date from the read that built the board
+        final Map<Integer, Long> versions = new HashMap<>();
+        final long builtAt;
+
+        Board(long builtAt) {
+            this.builtAt = builtAt;
+        }
+
+        // Writes the card as read under this ticket, or removes it if the read found nothing.
+        // Ignored when the board already holds a newer read of it.
+        void apply(int taskId, long ticket, Optional<TaskDTO> card) {
+            if (ticket <= versions.getOrDefault(taskId, builtAt)) {
+                return;
+            }
+            versions.put(taskId, ticket);
+            card.ifPresentOrElse(this::put, () -> remove(taskId));
+        }
+
+        // Callers hold the write lock, or own a board not yet published. The card is added to its new bucket before it leaves the old one,
+        // so a concurrent read may briefly see it twice but never misses it.
+        void put(TaskDTO card) {
+            TaskDTO previous = cards.put(card.getId(), card);
+            Status status = statusOf(card);
+
+            team.byStatus.get(status).put(card.getId(), card);
+            if (card.getEmployeeId() != null) {
+                byEmployee.computeIfAbsent(card.getEmployeeId(), id -> new Columns())
+                        .byStatus.get(status).put(card.getId(), card);
+            }
+
+            if (previous != null) {
+                Status previousStatus = statusOf(previous);
+                if (previousStatus != status) {
+                    team.byStatus.get(previousStatus).remove(previous.getId());
+                }
+                if (previous.getEmployeeId() != null
+                        && (previousStatus != status || !Objects.equals(previous.getEmployeeId(), card.getEmployeeId()))) {
+                    byEmployee.get(previous.getEmployeeId()).byStatus.get(previousStatus).remove(previous.getId());
+                }
+            }
+        }
+
+        void remove(int taskId) {
+            TaskDTO previous = cards.remove(taskId);
+            if (previous == null) {
+                return;
+            }
+            Status status = statusOf(previous);
+            team.byStatus.get(status).remove(taskId);
+            if (previous.getEmployeeId() != null) {
+                byEmployee.get(previous.getEmployeeId()).byStatus.get(status).remove(taskId);
+            }
+        }
+
+        private static Status statusOf(TaskDTO card) {
+            return card.getStatus() == null ? Status.CREATED : card.getStatus();
+        }
+    }
+
+    public TaskBoardDTO getTeamBoard() {
+        return board.team.toDto();
+    }
+
+    public TaskBoardDTO getEmployeeBoard(int employeeId) {
+        Columns columns = board.byEmployee.get(employeeId);
+        return (columns == null ? new Columns() : columns).toDto();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        taskChanged(event.taskId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        // Cards embed the assignee's name, so reload that employee's cards, all in one read
+        long ticket = tickets.incrementAndGet();
+        List<TaskDTO> cards = taskRepository.findViewsByEmployeeId(event.employeeId());
+        synchronized (writeLock) {
+            for (TaskDTO card : cards) {
+                applyToBoard(card.getId(), ticket, Optional.of(card));
+            }
+        }
+    }
+
+    private void taskChanged(int taskId) {
+        long ticket = tickets.incrementAndGet();
+        Optional<TaskDTO> card = taskRepository.findViewById(taskId);
+        synchronized (writeLock) {
+            applyToBoard(taskId, ticket, card);
+        }
+    }
+
+    // Callers hold the write lock
+    private void applyToBoard(int taskId, long ticket, Optional<TaskDTO> card) {
+        board.apply(taskId, ticket, card);
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.add(taskId);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${tasks.board.rebuild-interval:PT15M}", initialDelayString = "${tasks.board.rebuild-interval:PT15M}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        synchronized (writeLock) {
+            changedDuringRebuild = new HashSet<>();
+        }
+
+        try {
+            Board fresh = new Board(tickets.incrementAndGet());
+            try (Stream<TaskDTO> cards = taskRepository.streamAllViews()) {
+                cards.forEach(fresh::put);
+            }
+
+            // Replay what changed meanwhile, reading outside the lock, until a pass finds nothing new to swap in
+            while (true) {
+                Set<Integer> changed;
+                synchronized (writeLock) {
+                    changed = changedDuringRebuild;
+                    if (changed.isEmpty()) {
+                        changedDuringRebuild = null;
+                        board = fresh;
+                        return;
+                    }
+                    changedDuringRebuild = new HashSet<>();
+                }
+                for (Integer taskId : changed) {
+                    long ticket = tickets.incrementAndGet();
+                    fresh.apply(taskId, ticket, taskRepository.findViewById(taskId));
+                }
+            }
+        } catch (RuntimeException e) {
+            // Keep serving the current board; the next run retries
+            synchronized (writeLock) {
+                changedDuringRebuild = null;
+            }
+            throw e;
+        }
+    }
+}
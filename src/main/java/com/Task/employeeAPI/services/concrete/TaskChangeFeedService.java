@@ -0,0 +1,159 @@
+package com.Task.employeeAPI.services.concrete;
+
+import com.Task.employeeAPI.dao.Entity.TaskChangeMarker;
+import com.Task.employeeAPI.dao.Repository.TaskChangeFeedRepository;
+import com.Task.employeeAPI.dao.Repository.TaskChangeMarkerRepository;
+import com.Task.employeeAPI.dao.Repository.TaskRepository;
+import com.Task.employeeAPI.dto.TaskChangesDTO;
+import com.Task.employeeAPI.dto.TaskDTO;
+import com.Task.employeeAPI.exceptions.BadRequestException;
+import com.Task.employeeAPI.exceptions.GoneException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Delta sync for the boards. Every task change appends a {@code task_change_markers} row, and a poll reads the
+ * rows past the client's cursor, so its cost follows the number of new changes.
+ *
+ * <p>The order of the feed is not the order of the marker ids: ids are handed out at insert time but rows
+ * become visible at commit, so a lower id can commit after a higher one has been read. Markers are written
+ * without a position and a poll stamps every committed one still missing it with the next feed position,
+ * under the lock of the single {@code task_change_feed} row. A marker that commits late therefore gets a
+ * position above every cursor handed out before, whichever instance or transaction wrote it. The cursor is
+ * {@code "<position>:<markerId>"}.
+ *
+ * <p>Markers older than {@code tasks.changes.retention} are purged. A cursor from before the purge gets
+ * 410 Gone, and the client reloads the board with a fresh cursor.
+ */
+@Slf4j
+@Service
+public class TaskChangeFeedService {
+
+    private final TaskChangeMarkerRepository taskChangeMarkerRepository;
+    private final TaskChangeFeedRepository taskChangeFeedRepository;
+    private final TaskRepository taskRepository;
+    private final Duration retention;
+
+    public TaskChangeFeedService(TaskChangeMarkerRepository taskChangeMarkerRepository,
+                                 TaskChangeFeedRepository taskChangeFeedRepository,
+                                 TaskRepository taskRepository,
+                                 @Value("${tasks.changes.retention:P30D}") Duration retention) {
+        this.taskChangeMarkerRepository = taskChangeMarkerRepository;
+        this.taskChangeFeedRepository = taskChangeFeedRepository;
+        this.taskRepository = taskRepository;
+        this.retention = retention;
+    }
+
+    // Everything below seq has been read, and at seq every marker up to id
+    private record Cursor(long seq, int id) {
+
+        static Cursor parse(String value) {
+            int colon = value.indexOf(':');
+            try {
+                return new Cursor(Long.parseLong(value.substring(0, colon)), Integer.parseInt(value.substring(colon + 1)));
+            } catch (IndexOutOfBoundsException | NumberFormatException e) {
+                throw new BadRequestException("Invalid change cursor: " + value);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return seq + ":" + id;
+        }
+    }
+
+    /**
+     * Changes after {@code since}, limited to one assignee when {@code employeeId} is set. Without {@code since}
+     * only the current cursor is returned: take it before loading the board, so nothing between the two is lost.
+     */
+    @Transactional
+    public TaskChangesDTO changesSince(String since, Integer employeeId, int limit) {
+        Cursor cursor = since == null ? null : Cursor.parse(since);
+        long head = sequenceCommitted();
+        if (cursor == null) {
+            return new TaskChangesDTO(List.of(), List.of(), new Cursor(head + 1, 0).toString(), false);
+        }
+
+        // One extra row tells us whether to poll again without a count query
+        List<TaskChangeMarker> markers = employeeId == null
+                ? taskChangeMarkerRepository.findChangesAfter(cursor.seq(), cursor.id(), Limit.of(limit + 1))
+                : taskChangeMarkerRepository.findEmployeeChangesAfter(employeeId, cursor.seq(), cursor.id(), Limit.of(limit + 1));
+        // Checked after the read: a purge that removed rows the read needed is visible by now
+        if (cursor.seq() <= taskChangeFeedRepository.findPurgedSeq()) {
+            throw new GoneException("Change cursor " + since + " has expired, reload the board and start from a new cursor.");
+        }
+        boolean hasMore = markers.size() > limit;
+        markers = markers.subList(0, Math.min(limit, markers.size()));
+
+        Set<Integer> changedIds = new LinkedHashSet<>();
+        Set<Integer> deletedIds = new LinkedHashSet<>();
+        for (TaskChangeMarker marker : markers) {
+            (marker.isDeleted() ? deletedIds : changedIds).add(marker.getTaskId());
+        }
+        changedIds.removeAll(deletedIds);
+
+        List<TaskDTO> updated = new ArrayList<>();
+        if (!changedIds.isEmpty()) {
+            for (TaskDTO task : taskRepository.findViewsByIdIn(changedIds)) {
+                if (employeeId == null || Objects.equals(employeeId, task.getEmployeeId())) {
+                    updated.add(task);
+                }
+                changedIds.remove(task.getId());
+            }
+            // Deleted after the logged change, with its tombstone beyond this batch
+            deletedIds.addAll(changedIds);
+        }
+
+        Cursor next = markers.isEmpty()
+                ? cursor
+                : new Cursor(markers.getLast().getFeedSeq(), markers.getLast().getId());
+        return new TaskChangesDTO(updated, new ArrayList<>(deletedIds), next.toString(), hasMore);
+    }
+
+    /**
+     * Gives every committed marker without a position the next one, and returns the last position handed out.
+     * The counter row stays locked until this transaction commits, so a poll that comes later sees all the
+     * markers stamped before it, and a marker committed meanwhile gets a higher position on the next poll.
+     */
+    private long sequenceCommitted() {
+        if (!taskChangeMarkerRepository.existsByFeedSeqIsNull()) {
+            return taskChangeFeedRepository.findLastSeq();
+        }
+        taskChangeFeedRepository.advance();
+        long seq = taskChangeFeedRepository.findLastSeq();
+        taskChangeMarkerRepository.stampUnsequenced(seq);
+        return seq;
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.changes.purge-interval:PT1H}", initialDelayString = "${tasks.changes.purge-interval:PT1H}")
+    public void purgeExpired() {
+        purgeChangedBefore(LocalDateTime.now().minus(retention));
+    }
+
+    // Deletes by position rather than by time, so every cursor is either fully served or refused with 410
+    @Transactional
+    public int purgeChangedBefore(LocalDateTime cutoff) {
+        Long upTo = taskChangeMarkerRepository.findLastSeqChangedBefore(cutoff);
+        if (upTo == null) {
+            return 0;
+        }
+        taskChangeFeedRepository.advancePurgedSeq(upTo);
+        int purged = taskChangeMarkerRepository.deleteUpToSeq(upTo);
+        if (purged > 0) {
+            log.info("Purged {} task change markers up to feed position {}", purged, upTo);
+        }
+        return purged;
+    }
+}
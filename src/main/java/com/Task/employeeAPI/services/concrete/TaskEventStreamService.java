@@ -0,0 +1,209 @@
+package com.Task.employeeAPI.services.concrete;
+
+import com.Task.employeeAPI.dao.Repository.TaskRepository;
+import com.Task.employeeAPI.dto.TaskDTO;
+import com.Task.employeeAPI.dto.TaskEventDTO;
+import com.Task.employeeAPI.events.TaskChangedEvent;
+import com.Task.employeeAPI.events.TaskSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes committed task changes to connected boards over Server-Sent Events.
+ *
+ * <p>Streams are async servlet responses, so an open stream holds no request thread. Each subscriber has a
+ * bounded buffer, and a virtual thread drains it only while there is something to send. A slow client can
+ * therefore block only its own writer. When a buffer overflows, its pending events are dropped and replaced
+ * by a single {@code resync} event; the client then catches up through the change feed.
+ */
+@Service
+public class TaskEventStreamService {
+
+    private static final String TASK_EVENT = "task";
+    private static final String RESYNC_EVENT = "resync";
+    private static final String CONNECTED_EVENT = "connected";
+
+    private record Message(String name, Object data) {
+        static final Message HEARTBEAT = new Message(null, null);
+        static final Message RESYNC = new Message(RESYNC_EVENT, "");
+
+        SseEmitter.SseEventBuilder toEvent() {
+            return name == null ? SseEmitter.event().comment("keepalive") : SseEmitter.event().name(name).data(data);
+        }
+    }
+
+    private static final class Subscriber {
+        final SseEmitter emitter;
+        // null for the team stream
+        final Integer employeeId;
+        final BlockingQueue<Message> buffer;
+        final AtomicBoolean draining = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter, Integer employeeId, int bufferSize) {
+            this.emitter = emitter;
+            this.employeeId = employeeId;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        boolean wants(TaskChangedEvent event) {
+            return employeeId == null
+                    || isAssignee(event.before())
+                    || isAssignee(event.after());
+        }
+
+        private boolean isAssignee(TaskSnapshot snapshot) {
+            return snapshot != null && Objects.equals(employeeId, snapshot.employeeId());
+        }
+    }
+
+    private final TaskRepository taskRepository;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService writers = Executors.newVirtualThreadPerTaskExecutor();
+    private final Duration timeout;
+    private final int bufferSize;
+    private final Counter resyncs;
+
+    public TaskEventStreamService(TaskRepository taskRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${tasks.events.timeout:PT30M}") Duration timeout,
+                                  @Value("${tasks.events.buffer-size:64}") int bufferSize) {
+        this.taskRepository = taskRepository;
+        this.timeout = timeout;
+        this.bufferSize = bufferSize;
+        this.resyncs = Counter.builder("tasks.events.resyncs")
+                .description("Streams whose buffer overflowed and were told to resync")
+                .register(meterRegistry);
+        Gauge.builder("tasks.events.subscribers", subscribers, Set::size).register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream of task events: every task when {@code employeeId} is {@code null}, otherwise only that
+     * employee's tasks. Clients reconnect when the stream times out.
+     */
+    public SseEmitter subscribe(Integer employeeId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        register(emitter, employeeId);
+        return emitter;
+    }
+
+    public void register(SseEmitter emitter, Integer employeeId) {
+        Subscriber subscriber = new Subscriber(emitter, employeeId, bufferSize);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        // Sent right away so the client knows the stream is live and can catch up from its cursor
+        enqueue(subscriber, new Message(CONNECTED_EVENT, ""));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        Message message = null;
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.wants(event)) {
+                // Loaded once per change, and only when someone is listening for it
+                if (message == null) {
+                    message = new Message(TASK_EVENT, toDto(event));
+                }
+                enqueue(subscriber, message);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.events.heartbeat-interval:PT25S}")
+    public void heartbeat() {
+        // Idle streams would otherwise be cut by proxies, and dead ones would never be noticed
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.buffer.isEmpty()) {
+                enqueue(subscriber, Message.HEARTBEAT);
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    private TaskEventDTO toDto(TaskChangedEvent event) {
+        TaskSnapshot before = event.before();
+        TaskSnapshot after = event.after();
+        if (after == null) {
+            return new TaskEventDTO(TaskEventDTO.Type.DELETED, before.id(), before.status(), null);
+        }
+
+        TaskDTO task = taskRepository.findViewById(after.id()).orElse(null);
+        if (task == null) {
+            // Deleted again before this listener ran
+            return new TaskEventDTO(TaskEventDTO.Type.DELETED, after.id(), after.status(), null);
+        }
+        if (before == null) {
+            return new TaskEventDTO(TaskEventDTO.Type.CREATED, after.id(), null, task);
+        }
+        return before.status() != after.status()
+                ? new TaskEventDTO(TaskEventDTO.Type.STATUS_CHANGED, after.id(), before.status(), task)
+                : new TaskEventDTO(TaskEventDTO.Type.UPDATED, after.id(), null, task);
+    }
+
+    private void enqueue(Subscriber subscriber, Message message) {
+        synchronized (subscriber) {
+            if (!subscriber.buffer.offer(message)) {
+                // Too far behind: what is buffered is already stale, so tell the client to catch up instead
+                subscriber.buffer.clear();
+                subscriber.buffer.offer(Message.RESYNC);
+                resyncs.increment();
+            }
+        }
+        scheduleDrain(subscriber);
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            writers.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Message message;
+            while ((message = subscriber.buffer.poll()) != null) {
+                subscriber.emitter.send(message.toEvent());
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client went away or the stream already completed
+            subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // A message may have arrived between the last poll and clearing the flag
+        if (!subscriber.buffer.isEmpty()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        writers.shutdownNow();
+    }
+}
@@ -0,0 +1,178 @@
+package com.Task.employeeAPI.services.concrete;
+
+import com.Task.employeeAPI.dao.Repository.TaskRepository;
+import com.Task.employeeAPI.dao.Repository.TaskWorkflowRepository;
+import com.Task.employeeAPI.dto.EmployeeDTO;
+import com.Task.employeeAPI.dto.TaskDTO;
+import com.Task.employeeAPI.dto.TaskWorkflowDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Streams tasks and workflow history straight from a database cursor to the response body.
+ * Rows are projected to DTOs (nothing is attached to the session), written as they are read and flushed in batches,
+ * so memory stays flat however many rows there are.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskExportService {
+
+    public enum Format {
+        NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+        CSV(MediaType.parseMediaType("text/csv"), "csv");
+
+        private final MediaType mediaType;
+        private final String extension;
+
+        Format(MediaType mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    private static final int FLUSH_EVERY = 500;
+
+    private static final List<String> TASK_COLUMNS = List.of(
+            "id", "title", "description", "priority", "status",
+            "employee_id", "employee_name", "employee_surname", "employee_email");
+
+    private static final List<String> WORKFLOW_COLUMNS = List.of(
+            "id", "task_id", "status", "updated_by_id", "last_updated");
+
+    private final TaskRepository taskRepository;
+    private final TaskWorkflowRepository taskWorkflowRepository;
+    private final ObjectMapper objectMapper;
+
+    // Runs on the async thread that writes the response, so the transaction (and the cursor) lives exactly as long as the stream
+    @Transactional(readOnly = true)
+    public void exportTasks(Format format, OutputStream out) throws IOException {
+        try (Stream<TaskDTO> tasks = taskRepository.streamAllViews()) {
+            if (format == Format.NDJSON) {
+                writeNdjson(tasks, out);
+            } else {
+                writeCsv(tasks, TASK_COLUMNS, TaskExportService::taskRow, out);
+            }
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportWorkflows(Format format, OutputStream out) throws IOException {
+        try (Stream<TaskWorkflowDTO> workflows = taskWorkflowRepository.streamAllViews()) {
+            if (format == Format.NDJSON) {
+                writeNdjson(workflows, out);
+            } else {
+                writeCsv(workflows, WORKFLOW_COLUMNS, TaskExportService::workflowRow, out);
+            }
+        }
+    }
+
+    private <T> void writeNdjson(Stream<T> rows, OutputStream out) throws IOException {
+        ObjectWriter rowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            // The servlet container owns the response stream
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            Iterator<T> iterator = rows.iterator();
+            for (int written = 1; iterator.hasNext(); written++) {
+                rowWriter.writeValue(generator, iterator.next());
+                generator.writeRaw('\n');
+                if (written % FLUSH_EVERY == 0) {
+                    generator.flush();
+                }
+            }
+        }
+    }
+
+    private <T> void writeCsv(Stream<T> rows, List<String> header, RowFormatter<T> formatter, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writeCsvLine(writer, header.toArray());
+
+        Iterator<T> iterator = rows.iterator();
+        for (int written = 1; iterator.hasNext(); written++) {
+            writeCsvLine(writer, formatter.format(iterator.next()));
+            if (written % FLUSH_EVERY == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+    }
+
+    private static Object[] taskRow(TaskDTO task) {
+        EmployeeDTO employee = task.getEmployee();
+        return new Object[]{
+                task.getId(), task.getTitle(), task.getDescription(), task.getPriority(), task.getStatus(),
+                task.getEmployeeId(),
+                employee == null ? null : employee.getName(),
+                employee == null ? null : employee.getSurname(),
+                employee == null ? null : employee.getEmail()
+        };
+    }
+
+    private static Object[] workflowRow(TaskWorkflowDTO workflow) {
+        return new Object[]{
+                workflow.getId(), workflow.getTaskId(), workflow.getStatus(),
+                workflow.getUpdatedById(), workflow.getLastUpdated()
+        };
+    }
+
+    private static void writeCsvLine(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] instanceof String text) {
+                writer.write(escapeCsv(neutralizeFormula(text)));
+            } else if (values[i] != null) {
+                writer.write(escapeCsv(values[i].toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    // Free text (titles, descriptions, names) comes from users. A spreadsheet would run a cell that starts like a
+    // formula, so such cells get a leading apostrophe and are shown as text (OWASP CSV injection).
+    private static String neutralizeFormula(String value) {
+        if (value.isEmpty() || "=+-@\t\r".indexOf(value.charAt(0)) < 0) {
+            return value;
+        }
+        return "'" + value;
+    }
+
+    // RFC 4180: quote fields containing separators, quotes or line breaks and double embedded quotes
+    private static String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    @FunctionalInterface
+    private interface RowFormatter<T> {
+        Object[] format(T row);
+    }
+}
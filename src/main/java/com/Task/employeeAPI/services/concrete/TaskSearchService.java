@@ -0,0 +1,52 @@
+package com.Task.employeeAPI.services.concrete;
+
+import com.Task.employeeAPI.dao.Repository.TaskRepository;
+import com.Task.employeeAPI.dto.CursorPageDTO;
+import com.Task.employeeAPI.dto.TaskDTO;
+import com.Task.employeeAPI.exceptions.BadRequestException;
+import com.Task.employeeAPI.services.abstraction.ITaskSearchIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class TaskSearchService {
+
+    private final ITaskSearchIndex taskSearchIndex;
+    private final TaskRepository taskRepository;
+
+    /**
+     * One page of tasks matching {@code query}, best match first. Results are ranked rather than ordered by id,
+     * so the cursor is the offset of the next page.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<TaskDTO> search(String query, Integer cursor, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search query must not be blank!");
+        }
+
+        int offset = cursor == null ? 0 : cursor;
+        List<Integer> ids = taskSearchIndex.search(query.trim(), offset, limit + 1);
+        boolean hasNext = ids.size() > limit;
+        List<Integer> page = hasNext ? ids.subList(0, limit) : ids;
+        if (page.isEmpty()) {
+            return new CursorPageDTO<>(List.of(), null);
+        }
+
+        Map<Integer, Integer> rank = new HashMap<>();
+        for (int i = 0; i < page.size(); i++) {
+            rank.put(page.get(i), i);
+        }
+        // Cards for the whole page in one select, put back into rank order
+        List<TaskDTO> tasks = taskRepository.findViewsByIdIn(page).stream()
+                .sorted(Comparator.comparingInt(task -> rank.get(task.getId())))
+                .toList();
+        return new CursorPageDTO<>(tasks, hasNext ? offset + limit : null);
+    }
+}
@@ -2,31 +2,45 @@ package com.Task.employeeAPI.services.concrete;
 
 import com.Task.employeeAPI.dao.Entity.Employee;
 import com.Task.employeeAPI.dao.Entity.Task;
+import com.Task.employeeAPI.dao.Entity.TaskChangeMarker;
 import com.Task.employeeAPI.dao.Entity.TaskWorkflow;
+import com.Task.employeeAPI.dao.Enums.Priority;
 import com.Task.employeeAPI.dao.Enums.Role;
 import com.Task.employeeAPI.dao.Enums.Status;
 import com.Task.employeeAPI.dao.Repository.EmployeeRepository;
+import com.Task.employeeAPI.dao.Repository.TaskChangeMarkerRepository;
 import com.Task.employeeAPI.dao.Repository.TaskRepository;
 import com.Task.employeeAPI.dao.Repository.TaskWorkflowRepository;
-import com.Task.employeeAPI.dto.EmployeeDTO;
+import com.Task.employeeAPI.dto.CursorPageDTO;
 import com.Task.employeeAPI.dto.NotificationDTO;
 import com.Task.employeeAPI.dto.TaskCreateDTO;
 import com.Task.employeeAPI.dto.TaskDTO;
+import com.Task.employeeAPI.events.TaskChangedEvent;
+import com.Task.employeeAPI.events.TaskSnapshot;
 import com.Task.employeeAPI.exceptions.BadRequestException;
 import com.Task.employeeAPI.exceptions.NotFoundException;
+import com.Task.employeeAPI.mapper.TaskDtoMapper;
 //import com.Task.employeeAPI.notification.NotificationProducer;
 import com.Task.employeeAPI.notification.NotificationProducer;
 import com.Task.employeeAPI.security.CustomUserDetails;
 import com.Task.employeeAPI.services.abstraction.ITaskService;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -36,9 +50,11 @@ public class TaskService implements ITaskService {
     private final EmployeeRepository employeeRepository;
     private final EmployeeService employeeService;
     private final TaskWorkflowRepository taskWorkflowRepository;
-    private final ModelMapper modelMapper;
+    private final TaskChangeMarkerRepository taskChangeMarkerRepository;
+    private final TaskDtoMapper taskDtoMapper;
     private final EmailService emailService;
     private final NotificationProducer notificationProducer;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     @Override
@@ -61,20 +77,7 @@ public class TaskService implements ITaskService {
         }
 
         // Find logged-in user (updatedBy)
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        Object principal = authentication.getPrincipal();
-
-        String email;
-
-        if (principal instanceof CustomUserDetails customUser) {
-            email = customUser.getEmail();
-        } else if (principal instanceof org.springframework.security.core.userdetails.User springUser) {
-            email = springUser.getUsername();
-        } else {
-            throw new IllegalStateException("Unsupported principal type: " + principal.getClass());
-        }
-
-        Employee updatedBy = employeeRepository.findByEmailAndIsDeletedFalse(email);
+        Employee updatedBy = findCurrentEmployee();
 
         // 🔥 MANUAL MAPPING — NO MODELMAPPER FOR INPUT
         Task task = new Task();
@@ -93,21 +96,101 @@ public class TaskService implements ITaskService {
         taskWorkflow.setLastUpdated(LocalDateTime.now());
         taskWorkflow.setUpdatedBy(updatedBy);
         taskWorkflowRepository.save(taskWorkflow);
+        taskChangeMarkerRepository.save(TaskChangeMarker.changed(task));
+        eventPublisher.publishEvent(TaskChangedEvent.created(TaskSnapshot.of(task)));
+
+        notificationProducer.sendNotification(
+                new NotificationDTO(
+                        employee.getEmail(),
+                        "You were assigned with new task",
+                        task.getDescription()
+                )
+        );
+
+        return taskDtoMapper.toDto(task);
+    }
+
+    /**
+     * Creates a whole import in one transaction. The assignees are checked with one {@code IN} query and the
+     * tasks and their first workflow rows are flushed as JDBC batches (ids come from pooled sequences), so the
+     * cost per task is a row in a batch rather than two lookups and two round trips.
+     */
+    @Override
+    @Transactional
+    public List<TaskDTO> createTasks(List<TaskCreateDTO> taskDTOs) {
+        if (taskDTOs == null || taskDTOs.isEmpty())
+            throw new BadRequestException("Task batch must not be empty!");
+
+        Set<Integer> employeeIds = new HashSet<>();
+        for (TaskCreateDTO taskDTO : taskDTOs) {
+            if (taskDTO == null || taskDTO.getEmployeeId() == null)
+                throw new BadRequestException("Employee ID must not be null!");
+            employeeIds.add(taskDTO.getEmployeeId());
+        }
+
+        Map<Integer, Employee> employees = employeeRepository.findByIdInAndIsDeletedFalse(employeeIds).stream()
+                .collect(Collectors.toMap(Employee::getId, Function.identity()));
+        for (Integer employeeId : employeeIds) {
+            Employee employee = employees.get(employeeId);
+            if (employee == null)
+                throw new NotFoundException("Employee with ID " + employeeId + " doesn't exist!");
+            if (employee.getRole() == Role.HEAD_MANAGER)
+                throw new BadRequestException("Cannot assign tasks to HEAD_MANAGER.");
+        }
 
-//        // Send Kafka notification
-//        notificationProducer.sendNotification(
-//                new NotificationDTO(
-//                        employee.getEmail(),
-//                        "You were assigned with new task",
-//                        task.getDescription()
-//                )
-//        );
+        Employee updatedBy = findCurrentEmployee();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Task> tasks = new ArrayList<>(taskDTOs.size());
+        for (TaskCreateDTO taskDTO : taskDTOs) {
+            Task task = new Task();
+            task.setTitle(taskDTO.getTitle());
+            task.setDescription(taskDTO.getDescription());
+            task.setPriority(taskDTO.getPriority());
+            task.setEmployee(employees.get(taskDTO.getEmployeeId()));
+            task.setStatus(Status.CREATED);
+            tasks.add(task);
+        }
+        taskRepository.saveAll(tasks);
+
+        List<TaskWorkflow> workflows = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            TaskWorkflow taskWorkflow = new TaskWorkflow();
+            taskWorkflow.setTask(task);
+            taskWorkflow.setStatus(Status.CREATED);
+            taskWorkflow.setLastUpdated(now);
+            taskWorkflow.setUpdatedBy(updatedBy);
+            workflows.add(taskWorkflow);
+        }
+        taskWorkflowRepository.saveAll(workflows);
+        taskChangeMarkerRepository.markChanged(tasks.stream().map(Task::getId).toList(), now);
+
+        List<TaskDTO> created = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            eventPublisher.publishEvent(TaskChangedEvent.created(TaskSnapshot.of(task)));
+            Employee employee = task.getEmployee();
+            created.add(new TaskDTO(task.getId(), task.getTitle(), task.getDescription(), task.getPriority(),
+                    task.getStatus(), employee.getId(), employee.getName(), employee.getSurname(),
+                    employee.getEmail(), employee.getRole()));
+        }
+        return created;
+    }
+
+    private Employee findCurrentEmployee() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Object principal = authentication.getPrincipal();
 
-        // 🔥 OUTPUT: use ModelMapper ONLY for response
-        TaskDTO dto = modelMapper.map(task, TaskDTO.class);
-        dto.setEmployee(modelMapper.map(employee, EmployeeDTO.class));
+        String email;
 
-        return dto;
+        if (principal instanceof CustomUserDetails customUser) {
+            email = customUser.getEmail();
+        } else if (principal instanceof org.springframework.security.core.userdetails.User springUser) {
+            email = springUser.getUsername();
+        } else {
+            throw new IllegalStateException("Unsupported principal type: " + principal.getClass());
+        }
+
+        return employeeRepository.findByEmailAndIsDeletedFalse(email);
     }
 
 
@@ -115,55 +198,46 @@ public class TaskService implements ITaskService {
     @Override
     @Transactional(readOnly = true)
     public TaskDTO findTaskById(Integer id) {
-        Task task = taskRepository.findById(id)
+        return taskRepository.findViewById(id)
                 .orElseThrow(() -> new NotFoundException("Task with id " + id + " was not found!"));
-
-        TaskDTO dto = modelMapper.map(task, TaskDTO.class);
-        dto.setEmployee(modelMapper.map(task.getEmployee(), EmployeeDTO.class));
-        return dto;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<TaskDTO> findAll() {
-        return taskRepository.findAll()
-                .stream()
-                .map(task -> {
-                    TaskDTO dto = modelMapper.map(task, TaskDTO.class);
-                    if (task.getEmployee() != null) {
-                        dto.setEmployee(modelMapper.map(task.getEmployee(), EmployeeDTO.class));
-                    }
-                    return dto;
-                })
-                .toList();
+    public CursorPageDTO<TaskDTO> findPage(Status status, Priority priority, Integer employeeId,
+                                           Integer cursor, int limit, Sort.Direction direction) {
+        // One extra row tells us whether another page exists without a count query
+        Limit fetch = Limit.of(limit + 1);
+        List<TaskDTO> tasks = direction == Sort.Direction.DESC
+                ? taskRepository.findPageBefore(cursor == null ? Integer.MAX_VALUE : cursor, status, priority, employeeId, fetch)
+                : taskRepository.findPageAfter(cursor == null ? 0 : cursor, status, priority, employeeId, fetch);
+
+        boolean hasNext = tasks.size() > limit;
+        List<TaskDTO> page = hasNext ? tasks.subList(0, limit) : tasks;
+        return new CursorPageDTO<>(page, hasNext ? page.get(limit - 1).getId() : null);
     }
 
 
     @Transactional(readOnly = true)
     public List<TaskDTO> findAllEmployeeTasks(Integer id) {
-        return taskRepository.findByEmployee_id(id)
-                .stream()
-                .map(task -> {
-                    TaskDTO dto = modelMapper.map(task, TaskDTO.class);
-                    if (task.getEmployee() != null) {
-                        dto.setEmployee(modelMapper.map(task.getEmployee(), EmployeeDTO.class));
-                    }
-                    return dto;
-                })
-                .toList();
+        return taskRepository.findViewsByEmployeeId(id);
     }
 
 
     @Override
+    @Transactional
     public TaskDTO deleteTaskById(Integer id) {
         Task task = taskRepository
                 .findById(id)
                 .orElseThrow(() -> new NotFoundException("Task with ID " + id + " doesn't exist!"));
 
-        List<TaskWorkflow> workflows = taskWorkflowRepository.findByTask_Id(task.getId());
-        taskWorkflowRepository.deleteAll(workflows);
-        taskRepository.delete(task);
-        return modelMapper.map(task, TaskDTO.class);
+        // Unbounded: every history row must go, or the task's delete fails on fk_task_workflow_task
+        // Both as bulk deletes: nothing in the persistence context still references the task at flush
+        taskWorkflowRepository.deleteByTaskIdIn(List.of(task.getId()));
+        taskRepository.deleteByIdIn(List.of(task.getId()));
+        taskChangeMarkerRepository.save(TaskChangeMarker.deleted(task));
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(TaskSnapshot.of(task)));
+        return taskDtoMapper.toDto(task);
     }
 
     @Override
@@ -178,24 +252,27 @@ public class TaskService implements ITaskService {
 
         // Employee stays the same — no need to re-query DB
         Employee employee = task.getEmployee();
+        TaskSnapshot before = TaskSnapshot.of(task);
 
         task.setTitle(taskDTO.getTitle());
         task.setDescription(taskDTO.getDescription());
         task.setPriority(taskDTO.getPriority());
 
         taskRepository.save(task);
+        taskChangeMarkerRepository.save(TaskChangeMarker.changed(task));
+        eventPublisher.publishEvent(new TaskChangedEvent(before, TaskSnapshot.of(task)));
+
+        if (employee != null) {
+            notificationProducer.sendNotification(
+                    new NotificationDTO(
+                            employee.getEmail(),
+                            "Task updated",
+                            "Task '" + task.getTitle() + "' was updated."
+                    )
+            );
+        }
 
-//        notificationProducer.sendNotification(
-//                new NotificationDTO(
-//                        employee.getEmail(),
-//                        "Task updated",
-//                        "Task '" + task.getTitle() + "' was updated."
-//                )
-//        );
-
-        TaskDTO dto = modelMapper.map(task, TaskDTO.class);
-        dto.setEmployee(modelMapper.map(employee, EmployeeDTO.class));
-        return dto;
+        return taskDtoMapper.toDto(task);
     }
 
 }
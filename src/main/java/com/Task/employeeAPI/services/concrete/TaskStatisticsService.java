@@ -0,0 +1,142 @@
+package com.Task.employeeAPI.services.concrete;
+
+import com.Task.employeeAPI.dao.Enums.Priority;
+import com.Task.employeeAPI.dao.Enums.Status;
+import com.Task.employeeAPI.dao.Repository.EmployeeRepository;
+import com.Task.employeeAPI.dao.Repository.TaskRepository;
+import com.Task.employeeAPI.dto.TaskStatsDTO;
+import com.Task.employeeAPI.events.EmployeeChangedEvent;
+import com.Task.employeeAPI.events.TaskChangedEvent;
+import com.Task.employeeAPI.events.TaskSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Task counts by status, priority and assignee, and the number of active employees, kept in memory so the
+ * management overview costs O(1) and never queries the database.
+ *
+ * <p>Counters are lock-free {@link LongAdder}s moved by committed {@link TaskChangedEvent}s and
+ * {@link EmployeeChangedEvent}s. A periodic {@code GROUP BY} recount and employee count replace them wholesale, which corrects any drift: writes that bypass the services,
+ * other instances, or events that land while a recount is being swapped in.
+ */
+@Service
+public class TaskStatisticsService {
+
+    private final TaskRepository taskRepository;
+    private final EmployeeRepository employeeRepository;
+    private final AtomicReference<Counters> counters = new AtomicReference<>(new Counters());
+    private final Counter drift;
+
+    public TaskStatisticsService(TaskRepository taskRepository, EmployeeRepository employeeRepository, MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.employeeRepository = employeeRepository;
+        this.drift = Counter.builder("tasks.stats.drift")
+                .description("Per-status task count corrections applied by reconciliation")
+                .register(meterRegistry);
+    }
+
+    private static final class Counters {
+        final LongAdder total = new LongAdder();
+        final LongAdder activeEmployees = new LongAdder();
+        final Map<Status, LongAdder> byStatus = new EnumMap<>(Status.class);
+        final Map<Priority, LongAdder> byPriority = new EnumMap<>(Priority.class);
+        final ConcurrentHashMap<Integer, LongAdder> byAssignee = new ConcurrentHashMap<>();
+
+        Counters() {
+            // Enum maps are filled up front and never structurally modified afterwards, so concurrent reads are safe
+            for (Status status : Status.values()) {
+                byStatus.put(status, new LongAdder());
+            }
+            for (Priority priority : Priority.values()) {
+                byPriority.put(priority, new LongAdder());
+            }
+        }
+
+        void add(TaskSnapshot task, long delta) {
+            total.add(delta);
+            if (task.status() != null) {
+                byStatus.get(task.status()).add(delta);
+            }
+            if (task.priority() != null) {
+                byPriority.get(task.priority()).add(delta);
+            }
+            if (task.employeeId() != null) {
+                byAssignee.computeIfAbsent(task.employeeId(), id -> new LongAdder()).add(delta);
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        Counters current = counters.get();
+        if (event.before() != null) {
+            current.add(event.before(), -1);
+        }
+        if (event.after() != null) {
+            current.add(event.after(), 1);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        counters.get().activeEmployees.add(event.activeDelta());
+    }
+
+    public TaskStatsDTO getStats() {
+        Counters current = counters.get();
+
+        Map<Status, Long> byStatus = new EnumMap<>(Status.class);
+        current.byStatus.forEach((status, count) -> byStatus.put(status, count.sum()));
+
+        Map<Priority, Long> byPriority = new EnumMap<>(Priority.class);
+        current.byPriority.forEach((priority, count) -> byPriority.put(priority, count.sum()));
+
+        Map<Integer, Long> byAssignee = new LinkedHashMap<>();
+        current.byAssignee.forEach((employeeId, count) -> {
+            long sum = count.sum();
+            if (sum != 0) {
+                byAssignee.put(employeeId, sum);
+            }
+        });
+
+        return new TaskStatsDTO(
+                current.total.sum(),
+                current.activeEmployees.sum(),
+                byStatus,
+                byPriority,
+                byAssignee
+        );
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${tasks.stats.reconcile-interval:PT5M}", initialDelayString = "${tasks.stats.reconcile-interval:PT5M}")
+    @Transactional(readOnly = true)
+    public void reconcile() {
+        Counters fresh = new Counters();
+        for (TaskRepository.TaskCount row : taskRepository.countByStatusPriorityAndEmployee()) {
+            fresh.add(new TaskSnapshot(0, row.getStatus(), row.getPriority(), row.getEmployeeId()), row.getCount());
+        }
+        fresh.activeEmployees.add(employeeRepository.countByIsDeletedFalse());
+
+        Counters previous = counters.getAndSet(fresh);
+        // Every task has exactly one status, so this counts both missed creates/deletes and missed moves
+        long corrected = 0;
+        for (Status status : Status.values()) {
+            corrected += Math.abs(fresh.byStatus.get(status).sum() - previous.byStatus.get(status).sum());
+        }
+        drift.increment(corrected);
+    }
+}
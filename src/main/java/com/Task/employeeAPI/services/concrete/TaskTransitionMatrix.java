@@ -0,0 +1,145 @@
+package com.Task.employeeAPI.services.concrete;
+
+import com.Task.employeeAPI.dao.Enums.Role;
+import com.Task.employeeAPI.dao.Enums.Status;
+
+/**
+ * The task workflow as a precomputed table of verdicts indexed by (current status, requested status, role).
+ * The allowed moves are declared once below; every other cell is filled with the reason it is refused. A lookup
+ * is one array read, with no allocation, so the single and the batch status paths share it.
+ *
+ * <p>A caller with several roles is looked up under the highest of them, which makes {@code HEAD_MANAGER}
+ * decisive, as it was for the old rules.
+ */
+public final class TaskTransitionMatrix {
+
+    public enum Verdict {
+        ALLOWED(null, false),
+        ALLOWED_NOTIFY_ASSIGNEE(null, true),
+        CREATED_REQUESTED("Cannot set task to status CREATED!"),
+        INVALID_IN_PROGRESS("Invalid transition to IN_PROGRESS."),
+        RESOLVED_REQUIRES_IN_PROGRESS("Task must be IN_PROGRESS to be set to RESOLVED."),
+        RESOLVED_BY_HEAD("Only employees can set task to RESOLVED, heads cannot."),
+        DONE_REQUIRES_RESOLVED("Task must be RESOLVED to be set to DONE."),
+        DONE_BY_NON_HEAD("Only HEAD_MANAGER can mark task as DONE.");
+
+        private final String message;
+        private final boolean notifiesAssignee;
+
+        Verdict(String message) {
+            this(message, false);
+        }
+
+        Verdict(String message, boolean notifiesAssignee) {
+            this.message = message;
+            this.notifiesAssignee = notifiesAssignee;
+        }
+
+        public boolean isAllowed() {
+            return message == null;
+        }
+
+        // The assignee is told about the move, so the task must have a recipient address
+        public boolean notifiesAssignee() {
+            return notifiesAssignee;
+        }
+
+        public String message() {
+            return message;
+        }
+    }
+
+    private static final Status[] STATUSES = Status.values();
+    private static final Role[] ROLES = Role.values();
+    private static final int ROLE_COUNT = ROLES.length;
+    private static final int NON_HEAD = Role.maskOf(Role.EMPLOYEE, Role.HR, Role.HR_MANAGER);
+    private static final int HEAD = Role.HEAD_MANAGER.mask();
+
+    private static final Verdict[] CELLS = new Verdict[STATUSES.length * STATUSES.length * ROLE_COUNT];
+    // The one status each (requested status, role) may be reached from, or null where it is never allowed
+    private static final Status[] SOURCES = new Status[STATUSES.length * ROLE_COUNT];
+
+    static {
+        allow(Status.CREATED, Status.IN_PROGRESS, NON_HEAD, Verdict.ALLOWED);
+        allow(Status.IN_PROGRESS, Status.RESOLVED, NON_HEAD, Verdict.ALLOWED);
+        allow(Status.RESOLVED, Status.IN_PROGRESS, HEAD, Verdict.ALLOWED_NOTIFY_ASSIGNEE);
+        allow(Status.RESOLVED, Status.DONE, HEAD, Verdict.ALLOWED_NOTIFY_ASSIGNEE);
+
+        // A refused move whose status pair some role may make is refused for the role, otherwise for the status
+        for (Status current : STATUSES) {
+            for (Status requested : STATUSES) {
+                boolean pairAllowed = false;
+                for (Role role : ROLES) {
+                    pairAllowed |= CELLS[index(current, requested, role.ordinal())] != null;
+                }
+                Verdict refusal = pairAllowed ? roleRefusal(requested) : statusRefusal(requested);
+                for (Role role : ROLES) {
+                    int index = index(current, requested, role.ordinal());
+                    if (CELLS[index] == null) {
+                        CELLS[index] = refusal;
+                    }
+                }
+            }
+        }
+    }
+
+    private TaskTransitionMatrix() {
+    }
+
+    /**
+     * The status a task must be in for the caller to move it to {@code requested}, or {@code null} if no status
+     * allows that move. Every allowed move has a single source, so a status change can be written as
+     * {@code update ... where status = source} without reading the task first.
+     */
+    public static Status sourceOf(Status requested, int roleMask) {
+        return SOURCES[requested.ordinal() * ROLE_COUNT + roleOf(roleMask)];
+    }
+
+    public static Verdict verdict(Status current, Status requested, Role role) {
+        return CELLS[index(current, requested, role.ordinal())];
+    }
+
+    // Looks the caller up under the highest role in the mask; no role at all counts as EMPLOYEE
+    public static Verdict verdict(Status current, Status requested, int roleMask) {
+        return CELLS[index(current, requested, roleOf(roleMask))];
+    }
+
+    private static int roleOf(int roleMask) {
+        return 31 - Integer.numberOfLeadingZeros(roleMask | 1);
+    }
+
+    private static int index(Status current, Status requested, int role) {
+        return (current.ordinal() * STATUSES.length + requested.ordinal()) * ROLE_COUNT + role;
+    }
+
+    private static void allow(Status current, Status requested, int roleMask, Verdict verdict) {
+        for (Role role : ROLES) {
+            if ((roleMask & role.mask()) != 0) {
+                CELLS[index(current, requested, role.ordinal())] = verdict;
+                int source = requested.ordinal() * ROLE_COUNT + role.ordinal();
+                if (SOURCES[source] != null) {
+                    throw new IllegalStateException("Second source for " + requested + " by " + role + ": " + current);
+                }
+                SOURCES[source] = current;
+            }
+        }
+    }
+
+    private static Verdict statusRefusal(Status requested) {
+        return switch (requested) {
+            case CREATED -> Verdict.CREATED_REQUESTED;
+            case IN_PROGRESS -> Verdict.INVALID_IN_PROGRESS;
+            case RESOLVED -> Verdict.RESOLVED_REQUIRES_IN_PROGRESS;
+            case DONE -> Verdict.DONE_REQUIRES_RESOLVED;
+        };
+    }
+
+    private static Verdict roleRefusal(Status requested) {
+        return switch (requested) {
+            case CREATED -> Verdict.CREATED_REQUESTED;
+            case IN_PROGRESS -> Verdict.INVALID_IN_PROGRESS;
+            case RESOLVED -> Verdict.RESOLVED_BY_HEAD;
+            case DONE -> Verdict.DONE_BY_NON_HEAD;
+        };
+    }
+}
@@ -0,0 +1,117 @@
+package com.Task.employeeAPI.services.concrete;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Maintains the monthly partitions of {@code task_workflow} on Postgres (see {@code V4__partition_task_workflow.sql}).
+ * Each run creates the partitions for the current month and the next {@code premake-months}, so inserts never
+ * fall into the default partition, and applies retention: months that ended more than {@code retention-months}
+ * ago are detached, leaving a standalone table out of every query, or dropped. A month is only expired once
+ * none of its rows belongs to a live task, that is once all its tasks have been archived or deleted (both
+ * remove the task's workflow rows). With H2 the table is a plain one and this service is not created.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "tasks.workflow.partitioning", havingValue = "postgres")
+public class TaskWorkflowPartitionService {
+
+    public enum RetentionAction { DETACH, DROP }
+
+    static final String PARTITION_PREFIX = "task_workflow_";
+    private static final DateTimeFormatter PARTITION_MONTH = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int premakeMonths;
+    private final int retentionMonths;
+    private final RetentionAction retentionAction;
+
+    public TaskWorkflowPartitionService(JdbcTemplate jdbcTemplate,
+                                        @Value("${tasks.workflow.partitions.premake-months:3}") int premakeMonths,
+                                        @Value("${tasks.workflow.partitions.retention-months:0}") int retentionMonths,
+                                        @Value("${tasks.workflow.partitions.retention-action:DETACH}") RetentionAction retentionAction) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.premakeMonths = premakeMonths;
+        this.retentionMonths = retentionMonths;
+        this.retentionAction = retentionAction;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${tasks.workflow.partitions.maintenance-interval:PT24H}",
+            initialDelayString = "${tasks.workflow.partitions.maintenance-interval:PT24H}")
+    public void maintain() {
+        try {
+            maintain(YearMonth.now());
+        } catch (RuntimeException e) {
+            // Partitions are made months ahead, so a failed run is retried well before they are needed
+            log.error("task_workflow partition maintenance failed", e);
+        }
+    }
+
+    public void maintain(YearMonth current) {
+        for (int i = 0; i <= premakeMonths; i++) {
+            jdbcTemplate.queryForList("select task_workflow_create_partition(?)", Date.valueOf(current.plusMonths(i).atDay(1)));
+        }
+        if (retentionMonths <= 0) {
+            return;
+        }
+
+        YearMonth oldestKept = current.minusMonths(retentionMonths);
+        for (String partition : findPartitions()) {
+            Optional<YearMonth> month = monthOf(partition);
+            if (month.isEmpty() || !month.get().isBefore(oldestKept)) {
+                continue;
+            }
+            if (holdsLiveTasks(partition)) {
+                log.info("Keeping task_workflow partition {}: some of its tasks are not archived yet", partition);
+            } else {
+                expire(partition);
+            }
+        }
+    }
+
+    private List<String> findPartitions() {
+        return jdbcTemplate.queryForList("""
+                select c.relname
+                from pg_inherits i join pg_class c on c.oid = i.inhrelid
+                where i.inhparent = 'task_workflow'::regclass""", String.class);
+    }
+
+    private boolean holdsLiveTasks(String partition) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "select exists (select 1 from \"" + partition + "\" w join tasks t on t.id = w.task_id)", Boolean.class));
+    }
+
+    private void expire(String partition) {
+        if (retentionAction == RetentionAction.DROP) {
+            jdbcTemplate.execute("drop table \"" + partition + "\"");
+        } else {
+            jdbcTemplate.execute("alter table task_workflow detach partition \"" + partition + "\"");
+        }
+        log.info("{} task_workflow partition {}", retentionAction == RetentionAction.DROP ? "Dropped" : "Detached", partition);
+    }
+
+    // Only the monthly partitions carry a month; the default partition never expires
+    static Optional<YearMonth> monthOf(String partition) {
+        if (!partition.startsWith(PARTITION_PREFIX)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(YearMonth.parse(partition.substring(PARTITION_PREFIX.length()), PARTITION_MONTH));
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -1,39 +1,94 @@
 package com.Task.employeeAPI.services.concrete;
 
+import com.Task.employeeAPI.dao.Enums.Role;
 import com.Task.employeeAPI.dao.Enums.Status;
+import com.Task.employeeAPI.dao.Repository.TaskChangeMarkerRepository;
 import com.Task.employeeAPI.dao.Repository.TaskWorkflowRepository;
-import com.Task.employeeAPI.dto.NotificationDTO;
 import com.Task.employeeAPI.exceptions.BadRequestException;
+import com.Task.employeeAPI.exceptions.ConflictException;
 import com.Task.employeeAPI.exceptions.NotFoundException;
 import com.Task.employeeAPI.dao.Entity.Employee;
 import com.Task.employeeAPI.dao.Entity.Task;
+import com.Task.employeeAPI.dao.Entity.TaskChangeMarker;
 import com.Task.employeeAPI.dao.Entity.TaskWorkflow;
 import com.Task.employeeAPI.dao.Repository.EmployeeRepository;
 import com.Task.employeeAPI.dao.Repository.TaskRepository;
+import com.Task.employeeAPI.dto.NotificationDTO;
+import com.Task.employeeAPI.dto.TaskStatusResultDTO;
 import com.Task.employeeAPI.dto.TaskWorkflowDTO;
+import com.Task.employeeAPI.events.TaskChangedEvent;
+import com.Task.employeeAPI.events.TaskSnapshot;
+import com.Task.employeeAPI.mapper.TaskWorkflowDtoMapper;
 //import com.Task.employeeAPI.notification.NotificationProducer;
 import com.Task.employeeAPI.notification.NotificationProducer;
 import com.Task.employeeAPI.security.CustomUserDetails;
 import com.Task.employeeAPI.payload.TaskWorkflowPayload;
 import com.Task.employeeAPI.services.abstraction.ITaskWorkflowService;
-import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import com.Task.employeeAPI.services.concrete.TaskTransitionMatrix.Verdict;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 public class TaskWorkflowService implements ITaskWorkflowService {
     private final TaskWorkflowRepository taskWorkflowRepository;
+    private final TaskChangeMarkerRepository taskChangeMarkerRepository;
     private final EmployeeRepository employeeRepository;
     private final TaskRepository taskRepository;
     private final TaskService taskService;
-    private final ModelMapper modelMapper;
+    private final TaskWorkflowDtoMapper taskWorkflowDtoMapper;
     private final NotificationProducer notificationProducer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final Counter conflicts;
+    private final Counter exhausted;
+
+    public TaskWorkflowService(TaskWorkflowRepository taskWorkflowRepository,
+                               TaskChangeMarkerRepository taskChangeMarkerRepository,
+                               EmployeeRepository employeeRepository,
+                               TaskRepository taskRepository,
+                               TaskService taskService,
+                               TaskWorkflowDtoMapper taskWorkflowDtoMapper,
+                               NotificationProducer notificationProducer,
+                               ApplicationEventPublisher eventPublisher,
+                               TransactionTemplate transactionTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${tasks.transitions.max-attempts:3}") int maxAttempts) {
+        this.taskWorkflowRepository = taskWorkflowRepository;
+        this.taskChangeMarkerRepository = taskChangeMarkerRepository;
+        this.employeeRepository = employeeRepository;
+        this.taskRepository = taskRepository;
+        this.taskService = taskService;
+        this.taskWorkflowDtoMapper = taskWorkflowDtoMapper;
+        this.notificationProducer = notificationProducer;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.maxAttempts = maxAttempts;
+        this.conflicts = Counter.builder("tasks.transitions.conflicts")
+                .description("Status changes whose compare-and-set lost to a concurrent change and were retried")
+                .register(meterRegistry);
+        this.exhausted = Counter.builder("tasks.transitions.exhausted")
+                .description("Status changes refused after losing every attempt")
+                .register(meterRegistry);
+    }
 
     @Override
     public List<TaskWorkflowDTO> getAllWorkflowsByTaskId(Integer id) {
@@ -43,11 +98,9 @@ public class TaskWorkflowService implements ITaskWorkflowService {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Task with id " + id + " was not found!"));
 
-        boolean isHead = userDetails.getAuthorities().stream()
-                .anyMatch(auth -> auth.getAuthority().equals("ROLE_HEAD_MANAGER"));
+        boolean isHead = userDetails.hasRole(Role.HEAD_MANAGER);
 
-        boolean isHR = userDetails.getAuthorities().stream()
-                .anyMatch(auth -> auth.getAuthority().equals("ROLE_HR_MANAGER"));
+        boolean isHR = userDetails.hasRole(Role.HR_MANAGER);
 
         boolean isOwner = task.getEmployee().getId() == userDetails.getId();
 
@@ -55,100 +108,188 @@ public class TaskWorkflowService implements ITaskWorkflowService {
             throw new BadRequestException("You are not authorized to view this task's workflows.");
         }
 
-        // Map and return
-        return taskWorkflowRepository.findByTask_Id(id)
-                .stream()
-                .map(taskWorkflow -> modelMapper.map(taskWorkflow, TaskWorkflowDTO.class))
-                .toList();
+        // Bounded by the task's creation so Postgres only reads the partitions since then. The day before is
+        // included: a batch import dates its first workflow rows a moment before its tasks' created_at.
+        List<TaskWorkflow> workflows = task.getCreatedAt() == null
+                ? taskWorkflowRepository.findByTask_Id(id)
+                : taskWorkflowRepository.findByTask_IdAndLastUpdatedGreaterThanEqual(id, task.getCreatedAt().toLocalDate().minusDays(1).atStartOfDay());
+        return taskWorkflowDtoMapper.toDtos(workflows);
     }
 
 
+    /**
+     * Applies one status change without row locks or a read beforehand. Every allowed move has a single status
+     * it starts from, so each attempt writes it as {@code update ... where id = ? and status = ?} (and, below
+     * HEAD_MANAGER, {@code and employee_id = ?}), which returns the fields the history and the event need,
+     * together with the history row and the change marker, in one transaction. Only when the update matches
+     * nothing is the task read: to report why the move is refused, or, if it is allowed against the task as it
+     * is now, to try again after a concurrent change.
+     */
     @Override
     public TaskWorkflowPayload setStatus(TaskWorkflowPayload taskWorkflowPayload) {
-        Task task = taskRepository.findById(taskWorkflowPayload.getTaskId())
-                .orElseThrow(() -> new NotFoundException("Task with id " + taskWorkflowPayload.getTaskId() + " was not found!"));
-        Status currentStatus = task.getStatus();
-        Status requestedStatus = taskWorkflowPayload.getStatus();
-
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+        CustomUserDetails userDetails = currentUser();
+        for (int attempt = 1; ; attempt++) {
+            TaskChangedEvent changed = transactionTemplate.execute(status -> tryTransition(taskWorkflowPayload, userDetails));
+            if (changed != null) {
+                eventPublisher.publishEvent(changed);
+                return taskWorkflowPayload;
+            }
+            if (attempt >= maxAttempts) {
+                exhausted.increment();
+                throw new ConflictException("Task " + taskWorkflowPayload.getTaskId() + " is being changed concurrently, try again.");
+            }
+            conflicts.increment();
+        }
+    }
 
-        boolean isHead = userDetails.getAuthorities().stream()
-                .anyMatch(auth -> auth.getAuthority().equals("ROLE_HEAD_MANAGER"));
+    // One compare-and-set attempt: the event of the change, or null if a concurrent change won
+    private TaskChangedEvent tryTransition(TaskWorkflowPayload taskWorkflowPayload, CustomUserDetails userDetails) {
+        Integer taskId = taskWorkflowPayload.getTaskId();
+        Status requestedStatus = taskWorkflowPayload.getStatus();
+        Status from = taskId == null || requestedStatus == null
+                ? null
+                : TaskTransitionMatrix.sourceOf(requestedStatus, userDetails.getRoleMask());
+        Integer assigneeId = userDetails.hasRole(Role.HEAD_MANAGER) ? null : userDetails.getId();
 
-        if (requestedStatus == Status.CREATED) {
-            throw new BadRequestException("Cannot set task to status CREATED!");
+        Optional<TaskSnapshot> moved = from == null
+                ? Optional.empty()
+                : taskRepository.moveStatus(taskId, assigneeId, from, requestedStatus);
+        if (moved.isEmpty()) {
+            Task task = taskRepository.findById(taskId)
+                    .orElseThrow(() -> new NotFoundException("Task with id " + taskId + " was not found!"));
+            checkTransition(task, task.getStatus(), requestedStatus, userDetails);
+            return null;
         }
 
-        if (!isHead && task.getEmployee().getId() != userDetails.getId()) {
-            throw new BadRequestException("Cannot manipulate another user's task!");
+        TaskSnapshot after = moved.get();
+        if (TaskTransitionMatrix.verdict(from, requestedStatus, userDetails.getRoleMask()).notifiesAssignee()) {
+            // Thrown after the update, which the rollback undoes
+            Employee assignee = after.employeeId() == null ? null : employeeRepository.findById(after.employeeId()).orElse(null);
+            if (assignee == null || assignee.getEmail() == null || assignee.getEmail().isBlank()) {
+                throw new BadRequestException("Cannot send notification—no recipient email on task " + taskId);
+            }
+            notificationProducer.sendNotification(reviewed(assignee, requestedStatus));
         }
+        // The caller is known from the token and the task from the update; references are enough for the keys
+        LocalDateTime now = LocalDateTime.now();
+        Employee employee = employeeRepository.getReferenceById(userDetails.getId());
+        taskWorkflowRepository.save(newWorkflow(taskRepository.getReferenceById(taskId), requestedStatus, employee, now));
+        taskChangeMarkerRepository.save(TaskChangeMarker.changed(taskId, after.employeeId(), now));
 
-        if (requestedStatus == Status.IN_PROGRESS) {
-            if (currentStatus == Status.CREATED && !isHead) {
-                // Employee starting work — allowed
-            } else if (currentStatus == Status.RESOLVED && isHead) {
+        return new TaskChangedEvent(new TaskSnapshot(taskId, from, after.priority(), after.employeeId()), after);
+    }
 
-                String recipient = task.getEmployee().getEmail();
-                if (recipient == null || recipient.isBlank()) {
-                    throw new BadRequestException("Cannot send notification—no recipient email on task " + task.getId());
-                }
+    /**
+     * Applies a multi-select board move. Every item is checked against the same rules as {@link #setStatus},
+     * with one select for all the tasks and a reference to the caller, and written with the same
+     * compare-and-set. An item whose task was changed concurrently since the select is not applied and is
+     * reported with {@code updated=false}, like a refused item; neither stops the others. The history rows
+     * of the applied moves are flushed as one JDBC batch at commit.
+     */
+    @Override
+    @Transactional
+    public List<TaskStatusResultDTO> setStatuses(List<TaskWorkflowPayload> payloads) {
+        CustomUserDetails userDetails = currentUser();
+        Set<Integer> taskIds = payloads.stream()
+                .map(TaskWorkflowPayload::getTaskId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Integer, Task> tasks = taskRepository.findWithEmployeeByIdIn(taskIds).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        // The caller is known from the token, as in setStatus; a reference is enough for the foreign key
+        Employee employee = employeeRepository.getReferenceById(userDetails.getId());
+        LocalDateTime now = LocalDateTime.now();
 
-//                notificationProducer.sendNotification(new NotificationDTO(
-//                        task.getEmployee().getEmail(),
-//                        "Task reviewed",
-//                        "Your task has been marked as IN_PROGRESS by your manager."
-//                ));
+        // Status of each task as this batch has left it; the loaded entities are never modified
+        Map<Integer, Status> statuses = new HashMap<>();
+        tasks.values().forEach(task -> statuses.put(task.getId(), task.getStatus()));
 
-            } else {
-                throw new BadRequestException("Invalid transition to IN_PROGRESS.");
+        List<TaskStatusResultDTO> results = new ArrayList<>(payloads.size());
+        List<TaskWorkflow> workflows = new ArrayList<>();
+        List<TaskChangedEvent> events = new ArrayList<>();
+        for (TaskWorkflowPayload payload : payloads) {
+            Task task = payload.getTaskId() == null ? null : tasks.get(payload.getTaskId());
+            if (task == null) {
+                results.add(new TaskStatusResultDTO(payload.getTaskId(), null, false,
+                        "Task with id " + payload.getTaskId() + " was not found!"));
+                continue;
             }
-        }
-
-        if (requestedStatus == Status.RESOLVED) {
-            if (currentStatus != Status.IN_PROGRESS) {
-                throw new BadRequestException("Task must be IN_PROGRESS to be set to RESOLVED.");
+            Status current = statuses.get(task.getId());
+            Verdict verdict;
+            try {
+                verdict = checkTransition(task, current, payload.getStatus(), userDetails);
+            } catch (BadRequestException e) {
+                results.add(new TaskStatusResultDTO(task.getId(), current, false, e.getMsg()));
+                continue;
             }
-            if (isHead) {
-                throw new BadRequestException("Only employees can set task to RESOLVED, heads cannot.");
+            if (taskRepository.updateStatusIfCurrent(task.getId(), current, payload.getStatus()) == 0) {
+                conflicts.increment();
+                results.add(new TaskStatusResultDTO(task.getId(), current, false,
+                        "Task " + task.getId() + " is being changed concurrently, try again."));
+                continue;
             }
+
+            statuses.put(task.getId(), payload.getStatus());
+            workflows.add(newWorkflow(task, payload.getStatus(), employee, now));
+            if (verdict.notifiesAssignee()) {
+                notificationProducer.sendNotification(reviewed(task.getEmployee(), payload.getStatus()));
+            }
+            TaskSnapshot before = TaskSnapshot.of(task);
+            events.add(new TaskChangedEvent(
+                    new TaskSnapshot(before.id(), current, before.priority(), before.employeeId()),
+                    new TaskSnapshot(before.id(), payload.getStatus(), before.priority(), before.employeeId())));
+            results.add(new TaskStatusResultDTO(task.getId(), payload.getStatus(), true, null));
         }
 
+        taskWorkflowRepository.saveAll(workflows);
+        if (!workflows.isEmpty()) {
+            taskChangeMarkerRepository.markChanged(workflows.stream().map(workflow -> workflow.getTask().getId()).toList(), now);
+        }
+        events.forEach(eventPublisher::publishEvent);
+        return results;
+    }
 
-        if (requestedStatus == Status.DONE) {
-            if (currentStatus != Status.RESOLVED) {
-                throw new BadRequestException("Task must be RESOLVED to be set to DONE.");
-            }
-            if (!isHead) {
-                throw new BadRequestException("Only HEAD_MANAGER can mark task as DONE.");
-            }
+    private Verdict checkTransition(Task task, Status currentStatus, Status requestedStatus, CustomUserDetails userDetails) {
+        if (requestedStatus == null) {
+            throw new BadRequestException("Status must not be null!");
+        }
+
+        if (!userDetails.hasRole(Role.HEAD_MANAGER) && task.getEmployee().getId() != userDetails.getId()) {
+            throw new BadRequestException("Cannot manipulate another user's task!");
+        }
 
+        Verdict verdict = TaskTransitionMatrix.verdict(currentStatus, requestedStatus, userDetails.getRoleMask());
+        if (!verdict.isAllowed()) {
+            throw new BadRequestException(verdict.message());
+        }
+
+        if (verdict.notifiesAssignee()) {
             String recipient = task.getEmployee().getEmail();
             if (recipient == null || recipient.isBlank()) {
                 throw new BadRequestException("Cannot send notification—no recipient email on task " + task.getId());
             }
-
-//            notificationProducer.sendNotification(new NotificationDTO(
-//                    recipient,
-//                    "Task reviewed",
-//                    "Your task has been marked as DONE by your manager."
-//            ));
         }
+        return verdict;
+    }
 
-        Employee employee = employeeRepository.findByEmailAndIsDeletedFalse(userDetails.getEmail());
-
-        TaskWorkflow updatedTaskWorkflow = new TaskWorkflow();
-        updatedTaskWorkflow.setStatus(requestedStatus);
-        updatedTaskWorkflow.setLastUpdated(LocalDateTime.now());
-        updatedTaskWorkflow.setUpdatedBy(employee);
-        updatedTaskWorkflow.setTask(task);
-        taskWorkflowRepository.save(updatedTaskWorkflow);
-
-        task.setStatus(requestedStatus);
+    // Queued when the surrounding transaction commits
+    private static NotificationDTO reviewed(Employee assignee, Status status) {
+        return new NotificationDTO(assignee.getEmail(), "Task reviewed",
+                "Your task has been marked as " + status + " by your manager.");
+    }
 
-        taskRepository.save(task);
+    private static TaskWorkflow newWorkflow(Task task, Status status, Employee updatedBy, LocalDateTime now) {
+        TaskWorkflow taskWorkflow = new TaskWorkflow();
+        taskWorkflow.setStatus(status);
+        taskWorkflow.setLastUpdated(now);
+        taskWorkflow.setUpdatedBy(updatedBy);
+        taskWorkflow.setTask(task);
+        return taskWorkflow;
+    }
 
-        return taskWorkflowPayload;
+    private static CustomUserDetails currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return (CustomUserDetails) authentication.getPrincipal();
     }
 
 }
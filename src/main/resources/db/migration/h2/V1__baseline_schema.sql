@@ -0,0 +1,92 @@
+-- H2 (tests and local runs) gets the current schema in one step. task_workflow is a single table and, with no
+-- partial indexes in H2, the active-email index is a composite one.
+CREATE SEQUENCE employees_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE tasks_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE task_workflow_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE employees (
+    id integer NOT NULL,
+    name varchar(255),
+    surname varchar(255),
+    is_deleted boolean NOT NULL,
+    email varchar(255),
+    password varchar(255),
+    role varchar(255),
+    CONSTRAINT employees_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE tasks (
+    id integer NOT NULL,
+    title varchar(255),
+    description varchar(255),
+    priority varchar(255),
+    status varchar(255),
+    employee_id integer,
+    created_at timestamp(6),
+    CONSTRAINT tasks_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE task_workflow (
+    id integer NOT NULL,
+    status varchar(255),
+    last_updated timestamp(6),
+    employee_id integer,
+    task_id integer,
+    CONSTRAINT task_workflow_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_task_workflow_task FOREIGN KEY (task_id) REFERENCES tasks (id),
+    CONSTRAINT fk_task_workflow_employee FOREIGN KEY (employee_id) REFERENCES employees (id)
+);
+
+CREATE TABLE task_change_markers (
+    id integer GENERATED BY DEFAULT AS IDENTITY,
+    task_id integer NOT NULL,
+    employee_id integer,
+    deleted boolean NOT NULL,
+    changed_at timestamp(6) NOT NULL,
+    feed_seq bigint,
+    CONSTRAINT task_change_markers_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE task_change_feed (
+    id integer NOT NULL,
+    last_seq bigint NOT NULL,
+    purged_seq bigint NOT NULL,
+    CONSTRAINT task_change_feed_pkey PRIMARY KEY (id)
+);
+INSERT INTO task_change_feed (id, last_seq, purged_seq) VALUES (1, 0, 0);
+
+CREATE TABLE tasks_archive (
+    id integer NOT NULL,
+    title varchar(255),
+    description varchar(255),
+    priority varchar(255),
+    status varchar(255),
+    employee_id integer,
+    archived_at timestamp(6) NOT NULL,
+    CONSTRAINT tasks_archive_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE task_workflow_archive (
+    id integer NOT NULL,
+    status varchar(255),
+    last_updated timestamp(6),
+    employee_id integer,
+    task_id integer NOT NULL,
+    CONSTRAINT task_workflow_archive_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_employees_email_active ON employees (email, is_deleted);
+CREATE INDEX idx_employees_is_deleted_id ON employees (is_deleted, id);
+CREATE INDEX idx_employees_role_id ON employees (role, id);
+-- H2 keys every secondary index by the row id too, so this orders like (employee_id, id) in Postgres. On the
+-- single column it backs fk_tasks_employee below; H2 only reuses an exact match and would otherwise add an
+-- index of its own for the foreign key that the planner then prefers
+CREATE INDEX idx_tasks_employee_id_id ON tasks (employee_id);
+ALTER TABLE tasks ADD CONSTRAINT fk_tasks_employee FOREIGN KEY (employee_id) REFERENCES employees (id);
+CREATE INDEX idx_tasks_status_id ON tasks (status, id);
+CREATE INDEX idx_tasks_priority_id ON tasks (priority, id);
+CREATE INDEX idx_task_workflow_task_id_last_updated ON task_workflow (task_id, last_updated);
+CREATE INDEX idx_task_change_markers_feed_seq_id ON task_change_markers (feed_seq, id);
+CREATE INDEX idx_task_change_markers_employee_id_feed_seq_id ON task_change_markers (employee_id, feed_seq, id);
+CREATE INDEX idx_tasks_archive_employee_id_id ON tasks_archive (employee_id, id);
+CREATE INDEX idx_task_workflow_archive_task_id ON task_workflow_archive (task_id);
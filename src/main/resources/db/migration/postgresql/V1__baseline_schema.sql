@@ -0,0 +1,54 @@
+-- The tables as Hibernate's ddl-auto used to create them. Databases it created are baselined at version 0 and
+-- run every migration, so each one only creates or changes what is missing. task_workflow is created
+-- partitioned by V4.
+CREATE TABLE IF NOT EXISTS employees (
+    id integer NOT NULL,
+    name varchar(255),
+    surname varchar(255),
+    is_deleted boolean NOT NULL,
+    email varchar(255),
+    password varchar(255),
+    role varchar(255),
+    CONSTRAINT employees_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS tasks (
+    id integer NOT NULL,
+    title varchar(255),
+    description varchar(255),
+    priority varchar(255),
+    status varchar(255),
+    employee_id integer,
+    created_at timestamp(6),
+    CONSTRAINT tasks_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_tasks_employee FOREIGN KEY (employee_id) REFERENCES employees (id)
+);
+
+CREATE TABLE IF NOT EXISTS task_change_markers (
+    id integer GENERATED BY DEFAULT AS IDENTITY,
+    task_id integer NOT NULL,
+    employee_id integer,
+    deleted boolean NOT NULL,
+    changed_at timestamp(6) NOT NULL,
+    CONSTRAINT task_change_markers_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS tasks_archive (
+    id integer NOT NULL,
+    title varchar(255),
+    description varchar(255),
+    priority varchar(255),
+    status varchar(255),
+    employee_id integer,
+    archived_at timestamp(6) NOT NULL,
+    CONSTRAINT tasks_archive_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS task_workflow_archive (
+    id integer NOT NULL,
+    status varchar(255),
+    last_updated timestamp(6),
+    employee_id integer,
+    task_id integer NOT NULL,
+    CONSTRAINT task_workflow_archive_pkey PRIMARY KEY (id)
+);
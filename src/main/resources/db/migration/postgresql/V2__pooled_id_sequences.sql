@@ -0,0 +1,24 @@
+-- Moves the ids of employees, tasks and task_workflow from IDENTITY columns to the pooled sequences the
+-- entities now use. Hibernate takes the block of 50 ids that ends at each nextval, so a new sequence is
+-- set to the current max id. On a fresh database the tables have no identity and only the sequences are made.
+DO $$
+DECLARE
+    target record;
+BEGIN
+    FOR target IN
+        SELECT * FROM (VALUES ('employees', 'employees_seq'),
+                              ('tasks', 'tasks_seq'),
+                              ('task_workflow', 'task_workflow_seq')) AS t (table_name, sequence_name)
+    LOOP
+        IF to_regclass(target.sequence_name) IS NULL THEN
+            EXECUTE format('CREATE SEQUENCE %I START WITH 1 INCREMENT BY 50', target.sequence_name);
+            IF to_regclass(target.table_name) IS NOT NULL THEN
+                EXECUTE format('SELECT setval(%L, GREATEST(COALESCE(MAX(id), 0), 1)) FROM %I',
+                               target.sequence_name, target.table_name);
+                -- The old identity would hand out ids from inside the blocks Hibernate reserves
+                EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP IDENTITY IF EXISTS', target.table_name);
+            END IF;
+        END IF;
+    END LOOP;
+END
+$$;
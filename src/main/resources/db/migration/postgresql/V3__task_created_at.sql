@@ -0,0 +1,11 @@
+-- Creation time of a task, the lower bound of its workflow history. Rows from before the column existed take
+-- their first workflow row's time.
+DO $$
+BEGIN
+    IF to_regclass('tasks') IS NOT NULL AND NOT EXISTS (
+            SELECT 1 FROM information_schema.columns WHERE table_name = 'tasks' AND column_name = 'created_at') THEN
+        ALTER TABLE tasks ADD COLUMN created_at timestamp(6);
+        UPDATE tasks t SET created_at = (SELECT min(w.last_updated) FROM task_workflow w WHERE w.task_id = t.id);
+    END IF;
+END
+$$;
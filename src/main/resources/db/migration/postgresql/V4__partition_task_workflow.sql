@@ -0,0 +1,61 @@
+-- task_workflow is range-partitioned by month on last_updated. Postgres wants the partition key in the primary
+-- key, so it is (id, last_updated); ids stay unique through task_workflow_seq. The maintenance job creates the
+-- months ahead and applies retention; the default partition only catches rows outside every month.
+CREATE OR REPLACE FUNCTION task_workflow_create_partition(month date) RETURNS void AS $$
+DECLARE
+    from_month date := date_trunc('month', month);
+BEGIN
+    EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF task_workflow FOR VALUES FROM (%L) TO (%L)',
+                   'task_workflow_' || to_char(from_month, 'YYYY_MM'), from_month, from_month + interval '1 month');
+END
+$$ LANGUAGE plpgsql;
+
+-- Converts an unpartitioned task_workflow once, copying its rows into the monthly partitions
+DO $$
+DECLARE
+    month date;
+    last_month date := date_trunc('month', now()) + interval '3 months';
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_class WHERE oid = to_regclass('task_workflow') AND relkind = 'p') THEN
+        RETURN;
+    END IF;
+    IF to_regclass('task_workflow') IS NOT NULL THEN
+        ALTER TABLE task_workflow RENAME TO task_workflow_unpartitioned;
+        DROP INDEX IF EXISTS idx_task_workflow_task_id;
+    END IF;
+
+    CREATE TABLE task_workflow (
+        id integer NOT NULL,
+        status varchar(255),
+        last_updated timestamp(6) NOT NULL,
+        employee_id integer,
+        task_id integer,
+        CONSTRAINT pk_task_workflow PRIMARY KEY (id, last_updated)
+    ) PARTITION BY RANGE (last_updated);
+    CREATE TABLE task_workflow_default PARTITION OF task_workflow DEFAULT;
+
+    month := date_trunc('month', now());
+    IF to_regclass('task_workflow_unpartitioned') IS NOT NULL THEN
+        SELECT coalesce(date_trunc('month', min(last_updated)), month) INTO month FROM task_workflow_unpartitioned;
+    END IF;
+    WHILE month <= last_month LOOP
+        PERFORM task_workflow_create_partition(month);
+        month := month + interval '1 month';
+    END LOOP;
+
+    IF to_regclass('task_workflow_unpartitioned') IS NOT NULL THEN
+        INSERT INTO task_workflow (id, status, last_updated, employee_id, task_id)
+        SELECT id, status, coalesce(last_updated, '-infinity'), employee_id, task_id FROM task_workflow_unpartitioned;
+        DROP TABLE task_workflow_unpartitioned;
+    END IF;
+
+    -- Created on the parent, so every partition gets its own copy
+    CREATE INDEX idx_task_workflow_task_id ON task_workflow (task_id);
+    IF to_regclass('tasks') IS NOT NULL THEN
+        ALTER TABLE task_workflow ADD CONSTRAINT fk_task_workflow_task FOREIGN KEY (task_id) REFERENCES tasks (id);
+    END IF;
+    IF to_regclass('employees') IS NOT NULL THEN
+        ALTER TABLE task_workflow ADD CONSTRAINT fk_task_workflow_employee FOREIGN KEY (employee_id) REFERENCES employees (id);
+    END IF;
+END
+$$;
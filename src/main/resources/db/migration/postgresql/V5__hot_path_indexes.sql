@@ -0,0 +1,25 @@
+-- Indexes behind the queries every request runs, plus the ones the entities used to declare for ddl-auto.
+
+-- Login and principal lookups (findByEmailAndIsDeletedFalse): only active employees are ever looked up by
+-- email, so deleted rows stay out of the index
+CREATE INDEX IF NOT EXISTS idx_employees_email_active ON employees (email) WHERE is_deleted = false;
+CREATE INDEX IF NOT EXISTS idx_employees_is_deleted_id ON employees (is_deleted, id);
+CREATE INDEX IF NOT EXISTS idx_employees_role_id ON employees (role, id);
+
+-- findByEmployee_id and the assignee-filtered keyset pages
+CREATE INDEX IF NOT EXISTS idx_tasks_employee_id_id ON tasks (employee_id, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_status_id ON tasks (status, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_priority_id ON tasks (priority, id);
+-- Full-text search; the expression must match PostgresTaskSearchIndex.DOCUMENT exactly
+CREATE INDEX IF NOT EXISTS idx_tasks_search ON tasks
+    USING gin (to_tsvector('english', coalesce(title, '') || ' ' || coalesce(description, '')));
+
+-- findByTask_Id and the history lookups bounded by the task's creation: (task_id, last_updated) answers both,
+-- and the archiver's "no activity since" check, from the index alone. Created on the parent, so every
+-- partition gets its own copy.
+DROP INDEX IF EXISTS idx_task_workflow_task_id;
+CREATE INDEX IF NOT EXISTS idx_task_workflow_task_id_last_updated ON task_workflow (task_id, last_updated);
+
+CREATE INDEX IF NOT EXISTS idx_task_change_markers_employee_id_id ON task_change_markers (employee_id, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_archive_employee_id_id ON tasks_archive (employee_id, id);
+CREATE INDEX IF NOT EXISTS idx_task_workflow_archive_task_id ON task_workflow_archive (task_id);
@@ -0,0 +1,18 @@
+-- The change feed reads task_change_markers alone, in the order of a position handed out once each marker is
+-- committed (TaskChangeFeedService). Existing markers all sit at position 0, before any cursor issued from now
+-- on; cursors of the old "<workflowId>.<markerId>" form are refused and clients take a new one.
+ALTER TABLE task_change_markers ADD COLUMN IF NOT EXISTS feed_seq bigint;
+UPDATE task_change_markers SET feed_seq = 0 WHERE feed_seq IS NULL;
+
+CREATE TABLE IF NOT EXISTS task_change_feed (
+    id integer NOT NULL,
+    last_seq bigint NOT NULL,
+    purged_seq bigint NOT NULL,
+    CONSTRAINT task_change_feed_pkey PRIMARY KEY (id)
+);
+INSERT INTO task_change_feed (id, last_seq, purged_seq) VALUES (1, 0, 0) ON CONFLICT (id) DO NOTHING;
+
+-- The unfiltered and the per-assignee feed; a poll's "feed_seq is null" check uses the first one as well
+DROP INDEX IF EXISTS idx_task_change_markers_employee_id_id;
+CREATE INDEX IF NOT EXISTS idx_task_change_markers_feed_seq_id ON task_change_markers (feed_seq, id);
+CREATE INDEX IF NOT EXISTS idx_task_change_markers_employee_id_feed_seq_id ON task_change_markers (employee_id, feed_seq, id);
@@ -0,0 +1,12 @@
+-- V4 moved workflow rows without a last_updated to '-infinity', below the creation-time bound of the history
+-- reads, and V3 only took created_at from dated rows. Undated rows now carry their task's creation time, and
+-- tasks with no dated row at all are taken as created now. Moving the rows to their month is a partition-key
+-- update, which Postgres carries out as a delete and an insert.
+UPDATE tasks t SET created_at = coalesce(
+        (SELECT min(w.last_updated) FROM task_workflow w WHERE w.task_id = t.id AND w.last_updated > '-infinity'),
+        now())
+WHERE t.created_at IS NULL;
+
+UPDATE task_workflow w SET last_updated = t.created_at
+FROM tasks t
+WHERE t.id = w.task_id AND w.last_updated = '-infinity';
@@ -3,8 +3,14 @@ package com.Task.employeeAPI.integration;
 
 import com.Task.employeeAPI.EmployeeApiApplication;
 import com.Task.employeeAPI.dao.Entity.Employee;
+import com.Task.employeeAPI.dao.Entity.Task;
+import com.Task.employeeAPI.dao.Entity.TaskWorkflow;
+import com.Task.employeeAPI.dao.Enums.Priority;
 import com.Task.employeeAPI.dao.Enums.Role;
+import com.Task.employeeAPI.dao.Enums.Status;
 import com.Task.employeeAPI.dao.Repository.EmployeeRepository;
+import com.Task.employeeAPI.dao.Repository.TaskRepository;
+import com.Task.employeeAPI.dao.Repository.TaskWorkflowRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,6 +25,7 @@ import org.springframework.security.test.context.support.WithMockUser;
 
 
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -37,6 +44,12 @@ class EmployeeIntegrationTest {
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskWorkflowRepository taskWorkflowRepository;
+
     private Employee existingEmployee;
 
     @BeforeEach
@@ -48,7 +61,8 @@ class EmployeeIntegrationTest {
         existingEmployee.setEmail("farid@example.com");
         existingEmployee.setPassword("password123");
         existingEmployee.setRole(Role.EMPLOYEE);
-        employeeRepository.save(existingEmployee);
+        // GET /employees/{id} reads through MyBatis, which does not flush the persistence context
+        employeeRepository.saveAndFlush(existingEmployee);
     }
 
 
@@ -64,6 +78,42 @@ class EmployeeIntegrationTest {
     }
 
 
+    @Test
+    @WithMockUser(roles = "EMPLOYEE")
+    @DisplayName("GET /employees should be forbidden for plain employees")
+    void shouldForbidEmployeeListForEmployees() throws Exception {
+        mockMvc.perform(get("/employees")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "EMPLOYEE")
+    @DisplayName("Actuator endpoints other than health should be forbidden below HEAD_MANAGER")
+    void shouldForbidActuatorForEmployees() throws Exception {
+        mockMvc.perform(get("/actuator/metrics")).andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/loginthrottle")).andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/notifications")).andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(roles = "HEAD_MANAGER")
+    @DisplayName("Actuator endpoints should be open to HEAD_MANAGER")
+    void shouldAllowActuatorForHeadManager() throws Exception {
+        mockMvc.perform(get("/actuator/metrics")).andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/loginthrottle")).andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/notifications"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.queued", is(0)));
+    }
+
+    @Test
+    @DisplayName("Health should answer without a token")
+    void shouldServeHealthAnonymously() throws Exception {
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+    }
+
     @Test
     @WithMockUser(roles = {"HR"})
     @DisplayName("GET /employees/{id} should return the employee by ID")
@@ -110,4 +160,37 @@ class EmployeeIntegrationTest {
         Employee deletedEmployee = employeeRepository.findById(existingEmployee.getId()).orElseThrow();
         assertTrue(deletedEmployee.isDeleted());
     }
+
+    @Test
+    @WithMockUser(roles = {"HEAD_MANAGER"})
+    @DisplayName("DELETE /employees/{id} should bulk-delete the employee's tasks and report the job")
+    void shouldPurgeTasksOfDeletedEmployee() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setDescription("Owned by the leaver");
+            task.setPriority(Priority.LOW);
+            task.setEmployee(existingEmployee);
+            taskRepository.save(task);
+
+            TaskWorkflow workflow = new TaskWorkflow();
+            workflow.setTask(task);
+            workflow.setStatus(Status.CREATED);
+            workflow.setUpdatedBy(existingEmployee);
+            taskWorkflowRepository.save(workflow);
+        }
+
+        mockMvc.perform(delete("/employees/{id}", existingEmployee.getId()))
+                .andExpect(status().isOk());
+
+        assertEquals(0, taskRepository.countByEmployee_Id(existingEmployee.getId()));
+        assertEquals(0, taskWorkflowRepository.count());
+
+        // Three tasks with chunk-size 2 in the test profile: two chunks
+        mockMvc.perform(get("/employees/{id}/offboarding", existingEmployee.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state", is("DONE")))
+                .andExpect(jsonPath("$.totalTasks", is(3)))
+                .andExpect(jsonPath("$.deletedTasks", is(3)));
+    }
 }
\ No newline at end of file
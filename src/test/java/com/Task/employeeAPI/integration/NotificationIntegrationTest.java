@@ -0,0 +1,49 @@
+package com.Task.employeeAPI.integration;
+
+import com.Task.employeeAPI.dto.NotificationDTO;
+import com.Task.employeeAPI.notification.NotificationProducer;
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// The real pipeline and mail sender, delivering to a GreenMail SMTP server on localhost
+@SpringBootTest(properties = {"spring.mail.host=localhost", "spring.mail.port=3025"})
+@ActiveProfiles("test")
+class NotificationIntegrationTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP)
+            .withConfiguration(GreenMailConfiguration.aConfig().withDisabledAuthentication());
+
+    @Autowired
+    private NotificationProducer notificationProducer;
+
+    @Test
+    @DisplayName("Notifications reach the mail server in the order they were sent")
+    void notifications_ShouldBeDeliveredInOrder() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            notificationProducer.sendNotification(new NotificationDTO("farid@example.com", "Update " + i, "Body " + i));
+        }
+
+        assertTrue(greenMail.waitForIncomingEmail(5000, 3));
+        List<String> subjects = new ArrayList<>();
+        for (MimeMessage message : greenMail.getReceivedMessages()) {
+            subjects.add(message.getSubject());
+        }
+        assertEquals(List.of("Update 1", "Update 2", "Update 3"), subjects);
+        assertEquals("farid@example.com", greenMail.getReceivedMessages()[0].getAllRecipients()[0].toString());
+    }
+}
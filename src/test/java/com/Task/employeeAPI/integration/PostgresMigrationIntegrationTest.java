@@ -0,0 +1,126 @@
+package com.Task.employeeAPI.integration;
+
+import com.Task.employeeAPI.dao.Entity.Employee;
+import com.Task.employeeAPI.dao.Entity.Task;
+import com.Task.employeeAPI.dao.Entity.TaskWorkflow;
+import com.Task.employeeAPI.dao.Enums.Priority;
+import com.Task.employeeAPI.dao.Enums.Role;
+import com.Task.employeeAPI.dao.Enums.Status;
+import com.Task.employeeAPI.dao.Repository.EmployeeRepository;
+import com.Task.employeeAPI.dao.Repository.TaskRepository;
+import com.Task.employeeAPI.dao.Repository.TaskWorkflowRepository;
+import com.Task.employeeAPI.notification.NotificationProducer;
+import com.Task.employeeAPI.services.concrete.EmailService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// The Postgres migrations, the partition maintenance and Hibernate's schema validation against a real Postgres.
+// The context starting at all means every migration applied and the entities match what they built.
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect",
+        "tasks.workflow.partitioning=postgres",
+        "tasks.search.backend=postgres"
+})
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional
+class PostgresMigrationIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskWorkflowRepository taskWorkflowRepository;
+
+    @MockitoBean
+    private NotificationProducer notificationProducer;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @Test
+    @DisplayName("Every Postgres migration applies")
+    void migrations_ShouldAllApply() {
+        List<String> versions = jdbcTemplate.queryForList(
+                "select version from flyway_schema_history where success and version is not null order by installed_rank", String.class);
+
+        assertEquals(List.of("1", "2", "3", "4", "5", "6", "7"), versions);
+    }
+
+    @Test
+    @DisplayName("task_workflow is partitioned by month, with this month's partition in place")
+    void taskWorkflow_ShouldBePartitioned() {
+        String partition = "task_workflow_" + YearMonth.now().format(DateTimeFormatter.ofPattern("yyyy_MM"));
+
+        assertEquals("p", jdbcTemplate.queryForObject("select relkind::text from pg_class where relname = 'task_workflow'", String.class));
+        assertEquals(1, jdbcTemplate.queryForObject("select count(*) from pg_class where relname = ?", Integer.class, partition));
+    }
+
+    @Test
+    @DisplayName("The hot-path indexes exist, including the partial and full-text ones")
+    void hotPathIndexes_ShouldExist() {
+        List<String> indexes = jdbcTemplate.queryForList("select indexname from pg_indexes where schemaname = 'public'", String.class);
+
+        for (String index : List.of("idx_employees_email_active", "idx_tasks_employee_id_id", "idx_tasks_search",
+                "idx_task_workflow_task_id_last_updated", "idx_task_change_markers_feed_seq_id")) {
+            assertTrue(indexes.contains(index), () -> index + " missing from " + indexes);
+        }
+    }
+
+    @Test
+    @DisplayName("Entities round-trip through the migrated schema, history landing in its month's partition")
+    void entities_ShouldRoundTrip() {
+        Employee employee = new Employee();
+        employee.setName("Farid");
+        employee.setEmail("farid@example.com");
+        employee.setRole(Role.EMPLOYEE);
+        employeeRepository.save(employee);
+
+        Task task = new Task();
+        task.setTitle("Migrated");
+        task.setPriority(Priority.HIGH);
+        task.setEmployee(employee);
+        taskRepository.save(task);
+
+        TaskWorkflow workflow = new TaskWorkflow();
+        workflow.setTask(task);
+        workflow.setStatus(Status.CREATED);
+        workflow.setLastUpdated(LocalDateTime.now());
+        workflow.setUpdatedBy(employee);
+        taskWorkflowRepository.saveAndFlush(workflow);
+
+        assertEquals(1, taskWorkflowRepository.findByTask_IdAndLastUpdatedGreaterThanEqual(task.getId(),
+                LocalDate.now().atStartOfDay()).size());
+        assertEquals("task_workflow_" + YearMonth.now().format(DateTimeFormatter.ofPattern("yyyy_MM")),
+                jdbcTemplate.queryForObject("select tableoid::regclass::text from task_workflow where id = ?", String.class, workflow.getId()));
+    }
+}
@@ -0,0 +1,131 @@
+package com.Task.employeeAPI.integration;
+
+import com.Task.employeeAPI.dao.Repository.EmployeeRepository;
+import com.Task.employeeAPI.dao.Repository.TaskRepository;
+import com.Task.employeeAPI.dao.Repository.TaskWorkflowRepository;
+import com.Task.employeeAPI.notification.NotificationProducer;
+import com.Task.employeeAPI.services.concrete.EmailService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Plans of the hot repository queries against the schema the migrations build. Each repository method is run
+// once and the SQL Hibernate prepared for it is explained with the same arguments; H2 names the index it
+// picked in the plan, or tableScan when it has none.
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.Task.employeeAPI.integration.CapturedStatements")
+@ActiveProfiles("test")
+@Transactional
+class SchemaIndexIntegrationTest {
+
+    private static final int ROWS = 200;
+    private static final int FIRST_ID = 1_000_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskWorkflowRepository taskWorkflowRepository;
+
+    @MockitoBean
+    private NotificationProducer notificationProducer;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @BeforeEach
+    void setup() {
+        // Enough rows that a scan is never the cheaper plan; rolled back with the test transaction
+        List<Object[]> employees = new ArrayList<>();
+        List<Object[]> tasks = new ArrayList<>();
+        List<Object[]> workflows = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            int id = FIRST_ID + i;
+            employees.add(new Object[]{id, "employee" + i + "@example.com", i % 10 == 0});
+            tasks.add(new Object[]{id, "Task " + i, id});
+            workflows.add(new Object[]{id, id, id});
+        }
+        jdbcTemplate.batchUpdate("insert into employees (id, email, is_deleted, role) values (?, ?, ?, 'EMPLOYEE')", employees);
+        jdbcTemplate.batchUpdate("insert into tasks (id, title, status, employee_id, created_at) values (?, ?, 'CREATED', ?, current_timestamp)", tasks);
+        jdbcTemplate.batchUpdate("insert into task_workflow (id, status, task_id, employee_id, last_updated) values (?, 'CREATED', ?, ?, current_timestamp)", workflows);
+    }
+
+    @Test
+    @DisplayName("findByEmailAndIsDeletedFalse uses the active-email index")
+    void findByEmailAndIsDeletedFalse_ShouldUseIndex() {
+        String email = "employee7@example.com";
+        CapturedStatements.clear();
+        employeeRepository.findByEmailAndIsDeletedFalse(email);
+
+        assertUsesIndex("idx_employees_email_active", CapturedStatements.first(), email);
+    }
+
+    @Test
+    @DisplayName("findByEmployee_id uses the assignee index")
+    void findByEmployeeId_ShouldUseIndex() {
+        int employeeId = FIRST_ID + 7;
+        CapturedStatements.clear();
+        taskRepository.findByEmployee_id(employeeId);
+
+        assertUsesIndex("idx_tasks_employee_id_id", CapturedStatements.first(), employeeId);
+    }
+
+    @Test
+    @DisplayName("A listing page filtered by assignee only uses the assignee index")
+    void findPageAfter_ByEmployee_ShouldUseIndex() {
+        int employeeId = FIRST_ID + 7;
+        CapturedStatements.clear();
+        taskRepository.findPageAfter(0, null, null, employeeId, Limit.of(51));
+
+        assertUsesIndex("idx_tasks_employee_id_id", CapturedStatements.first(), 0, employeeId, 51);
+    }
+
+    @Test
+    @DisplayName("findByTask_Id filters on the task_id index rather than a join")
+    void findByTaskId_ShouldUseIndex() {
+        int taskId = FIRST_ID + 7;
+        CapturedStatements.clear();
+        taskWorkflowRepository.findByTask_Id(taskId);
+
+        // H2 always gives the foreign key an index of its own on task_id and prefers it for an unbounded lookup;
+        // Postgres has only idx_task_workflow_task_id_last_updated
+        assertUsesIndex("fk_task_workflow_task", CapturedStatements.first(), taskId);
+    }
+
+    @Test
+    @DisplayName("History bounded by the creation day uses the workflow history index")
+    void findByTaskIdAndLastUpdated_ShouldUseIndex() {
+        int taskId = FIRST_ID + 7;
+        LocalDateTime since = LocalDateTime.of(2026, 1, 1, 0, 0);
+        CapturedStatements.clear();
+        taskWorkflowRepository.findByTask_IdAndLastUpdatedGreaterThanEqual(taskId, since);
+
+        assertUsesIndex("idx_task_workflow_task_id_last_updated", CapturedStatements.first(), taskId, since);
+    }
+
+    private void assertUsesIndex(String index, String sql, Object... args) {
+        String plan = jdbcTemplate.queryForObject("explain " + sql, String.class, args);
+
+        assertTrue(plan.toLowerCase().contains(index), () -> "Expected " + index + " in plan of\n" + sql + "\n" + plan);
+        assertFalse(plan.contains("tableScan"), () -> "Unexpected table scan in plan of\n" + sql + "\n" + plan);
+    }
+}
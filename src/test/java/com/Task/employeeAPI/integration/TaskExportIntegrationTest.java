@@ -0,0 +1,187 @@
+package com.Task.employeeAPI.integration;
+
+import com.Task.employeeAPI.dao.Entity.Employee;
+import com.Task.employeeAPI.dao.Entity.Task;
+import com.Task.employeeAPI.dao.Entity.TaskWorkflow;
+import com.Task.employeeAPI.dao.Enums.Priority;
+import com.Task.employeeAPI.dao.Enums.Role;
+import com.Task.employeeAPI.dao.Enums.Status;
+import com.Task.employeeAPI.dao.Repository.EmployeeRepository;
+import com.Task.employeeAPI.dao.Repository.TaskRepository;
+import com.Task.employeeAPI.dao.Repository.TaskWorkflowRepository;
+import com.Task.employeeAPI.notification.NotificationProducer;
+import com.Task.employeeAPI.services.concrete.EmailService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// Not @Transactional: the export reads on the async thread in its own transaction, so the fixtures must be committed
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TaskExportIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskWorkflowRepository taskWorkflowRepository;
+
+    @MockitoBean
+    private NotificationProducer notificationProducer;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @BeforeEach
+    void setup() {
+        cleanup();
+
+        Employee employee = new Employee();
+        employee.setName("Farid");
+        employee.setSurname("Valiyev");
+        employee.setEmail("farid@example.com");
+        employee.setPassword("12345");
+        employee.setRole(Role.EMPLOYEE);
+        employeeRepository.save(employee);
+
+        Task report = task("Report", "Quarterly, \"final\" numbers", Priority.HIGH, employee);
+        task("Review", "Review project", Priority.LOW, null);
+
+        TaskWorkflow workflow = new TaskWorkflow();
+        workflow.setTask(report);
+        workflow.setStatus(Status.CREATED);
+        workflow.setUpdatedBy(employee);
+        taskWorkflowRepository.save(workflow);
+    }
+
+    @AfterEach
+    void cleanup() {
+        taskWorkflowRepository.deleteAll();
+        taskRepository.deleteAll();
+        employeeRepository.deleteAll();
+    }
+
+    private Task task(String title, String description, Priority priority, Employee assignee) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription(description);
+        task.setPriority(priority);
+        task.setStatus(Status.CREATED);
+        task.setEmployee(assignee);
+        return taskRepository.save(task);
+    }
+
+    @Test
+    @WithMockUser(roles = "HR_MANAGER")
+    @DisplayName("GET /tasks/export should stream one JSON document per line")
+    void shouldExportTasksAsNdjson() throws Exception {
+        MvcResult started = mockMvc.perform(get("/tasks/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(header().string("Content-Disposition", containsString("tasks.ndjson")))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"email\":\"farid@example.com\""));
+        assertTrue(lines[1].contains("\"employee\":null"));
+    }
+
+    @Test
+    @WithMockUser(roles = "HEAD_MANAGER")
+    @DisplayName("GET /tasks/export?format=CSV should escape quotes and separators")
+    void shouldExportTasksAsCsv() throws Exception {
+        MvcResult started = mockMvc.perform(get("/tasks/export").param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String[] lines = body.split("\r\n");
+        assertEquals(3, lines.length);
+        assertEquals("id,title,description,priority,status,employee_id,employee_name,employee_surname,employee_email", lines[0]);
+        assertTrue(lines[1].endsWith(",Report,\"Quarterly, \"\"final\"\" numbers\",HIGH,CREATED,"
+                + employeeRepository.findAll().getFirst().getId() + ",Farid,Valiyev,farid@example.com"));
+        assertTrue(lines[2].endsWith(",Review,Review project,LOW,CREATED,,,,"));
+    }
+
+    @Test
+    @WithMockUser(roles = "HEAD_MANAGER")
+    @DisplayName("GET /tasks/export?format=CSV should keep spreadsheets from running cells as formulas")
+    void shouldNeutralizeFormulasInCsv() throws Exception {
+        task("=HYPERLINK(\"http://evil.example\",\"Open\")", "@SUM(A1:A2)", Priority.MEDIUM, null);
+        task("+1", "-2", Priority.LOW, null);
+
+        MvcResult started = mockMvc.perform(get("/tasks/export").param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String[] lines = body.split("\r\n");
+        assertEquals(5, lines.length);
+        assertTrue(lines[3].endsWith(",\"'=HYPERLINK(\"\"http://evil.example\"\",\"\"Open\"\")\",'@SUM(A1:A2),MEDIUM,CREATED,,,,"));
+        assertTrue(lines[4].endsWith(",'+1,'-2,LOW,CREATED,,,,"));
+    }
+
+    @Test
+    @WithMockUser(roles = "HEAD_MANAGER")
+    @DisplayName("GET /tasks/workflows/export should stream the workflow history")
+    void shouldExportWorkflowHistory() throws Exception {
+        MvcResult started = mockMvc.perform(get("/tasks/workflows/export").param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("id,task_id,status,updated_by_id,last_updated\r\n")))
+                .andExpect(content().string(matchesPattern("(?s).*,CREATED,\\d+,\\d{4}-\\d{2}-\\d{2}T.*")));
+    }
+
+    @Test
+    @WithMockUser(roles = "EMPLOYEE")
+    @DisplayName("GET /tasks/export should be forbidden for employees")
+    void shouldForbidExportForEmployees() throws Exception {
+        mockMvc.perform(get("/tasks/export"))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -2,11 +2,33 @@ package com.Task.employeeAPI.integration;
 
 
 import com.Task.employeeAPI.dao.Entity.Employee;
+import com.Task.employeeAPI.dao.Entity.Task;
+import com.Task.employeeAPI.dao.Entity.TaskWorkflow;
+import com.Task.employeeAPI.dao.Enums.Priority;
 import com.Task.employeeAPI.dao.Enums.Role;
+import com.Task.employeeAPI.dao.Enums.Status;
 import com.Task.employeeAPI.dao.Repository.EmployeeRepository;
 import com.Task.employeeAPI.dao.Repository.TaskRepository;
+import com.Task.employeeAPI.dao.Repository.TaskWorkflowRepository;
+import com.Task.employeeAPI.events.TaskChangedEvent;
+import com.Task.employeeAPI.events.TaskSnapshot;
 import com.Task.employeeAPI.notification.NotificationProducer;
+import com.Task.employeeAPI.security.CustomUserDetails;
 import com.Task.employeeAPI.services.concrete.EmailService;
+import com.Task.employeeAPI.services.concrete.DataVersionService;
+import com.Task.employeeAPI.services.concrete.InMemoryTaskSearchIndex;
+import com.Task.employeeAPI.services.concrete.TaskArchiveService;
+import com.Task.employeeAPI.services.concrete.TaskBoardService;
+import com.Task.employeeAPI.services.concrete.TaskChangeFeedService;
+import com.Task.employeeAPI.services.concrete.TaskEventStreamService;
+import com.Task.employeeAPI.services.concrete.TaskStatisticsService;
+import com.jayway.jsonpath.JsonPath;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,12 +39,20 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.transaction.annotation.Transactional;
 
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.everyItem;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -41,6 +71,33 @@ class TaskIntegrationTest {
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private TaskWorkflowRepository taskWorkflowRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TaskStatisticsService taskStatisticsService;
+
+    @Autowired
+    private TaskBoardService taskBoardService;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private TaskEventStreamService taskEventStreamService;
+
+    @Autowired
+    private InMemoryTaskSearchIndex taskSearchIndex;
+
+    @Autowired
+    private TaskArchiveService taskArchiveService;
+
+    @Autowired
+    private TaskChangeFeedService taskChangeFeedService;
+
     @MockitoBean
     private NotificationProducer notificationProducer;
 
@@ -89,6 +146,127 @@ class TaskIntegrationTest {
                 .andExpect(jsonPath("$.employee.id", is(employee.getId())));
     }
 
+    @Test
+    @WithMockUser(roles = {"HEAD_MANAGER"})
+    @DisplayName("POST /tasks/batch should insert every task and its first workflow row")
+    void shouldCreateTasksInBatch() throws Exception {
+        String requestJson = """
+            [
+              {"title": "Plan", "description": "Sprint planning", "priority": "HIGH", "employeeId": %1$d},
+              {"title": "Review", "description": "Sprint review", "priority": "LOW", "employeeId": %1$d}
+            ]
+        """.formatted(employee.getId());
+
+        String body = mockMvc.perform(post("/tasks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[*].title", contains("Plan", "Review")))
+                .andExpect(jsonPath("$[*].status", everyItem(is("CREATED"))))
+                .andExpect(jsonPath("$[0].employee.id", is(employee.getId())))
+                .andReturn().getResponse().getContentAsString();
+
+        List<Integer> ids = JsonPath.read(body, "$[*].id");
+        assertEquals(2, taskRepository.findViewsByIdIn(ids).size());
+        for (Integer id : ids) {
+            List<TaskWorkflow> workflows = taskWorkflowRepository.findByTask_Id(id);
+            assertEquals(1, workflows.size());
+            assertEquals(Status.CREATED, workflows.get(0).getStatus());
+        }
+    }
+
+    @Test
+    @WithMockUser(roles = {"HEAD_MANAGER"})
+    @DisplayName("POST /tasks/batch should reject the whole batch when one element is invalid")
+    void shouldRejectInvalidTaskBatch() throws Exception {
+        String invalidElement = """
+            [
+              {"title": "Plan", "description": "Sprint planning", "priority": "HIGH", "employeeId": %1$d},
+              {"title": "", "description": "Sprint review", "priority": "LOW", "employeeId": %1$d}
+            ]
+        """.formatted(employee.getId());
+        mockMvc.perform(post("/tasks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(invalidElement))
+                .andExpect(status().isBadRequest());
+
+        String unknownAssignee = """
+            [{"title": "Plan", "description": "Sprint planning", "priority": "HIGH", "employeeId": %d}]
+        """.formatted(employee.getId() + 1000);
+        mockMvc.perform(post("/tasks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(unknownAssignee))
+                .andExpect(status().isNotFound());
+
+        assertEquals(0, taskRepository.count());
+    }
+
+    @Test
+    @DisplayName("PUT /tasks/status should move the task with one update and record the history")
+    void shouldMoveTaskStatus() throws Exception {
+        Task task = saveTask(employee);
+        taskRepository.flush();
+
+        CustomUserDetails owner = CustomUserDetails.fromClaims(employee.getId(), "Farid", "farid@example.com", Role.EMPLOYEE);
+        mockMvc.perform(put("/tasks/status")
+                        .with(user(owner))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"taskId\": %d, \"status\": \"IN_PROGRESS\"}".formatted(task.getId())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", is("IN_PROGRESS")));
+
+        entityManager.flush();
+        entityManager.clear();
+        assertEquals(Status.IN_PROGRESS, taskRepository.findById(task.getId()).orElseThrow().getStatus());
+        assertEquals(1, taskWorkflowRepository.findByTask_Id(task.getId()).size());
+    }
+
+    @Test
+    @DisplayName("PUT /tasks/status/batch should apply valid moves and report refused ones per item")
+    void shouldMoveTaskStatusesInBatch() throws Exception {
+        Task first = saveTask(employee);
+        first.setStatus(Status.RESOLVED);
+        Task second = saveTask(employee);
+        second.setStatus(Status.RESOLVED);
+        Task untouched = saveTask(employee);
+        taskRepository.saveAllAndFlush(List.of(first, second));
+
+        Employee headEmployee = new Employee();
+        headEmployee.setName("Head");
+        headEmployee.setSurname("Manager");
+        headEmployee.setEmail("head@example.com");
+        headEmployee.setPassword("12345");
+        headEmployee.setRole(Role.HEAD_MANAGER);
+        employeeRepository.save(headEmployee);
+
+        // The history rows reference the caller, so the head has to exist
+        CustomUserDetails head = CustomUserDetails.fromClaims(headEmployee.getId(), "Head", "head@example.com", Role.HEAD_MANAGER);
+        String requestJson = """
+            [
+              {"taskId": %d, "status": "DONE"},
+              {"taskId": %d, "status": "DONE"},
+              {"taskId": %d, "status": "DONE"}
+            ]
+        """.formatted(first.getId(), second.getId(), untouched.getId());
+
+        mockMvc.perform(put("/tasks/status/batch")
+                        .with(user(head))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].updated", contains(true, true, false)))
+                .andExpect(jsonPath("$[2].status", is("CREATED")))
+                .andExpect(jsonPath("$[2].error", is("Task must be RESOLVED to be set to DONE.")));
+
+        entityManager.flush();
+        entityManager.clear();
+        assertEquals(Status.DONE, taskRepository.findById(first.getId()).orElseThrow().getStatus());
+        assertEquals(Status.DONE, taskRepository.findById(second.getId()).orElseThrow().getStatus());
+        assertEquals(Status.CREATED, taskRepository.findById(untouched.getId()).orElseThrow().getStatus());
+        assertEquals(1, taskWorkflowRepository.findByTask_Id(first.getId()).size());
+    }
+
     // ------------------------------------------------------
     // GET ALL TASKS
     // ------------------------------------------------------
@@ -116,6 +294,303 @@ class TaskIntegrationTest {
                 .andExpect(jsonPath("$", hasSize(1)));
     }
 
+    @Test
+    @WithMockUser(roles = "HEAD_MANAGER")
+    @DisplayName("GET /tasks should page by cursor and filter on the server")
+    void shouldPageAndFilterTasks() throws Exception {
+        for (String priority : new String[]{"LOW", "HIGH", "LOW", "HIGH", "HIGH"}) {
+            mockMvc.perform(post("/tasks")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("""
+                                {
+                                  "title": "Paged",
+                                  "description": "Paged task",
+                                  "priority": "%s",
+                                  "employeeId": %d
+                                }
+                            """.formatted(priority, employee.getId())))
+                    .andExpect(status().isOk());
+        }
+
+        String cursor = mockMvc.perform(get("/tasks").param("priority", "HIGH").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[*].priority", everyItem(is("HIGH"))))
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andReturn()
+                .getResponse()
+                .getHeader("X-Next-Cursor");
+
+        mockMvc.perform(get("/tasks").param("priority", "HIGH").param("limit", "2").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+
+        mockMvc.perform(get("/tasks").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(roles = "HEAD_MANAGER")
+    @DisplayName("Task listings should run a constant number of statements regardless of row count")
+    void shouldNotIssueOneQueryPerTask() throws Exception {
+        Task first = saveTask(employee);
+
+        long[] small = listingStatementCounts(first.getId());
+
+        for (int i = 0; i < 10; i++) {
+            Employee other = new Employee();
+            other.setName("Other");
+            other.setSurname("Employee");
+            other.setEmail("other" + i + "@example.com");
+            other.setPassword("12345");
+            other.setRole(Role.EMPLOYEE);
+            employeeRepository.save(other);
+            saveTask(other);
+            saveTask(employee);
+        }
+
+        long[] large = listingStatementCounts(first.getId());
+
+        assertArrayEquals(small, large);
+    }
+
+    private Task saveTask(Employee assignee) {
+        Task task = new Task();
+        task.setTitle("Counted");
+        task.setDescription("Counted task");
+        task.setPriority(Priority.LOW);
+        task.setStatus(Status.CREATED);
+        task.setEmployee(assignee);
+        return taskRepository.save(task);
+    }
+
+    /** Prepared statements for GET /tasks, GET /tasks/{id} and GET /employees/{id}/tasks, starting from a cold persistence context. */
+    private long[] listingStatementCounts(int taskId) throws Exception {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        String[] urls = {"/tasks", "/tasks/" + taskId, "/employees/" + employee.getId() + "/tasks"};
+        long[] counts = new long[urls.length];
+
+        for (int i = 0; i < urls.length; i++) {
+            entityManager.flush();
+            entityManager.clear();
+            statistics.clear();
+
+            mockMvc.perform(get(urls[i])).andExpect(status().isOk());
+            counts[i] = statistics.getPrepareStatementCount();
+        }
+        return counts;
+    }
+
+    @Test
+    @WithMockUser(roles = "HR_MANAGER")
+    @DisplayName("GET /tasks/stats should return counts by status, priority and assignee")
+    void shouldReturnTaskStats() throws Exception {
+        saveTask(employee);
+        Task done = saveTask(employee);
+        done.setStatus(Status.DONE);
+        done.setPriority(Priority.HIGH);
+        taskRepository.save(done);
+
+        // Inside the test transaction nothing commits, so bring the counters up to date from the database
+        taskStatisticsService.reconcile();
+
+        mockMvc.perform(get("/tasks/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalTasks", is(2)))
+                .andExpect(jsonPath("$.activeEmployees", is(1)))
+                .andExpect(jsonPath("$.byStatus.CREATED", is(1)))
+                .andExpect(jsonPath("$.byStatus.DONE", is(1)))
+                .andExpect(jsonPath("$.byPriority.HIGH", is(1)))
+                .andExpect(jsonPath("$.byAssignee." + employee.getId(), is(2)));
+    }
+
+    @Test
+    @WithMockUser(roles = "HEAD_MANAGER")
+    @DisplayName("GET /tasks/board should return cards grouped by status")
+    void shouldReturnTeamBoard() throws Exception {
+        Task created = saveTask(employee);
+        Task done = saveTask(employee);
+        done.setStatus(Status.DONE);
+        taskRepository.save(done);
+
+        // Listeners only run after commit, so load the board straight from the database
+        taskBoardService.rebuild();
+
+        mockMvc.perform(get("/tasks/board"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.columns.CREATED[*].id", contains(created.getId())))
+                .andExpect(jsonPath("$.columns.DONE[*].id", contains(done.getId())))
+                .andExpect(jsonPath("$.columns.DONE[0].employee.email", is(employee.getEmail())))
+                .andExpect(jsonPath("$.columns.IN_PROGRESS", hasSize(0)));
+
+        mockMvc.perform(get("/employees/{id}/board", employee.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.columns.CREATED[*].id", contains(created.getId())));
+    }
+
+    @Test
+    @WithMockUser(roles = "HR_MANAGER")
+    @DisplayName("GET /tasks and GET /employees/{id}/tasks should answer a current If-None-Match with 304 and no queries")
+    void shouldReturnNotModifiedForCurrentVersion() throws Exception {
+        Task task = saveTask(employee);
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        for (String url : new String[]{"/tasks", "/employees/" + employee.getId() + "/tasks"}) {
+            String etag = mockMvc.perform(get(url))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Cache-Control", "no-cache, private"))
+                    .andReturn().getResponse().getHeader("ETag");
+
+            statistics.clear();
+            mockMvc.perform(get(url).header("If-None-Match", etag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", etag))
+                    .andExpect(content().string(""));
+            assertEquals(0, statistics.getPrepareStatementCount());
+        }
+
+        String etag = mockMvc.perform(get("/tasks")).andReturn().getResponse().getHeader("ETag");
+
+        // Listeners only run after commit, so report the change directly
+        dataVersionService.onTaskChanged(TaskChangedEvent.created(TaskSnapshot.of(task)));
+
+        mockMvc.perform(get("/tasks").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id", contains(task.getId())));
+    }
+
+    @Test
+    @WithMockUser(roles = "HEAD_MANAGER")
+    @DisplayName("GET /tasks/changes should return only tasks changed or deleted since the cursor")
+    void shouldReturnTaskChangesSinceCursor() throws Exception {
+        Task existing = saveTask(employee);
+        String start = changeCursor(get("/tasks/changes"));
+
+        String req = """
+            {
+              "title": "%s",
+              "description": "Synced task",
+              "priority": "LOW",
+              "employeeId": %d
+            }
+        """;
+        int kept = createTask(req.formatted("Kept", employee.getId()));
+        int removed = createTask(req.formatted("Removed", employee.getId()));
+        mockMvc.perform(put("/tasks/{id}", kept)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(req.formatted("Edited", employee.getId())))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/tasks/{id}", removed)).andExpect(status().isOk());
+
+        String next = changeCursor(get("/tasks/changes").param("since", start).param("limit", "1"));
+        mockMvc.perform(get("/tasks/changes").param("since", start))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated[*].id", contains(kept)))
+                .andExpect(jsonPath("$.updated[0].title", is("Edited")))
+                .andExpect(jsonPath("$.deleted", contains(removed)))
+                .andExpect(jsonPath("$.hasMore", is(false)));
+
+        mockMvc.perform(get("/employees/{id}/tasks/changes", employee.getId()).param("since", start))
+                .andExpect(jsonPath("$.updated[*].id", contains(kept)));
+
+        // A one-row batch leaves the rest for the next poll
+        mockMvc.perform(get("/tasks/changes").param("since", start).param("limit", "1"))
+                .andExpect(jsonPath("$.hasMore", is(true)));
+        mockMvc.perform(get("/tasks/changes").param("since", next))
+                .andExpect(jsonPath("$.updated[*].id", contains(kept)))
+                .andExpect(jsonPath("$.deleted", contains(removed)));
+
+        // Renaming the assignee changes every card that shows their name
+        String end = changeCursor(get("/tasks/changes").param("since", start));
+        mockMvc.perform(put("/employees/{id}", employee.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"Renamed\", \"surname\": \"Employee\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/tasks/changes").param("since", end))
+                .andExpect(jsonPath("$.updated[*].id", contains(existing.getId(), kept)))
+                .andExpect(jsonPath("$.updated[0].employee.name", is("Renamed")));
+
+        mockMvc.perform(get("/tasks/changes").param("since", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+
+        // Once retention has purged the markers behind a cursor, the client has to reload
+        taskChangeFeedService.purgeChangedBefore(LocalDateTime.now().plusMinutes(1));
+        mockMvc.perform(get("/tasks/changes").param("since", end))
+                .andExpect(status().isGone());
+        mockMvc.perform(get("/tasks/changes").param("since", changeCursor(get("/tasks/changes"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated", hasSize(0)));
+    }
+
+    @Test
+    @WithMockUser(roles = "HR_MANAGER")
+    @DisplayName("GET /tasks/events should push task changes as server-sent events")
+    void shouldStreamTaskEvents() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get("/tasks/events"))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+
+        Task task = saveTask(employee);
+        // Listeners only run after commit, so report the change directly
+        taskEventStreamService.onTaskChanged(TaskChangedEvent.created(TaskSnapshot.of(task)));
+
+        // The emitter writes the event name and the data separately, so wait for the end of the event
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!response.getContentAsString().matches("(?s).*event:task\\ndata:.+\\n\\n.*") && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        String body = response.getContentAsString();
+        assertTrue(body.startsWith("event:connected"), body);
+        assertTrue(body.contains("\"type\":\"CREATED\",\"taskId\":" + task.getId()), body);
+        assertTrue(body.contains("\"email\":\"" + employee.getEmail() + "\""), body);
+    }
+
+    @Test
+    @WithMockUser(roles = "HR_MANAGER")
+    @DisplayName("GET /tasks/search should return ranked, paginated full-text matches")
+    void shouldSearchTasks() throws Exception {
+        Task weak = saveTask(employee);
+        weak.setTitle("Budget review");
+        weak.setDescription("Check the numbers");
+        Task strong = saveTask(employee);
+        strong.setTitle("Budget plan");
+        strong.setDescription("Draft the budget for next year");
+        Task other = saveTask(employee);
+        other.setTitle("Onboarding");
+        taskRepository.saveAll(List.of(weak, strong, other));
+
+        // Listeners only run after commit, so load the index straight from the database
+        taskSearchIndex.rebuild();
+
+        mockMvc.perform(get("/tasks/search").param("q", "budget").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id", contains(strong.getId())))
+                .andExpect(jsonPath("$[0].employee.email", is(employee.getEmail())))
+                .andExpect(header().string("X-Next-Cursor", "1"));
+
+        mockMvc.perform(get("/tasks/search").param("q", "budget").param("cursor", "1").param("limit", "1"))
+                .andExpect(jsonPath("$[*].id", contains(weak.getId())))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+
+        mockMvc.perform(get("/tasks/search").param("q", " "))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String changeCursor(MockHttpServletRequestBuilder request) throws Exception {
+        String body = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(body, "$.cursor");
+    }
+
+    private int createTask(String json) throws Exception {
+        String body = mockMvc.perform(post("/tasks").contentType(MediaType.APPLICATION_JSON).content(json))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(body, "$.id");
+    }
+
     // ------------------------------------------------------
     // GET BY ID
     // ------------------------------------------------------
@@ -179,4 +654,61 @@ class TaskIntegrationTest {
         boolean exists = taskRepository.existsById(taskId);
         assertFalse(exists);
     }
-}
\ No newline at end of file
+
+    // ------------------------------------------------------
+    // ARCHIVE
+    // ------------------------------------------------------
+    @Test
+    @WithMockUser(roles = "HEAD_MANAGER")
+    @DisplayName("Archived DONE tasks should leave the hot listings and be readable from /tasks/archive")
+    void shouldArchiveCompletedTasks() throws Exception {
+        Task open = saveTask(employee);
+        for (int i = 0; i < 3; i++) {
+            Task done = saveTask(employee);
+            done.setStatus(Status.DONE);
+            TaskWorkflow workflow = new TaskWorkflow();
+            workflow.setTask(done);
+            workflow.setStatus(Status.DONE);
+            workflow.setUpdatedBy(employee);
+            taskWorkflowRepository.save(workflow);
+        }
+        entityManager.flush();
+
+        // Three tasks with chunk-size 2 in the test profile: two chunks
+        assertEquals(3, taskArchiveService.archiveCompletedBefore(LocalDateTime.now().plusMinutes(1)));
+        entityManager.clear();
+
+        mockMvc.perform(get("/tasks"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id", contains(open.getId())));
+        assertEquals(0, taskWorkflowRepository.count());
+
+        String nextCursor = mockMvc.perform(get("/tasks/archive").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].status", is("DONE")))
+                .andExpect(jsonPath("$[0].employee.email", is("farid@example.com")))
+                .andReturn()
+                .getResponse()
+                .getHeader("X-Next-Cursor");
+        mockMvc.perform(get("/tasks/archive").param("cursor", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+
+        int archivedId = Integer.parseInt(nextCursor);
+        mockMvc.perform(get("/tasks/{id}", archivedId))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/tasks/archive/{id}", archivedId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(archivedId)));
+        mockMvc.perform(get("/tasks/archive/{id}/workflows", archivedId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].status", is("DONE")))
+                .andExpect(jsonPath("$[0].taskId", is(archivedId)));
+
+        // A second run finds nothing left to move
+        assertEquals(0, taskArchiveService.archiveCompletedBefore(LocalDateTime.now().plusMinutes(1)));
+    }
+}
@@ -0,0 +1,81 @@
+package com.Task.employeeAPI.unit;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.Task.employeeAPI.exceptions.ServiceUnavailableException;
+import com.Task.employeeAPI.security.BoundedPasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BoundedPasswordEncoderTest {
+
+    /** Encoder that blocks until released, so the pool can be saturated deterministically. */
+    private static class BlockingEncoder implements PasswordEncoder {
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "encoded-" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+
+    @Test
+    void encode_delegatesAndRecordsLatency() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        BlockingEncoder delegate = new BlockingEncoder();
+        delegate.release.countDown();
+
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(delegate, 1, 1, registry)) {
+            assertEquals("encoded-secret", encoder.encode("secret"));
+            assertTrue(encoder.matches("secret", "encoded-secret"));
+        }
+
+        assertEquals(1, registry.get("security.password.hashing").tag("operation", "encode").timer().count());
+        assertEquals(1, registry.get("security.password.hashing").tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    void encode_whenPoolAndQueueAreFull_rejectsWith503() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        BlockingEncoder delegate = new BlockingEncoder();
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(delegate, 1, 1, registry)) {
+            callers.submit(() -> encoder.encode("running"));
+            assertTrue(delegate.started.await(5, TimeUnit.SECONDS));
+            callers.submit(() -> encoder.encode("queued"));
+
+            // Wait until the second call sits in the queue
+            while (registry.get("executor.queued").tag("name", "passwordHashing").gauge().value() < 1) {
+                Thread.onSpinWait();
+            }
+
+            assertThrows(ServiceUnavailableException.class, () -> encoder.encode("rejected"));
+            assertEquals(1.0, registry.get("security.password.hashing.rejected").counter().count());
+        } finally {
+            delegate.release.countDown();
+            callers.shutdown();
+        }
+    }
+}
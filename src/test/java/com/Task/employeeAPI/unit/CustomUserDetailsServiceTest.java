@@ -0,0 +1,106 @@
+package com.Task.employeeAPI.unit;
+
+import java.time.Duration;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.Task.employeeAPI.dao.Entity.Employee;
+import com.Task.employeeAPI.dao.Enums.Role;
+import com.Task.employeeAPI.dao.Repository.EmployeeRepository;
+import com.Task.employeeAPI.exceptions.NotFoundException;
+import com.Task.employeeAPI.security.CustomUserDetails;
+import com.Task.employeeAPI.security.CustomUserDetailsService;
+import com.Task.employeeAPI.security.JwtTokenUtil;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class CustomUserDetailsServiceTest {
+
+    @Mock private EmployeeRepository employeeRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CustomUserDetailsService userDetailsService;
+    private Employee employee;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        userDetailsService = new CustomUserDetailsService(
+                employeeRepository,
+                new JwtTokenUtil("test-secret-ultra-very-long-and-secure-key", 60_000),
+                meterRegistry,
+                100,
+                Duration.ofMinutes(5)
+        );
+
+        employee = Employee.builder()
+                .id(1)
+                .name("Farid")
+                .email("farid@example.com")
+                .password("hash")
+                .role(Role.EMPLOYEE)
+                .build();
+    }
+
+    @Test
+    void loadUserByUsername_secondCall_servedFromCache() {
+        when(employeeRepository.findByEmailAndIsDeletedFalse("farid@example.com")).thenReturn(employee);
+
+        CustomUserDetails first = userDetailsService.loadUserByUsername("farid@example.com");
+        CustomUserDetails second = userDetailsService.loadUserByUsername("farid@example.com");
+
+        assertSame(first, second);
+        verify(employeeRepository, times(1)).findByEmailAndIsDeletedFalse("farid@example.com");
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "principals").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void evict_forcesReload() {
+        when(employeeRepository.findByEmailAndIsDeletedFalse("farid@example.com")).thenReturn(employee);
+
+        userDetailsService.loadUserByUsername("farid@example.com");
+        userDetailsService.evict("farid@example.com");
+        userDetailsService.loadUserByUsername("farid@example.com");
+
+        verify(employeeRepository, times(2)).findByEmailAndIsDeletedFalse("farid@example.com");
+    }
+
+    @Test
+    void revoke_deletedEmployeeIsNotServedFromCache() {
+        when(employeeRepository.findByEmailAndIsDeletedFalse("farid@example.com"))
+                .thenReturn(employee)
+                .thenReturn(null);
+
+        userDetailsService.loadUserByUsername("farid@example.com");
+        userDetailsService.revoke(employee);
+
+        assertThrows(NotFoundException.class, () -> userDetailsService.loadUserByUsername("farid@example.com"));
+    }
+
+    @Test
+    void revoke_rejectsTokensIssuedBeforeRevocation() {
+        Date issuedBefore = new Date(System.currentTimeMillis() - 10_000);
+
+        assertFalse(userDetailsService.isRevoked(1, issuedBefore));
+
+        userDetailsService.revoke(employee);
+
+        assertTrue(userDetailsService.isRevoked(1, issuedBefore));
+        assertFalse(userDetailsService.isRevoked(1, new Date(System.currentTimeMillis() + 10_000)));
+        assertFalse(userDetailsService.isRevoked(2, issuedBefore));
+    }
+}
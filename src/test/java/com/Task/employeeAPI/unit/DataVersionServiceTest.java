@@ -0,0 +1,48 @@
+package com.Task.employeeAPI.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import org.junit.jupiter.api.Test;
+
+import com.Task.employeeAPI.dao.Enums.Priority;
+import com.Task.employeeAPI.dao.Enums.Status;
+import com.Task.employeeAPI.events.EmployeeChangedEvent;
+import com.Task.employeeAPI.events.TaskChangedEvent;
+import com.Task.employeeAPI.events.TaskSnapshot;
+import com.Task.employeeAPI.services.concrete.DataVersionService;
+
+class DataVersionServiceTest {
+
+    private final DataVersionService versions = new DataVersionService();
+
+    @Test
+    void taskChange_bumpsGlobalAndBothAssignees() {
+        String global = versions.globalTag();
+        String from = versions.employeeTag(7);
+        String to = versions.employeeTag(8);
+        String bystander = versions.employeeTag(9);
+
+        // Reassigned from 7 to 8
+        versions.onTaskChanged(new TaskChangedEvent(
+                new TaskSnapshot(1, Status.CREATED, Priority.LOW, 7),
+                new TaskSnapshot(1, Status.CREATED, Priority.LOW, 8)));
+
+        assertNotEquals(global, versions.globalTag());
+        assertNotEquals(from, versions.employeeTag(7));
+        assertNotEquals(to, versions.employeeTag(8));
+        assertEquals(bystander, versions.employeeTag(9));
+    }
+
+    @Test
+    void employeeChange_bumpsGlobalAndThatEmployeeOnly() {
+        String global = versions.globalTag();
+        String changed = versions.employeeTag(7);
+        String other = versions.employeeTag(8);
+
+        versions.onEmployeeChanged(new EmployeeChangedEvent(7));
+
+        assertNotEquals(global, versions.globalTag());
+        assertNotEquals(changed, versions.employeeTag(7));
+        assertEquals(other, versions.employeeTag(8));
+    }
+}
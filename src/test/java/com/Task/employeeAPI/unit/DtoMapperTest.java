@@ -0,0 +1,106 @@
+package com.Task.employeeAPI.unit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.Test;
+
+import com.Task.employeeAPI.dao.Entity.Employee;
+import com.Task.employeeAPI.dao.Entity.Task;
+import com.Task.employeeAPI.dao.Entity.TaskWorkflow;
+import com.Task.employeeAPI.dao.Enums.Priority;
+import com.Task.employeeAPI.dao.Enums.Role;
+import com.Task.employeeAPI.dao.Enums.Status;
+import com.Task.employeeAPI.dto.EmployeeDTO;
+import com.Task.employeeAPI.dto.TaskDTO;
+import com.Task.employeeAPI.dto.TaskWorkflowDTO;
+import com.Task.employeeAPI.mapper.EmployeeDtoMapper;
+import com.Task.employeeAPI.mapper.EmployeeDtoMapperImpl;
+import com.Task.employeeAPI.mapper.TaskDtoMapper;
+import com.Task.employeeAPI.mapper.TaskDtoMapperImpl;
+import com.Task.employeeAPI.mapper.TaskWorkflowDtoMapper;
+import com.Task.employeeAPI.mapper.TaskWorkflowDtoMapperImpl;
+
+class DtoMapperTest {
+
+    private final EmployeeDtoMapper employeeDtoMapper = new EmployeeDtoMapperImpl();
+    private final TaskDtoMapper taskDtoMapper = new TaskDtoMapperImpl(employeeDtoMapper);
+    private final TaskWorkflowDtoMapper taskWorkflowDtoMapper = new TaskWorkflowDtoMapperImpl();
+
+    private static Employee employee() {
+        Employee employee = new Employee();
+        employee.setId(7);
+        employee.setName("Farid");
+        employee.setSurname("Valiyev");
+        employee.setEmail("farid@example.com");
+        employee.setPassword("$2a$10$hash");
+        employee.setRole(Role.EMPLOYEE);
+        return employee;
+    }
+
+    @Test
+    void employeeToDto_copiesFieldsButNotPassword() {
+        EmployeeDTO dto = employeeDtoMapper.toDto(employee());
+
+        assertEquals(7, dto.getId());
+        assertEquals("Farid", dto.getName());
+        assertEquals("farid@example.com", dto.getEmail());
+        assertEquals(Role.EMPLOYEE, dto.getRole());
+        assertNull(dto.getPassword());
+    }
+
+    @Test
+    void employeeToEntity_ignoresIdAndStartsActive() {
+        EmployeeDTO dto = new EmployeeDTO();
+        dto.setId(99);
+        dto.setName("Farid");
+        dto.setPassword("secure123");
+
+        Employee employee = employeeDtoMapper.toEntity(dto);
+
+        assertEquals(0, employee.getId());
+        assertEquals("secure123", employee.getPassword());
+        assertFalse(employee.isDeleted());
+    }
+
+    @Test
+    void taskToDto_flattensAssigneeIdAndNestsEmployee() {
+        Task task = new Task();
+        task.setId(3);
+        task.setTitle("Report");
+        task.setPriority(Priority.HIGH);
+        task.setStatus(Status.IN_PROGRESS);
+        task.setEmployee(employee());
+
+        TaskDTO dto = taskDtoMapper.toDtos(List.of(task)).getFirst();
+
+        assertEquals(3, dto.getId());
+        assertEquals(Priority.HIGH, dto.getPriority());
+        assertEquals(7, dto.getEmployeeId());
+        assertEquals("Valiyev", dto.getEmployee().getSurname());
+        assertNull(dto.getEmployee().getPassword());
+    }
+
+    @Test
+    void workflowToDto_flattensTaskAndUpdater() {
+        Task task = new Task();
+        task.setId(3);
+        TaskWorkflow workflow = new TaskWorkflow();
+        workflow.setId(11);
+        workflow.setStatus(Status.DONE);
+        workflow.setTask(task);
+        workflow.setUpdatedBy(employee());
+        workflow.setLastUpdated(LocalDateTime.of(2025, 1, 1, 12, 0));
+
+        TaskWorkflowDTO dto = taskWorkflowDtoMapper.toDto(workflow);
+
+        assertEquals(11, dto.getId());
+        assertEquals(Status.DONE, dto.getStatus());
+        assertEquals(3, dto.getTaskId());
+        assertEquals(7, dto.getUpdatedById());
+        assertEquals(LocalDateTime.of(2025, 1, 1, 12, 0), dto.getLastUpdated());
+    }
+}
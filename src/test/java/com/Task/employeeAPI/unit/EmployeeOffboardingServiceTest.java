@@ -0,0 +1,158 @@
+package com.Task.employeeAPI.unit;
+
+import com.Task.employeeAPI.dao.Enums.Priority;
+import com.Task.employeeAPI.dao.Enums.Status;
+import com.Task.employeeAPI.dao.Repository.TaskChangeMarkerRepository;
+import com.Task.employeeAPI.dao.Repository.TaskRepository;
+import com.Task.employeeAPI.dao.Repository.TaskWorkflowRepository;
+import com.Task.employeeAPI.dto.OffboardingStatusDTO;
+import com.Task.employeeAPI.events.TaskChangedEvent;
+import com.Task.employeeAPI.events.TaskSnapshot;
+import com.Task.employeeAPI.services.concrete.EmployeeOffboardingService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeOffboardingServiceTest {
+
+    @Mock private TaskRepository taskRepository;
+    @Mock private TaskWorkflowRepository taskWorkflowRepository;
+    @Mock private TaskChangeMarkerRepository taskChangeMarkerRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private TransactionTemplate transactionTemplate;
+
+    private EmployeeOffboardingService service;
+
+    @BeforeEach
+    void runCallbacksInline() {
+        when(transactionTemplate.execute(any())).thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @AfterEach
+    void stopWorker() {
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    private EmployeeOffboardingService service(int inlineLimit) {
+        service = new EmployeeOffboardingService(taskRepository, taskWorkflowRepository, taskChangeMarkerRepository,
+                eventPublisher, transactionTemplate, 2, inlineLimit, Duration.ZERO);
+        return service;
+    }
+
+    private static TaskSnapshot task(int id) {
+        return new TaskSnapshot(id, Status.CREATED, Priority.LOW, 7);
+    }
+
+    @Test
+    void smallEmployee_isPurgedInChunksBeforeReturning() {
+        when(taskRepository.countByEmployee_Id(7)).thenReturn(3L);
+        when(taskRepository.findSnapshotsByEmployeeId(7, Limit.of(2)))
+                .thenReturn(List.of(task(1), task(2)), List.of(task(3)));
+
+        OffboardingStatusDTO status = service(10).offboard(7);
+
+        assertEquals(OffboardingStatusDTO.State.DONE, status.getState());
+        assertEquals(3, status.getDeletedTasks());
+        verify(taskChangeMarkerRepository).markDeleted(eq(List.of(1, 2)), any());
+        verify(taskChangeMarkerRepository).markDeleted(eq(List.of(3)), any());
+        verify(taskWorkflowRepository).deleteByTaskIdIn(List.of(1, 2));
+        verify(taskRepository).deleteByIdIn(List.of(1, 2));
+        verify(taskWorkflowRepository).deleteByTaskIdIn(List.of(3));
+        verify(taskRepository).deleteByIdIn(List.of(3));
+        verify(eventPublisher).publishEvent(TaskChangedEvent.deleted(task(3)));
+    }
+
+    @Test
+    void largeEmployee_isPurgedInTheBackground() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(taskRepository.countByEmployee_Id(7)).thenReturn(3L);
+        when(taskRepository.findSnapshotsByEmployeeId(7, Limit.of(2)))
+                .thenAnswer(inv -> {
+                    release.await();
+                    return List.of(task(1), task(2));
+                })
+                .thenReturn(List.of(task(3)));
+
+        EmployeeOffboardingService service = service(1);
+        OffboardingStatusDTO started = service.offboard(7);
+        assertEquals(OffboardingStatusDTO.State.RUNNING, started.getState());
+        assertEquals(3, started.getTotalTasks());
+
+        release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (service.findStatus(7).orElseThrow().getState() == OffboardingStatusDTO.State.RUNNING
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        OffboardingStatusDTO finished = service.findStatus(7).orElseThrow();
+        assertEquals(OffboardingStatusDTO.State.DONE, finished.getState());
+        assertEquals(3, finished.getDeletedTasks());
+        assertTrue(finished.getFinishedAt() != null);
+    }
+
+    @Test
+    void concurrentOffboard_startsOneJob() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(taskRepository.countByEmployee_Id(7)).thenReturn(3L);
+        when(taskRepository.findSnapshotsByEmployeeId(7, Limit.of(2)))
+                .thenAnswer(inv -> {
+                    release.await();
+                    return List.of(task(1), task(2));
+                })
+                .thenReturn(List.of(task(3)));
+
+        EmployeeOffboardingService service = service(1);
+        OffboardingStatusDTO first = service.offboard(7);
+        OffboardingStatusDTO second = service.offboard(7);
+        release.countDown();
+
+        assertEquals(OffboardingStatusDTO.State.RUNNING, second.getState());
+        assertEquals(first.getStartedAt(), second.getStartedAt());
+        awaitFinished(service, 7);
+        verify(taskRepository, times(2)).findSnapshotsByEmployeeId(7, Limit.of(2));
+    }
+
+    @Test
+    void finishedJobs_areEvictedAfterTheirTtl() {
+        when(taskRepository.countByEmployee_Id(7)).thenReturn(0L);
+        when(taskRepository.findSnapshotsByEmployeeId(7, Limit.of(2))).thenReturn(List.of());
+
+        EmployeeOffboardingService service = service(10);
+        service.offboard(7);
+        assertTrue(service.findStatus(7).isPresent());
+
+        service.evictFinished();
+        assertTrue(service.findStatus(7).isEmpty());
+    }
+
+    private static void awaitFinished(EmployeeOffboardingService service, int employeeId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (service.findStatus(employeeId).orElseThrow().getState() == OffboardingStatusDTO.State.RUNNING
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
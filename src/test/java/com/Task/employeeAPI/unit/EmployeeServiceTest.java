@@ -5,18 +5,24 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -24,20 +30,24 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.Task.employeeAPI.dao.Entity.Employee;
-import com.Task.employeeAPI.dao.Entity.Task;
-import com.Task.employeeAPI.dao.Entity.TaskWorkflow;
 import com.Task.employeeAPI.dao.Enums.Role;
 import com.Task.employeeAPI.dao.Repository.EmployeeRepository;
-import com.Task.employeeAPI.dao.Repository.TaskRepository;
-import com.Task.employeeAPI.dao.Repository.TaskWorkflowRepository;
+import com.Task.employeeAPI.dao.Repository.TaskChangeMarkerRepository;
 import com.Task.employeeAPI.dto.AuthResponseDTO;
+import com.Task.employeeAPI.dto.CursorPageDTO;
 import com.Task.employeeAPI.dto.EmployeeDTO;
 import com.Task.employeeAPI.dto.EmployeeLoginDTO;
 import com.Task.employeeAPI.dto.EmployeeUpdateDTO;
+import com.Task.employeeAPI.events.EmployeeChangedEvent;
 import com.Task.employeeAPI.exceptions.BadRequestException;
 import com.Task.employeeAPI.exceptions.NotFoundException;
+import com.Task.employeeAPI.exceptions.TooManyRequestsException;
+import com.Task.employeeAPI.mapper.EmployeeDtoMapper;
 import com.Task.employeeAPI.mapper.EmployeeMapper;
+import com.Task.employeeAPI.security.CustomUserDetailsService;
 import com.Task.employeeAPI.security.JwtTokenUtil;
+import com.Task.employeeAPI.security.LoginAttemptThrottle;
+import com.Task.employeeAPI.services.concrete.EmployeeOffboardingService;
 import com.Task.employeeAPI.services.concrete.EmployeeService;
 
 @ExtendWith(MockitoExtension.class)
@@ -47,13 +57,16 @@ public class EmployeeServiceTest {
     private EmployeeService employeeService;
 
     @Mock private EmployeeRepository employeeRepository;
-    @Mock private TaskRepository taskRepository;
-    @Mock private TaskWorkflowRepository taskWorkflowRepository;
+    @Mock private TaskChangeMarkerRepository taskChangeMarkerRepository;
+    @Mock private EmployeeOffboardingService employeeOffboardingService;
     @Mock private JwtTokenUtil jwtTokenUtil;
     @Mock private PasswordEncoder passwordEncoder;
     @Mock private AuthenticationManager authenticationManager;
-    @Mock private ModelMapper modelMapper;
+    @Mock private EmployeeDtoMapper employeeDtoMapper;
     @Mock private EmployeeMapper employeeMapper;
+    @Mock private CustomUserDetailsService userDetailsService;
+    @Mock private LoginAttemptThrottle loginAttemptThrottle;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     // -----------------------------------------------------
     // SIGNUP
@@ -84,7 +97,7 @@ public class EmployeeServiceTest {
                 .build();
 
         when(employeeRepository.save(any(Employee.class))).thenReturn(saved);
-        when(jwtTokenUtil.generateToken("test@example.com"))
+        when(jwtTokenUtil.generateToken(any(Employee.class)))
                 .thenReturn("jwt-token");
 
         AuthResponseDTO result = employeeService.signup(dto);
@@ -129,10 +142,10 @@ public class EmployeeServiceTest {
         when(employeeRepository.findByEmailAndIsDeletedFalse("test@example.com"))
                 .thenReturn(employee);
 
-        when(jwtTokenUtil.generateToken("test@example.com"))
+        when(jwtTokenUtil.generateToken(employee))
                 .thenReturn("jwt-token");
 
-        AuthResponseDTO result = employeeService.login(login);
+        AuthResponseDTO result = employeeService.login(login, "10.0.0.1");
 
         assertEquals("jwt-token", result.getToken());
         assertEquals("test@example.com", result.getUser().getEmail());
@@ -146,7 +159,22 @@ public class EmployeeServiceTest {
                 .thenThrow(new BadCredentialsException("Bad creds"));
 
         assertThrows(com.Task.employeeAPI.exceptions.BadCredentialsException.class,
-                () -> employeeService.login(login));
+                () -> employeeService.login(login, "10.0.0.1"));
+        verify(loginAttemptThrottle).recordFailure(null, "10.0.0.1");
+    }
+
+    @Test
+    void login_throttled_skipsAuthentication() {
+        EmployeeLoginDTO login = new EmployeeLoginDTO();
+        login.setEmail("test@example.com");
+        login.setPassword("1234");
+
+        doThrow(new TooManyRequestsException("Too many failed login attempts"))
+                .when(loginAttemptThrottle).checkAllowed("test@example.com", "10.0.0.1");
+
+        assertThrows(TooManyRequestsException.class,
+                () -> employeeService.login(login, "10.0.0.1"));
+        verifyNoInteractions(authenticationManager);
     }
 
     // -----------------------------------------------------
@@ -167,7 +195,7 @@ public class EmployeeServiceTest {
         Employee mapped = new Employee();
         mapped.setPassword("123");
 
-        when(modelMapper.map(dto, Employee.class)).thenReturn(mapped);
+        when(employeeDtoMapper.toEntity(dto)).thenReturn(mapped);
 
         // encode password
         when(passwordEncoder.encode("123")).thenReturn("encoded");
@@ -176,7 +204,7 @@ public class EmployeeServiceTest {
         when(employeeRepository.save(mapped)).thenReturn(mapped);
 
         // Entity -> DTO (ВАЖНО: именно mapped, а не saved)
-        when(modelMapper.map(mapped, EmployeeDTO.class)).thenReturn(dto);
+        when(employeeDtoMapper.toDto(mapped)).thenReturn(dto);
 
         // Act
         EmployeeDTO result = employeeService.createEmployee(dto);
@@ -216,7 +244,7 @@ public class EmployeeServiceTest {
         mapped.setId(1);
 
         when(employeeMapper.findEmployeeById(1)).thenReturn(emp);
-        when(modelMapper.map(emp, EmployeeDTO.class)).thenReturn(mapped);
+        when(employeeDtoMapper.toDto(emp)).thenReturn(mapped);
 
         EmployeeDTO result = employeeService.findEmployeeById(1);
 
@@ -236,16 +264,17 @@ public class EmployeeServiceTest {
     // -----------------------------------------------------
 
     @Test
-    void findAllEmployees_success() {
-        when(employeeRepository.findByIsDeletedFalse())
+    void findEmployeePage_success() {
+        when(employeeRepository.findActivePageAfter(0, Role.EMPLOYEE, Limit.of(51)))
                 .thenReturn(List.of(new Employee(), new Employee()));
 
-        when(modelMapper.map(any(Employee.class), eq(EmployeeDTO.class)))
-                .thenReturn(new EmployeeDTO());
+        when(employeeDtoMapper.toDtos(any()))
+                .thenReturn(List.of(new EmployeeDTO(), new EmployeeDTO()));
 
-        List<EmployeeDTO> list = employeeService.findAll();
+        CursorPageDTO<EmployeeDTO> page = employeeService.findPage(Role.EMPLOYEE, null, 50, Sort.Direction.ASC);
 
-        assertEquals(2, list.size());
+        assertEquals(2, page.getItems().size());
+        assertNull(page.getNextCursor());
     }
 
     // -----------------------------------------------------
@@ -257,23 +286,18 @@ public class EmployeeServiceTest {
         Employee emp = new Employee();
         emp.setId(1);
 
-        Task t = new Task();
-        t.setId(10);
-
         when(employeeRepository.findById(1)).thenReturn(Optional.of(emp));
-        when(taskRepository.findByEmployee_id(1)).thenReturn(List.of(t));
-        when(taskWorkflowRepository.findByTask_Id(10))
-                .thenReturn(List.of(new TaskWorkflow()));
 
-        when(modelMapper.map(emp, EmployeeDTO.class))
+        when(employeeDtoMapper.toDto(emp))
                 .thenReturn(new EmployeeDTO());
 
         EmployeeDTO out = employeeService.deleteEmployeeById(1);
 
         assertNotNull(out);
-        verify(taskWorkflowRepository).deleteAll(any());
-        verify(taskRepository).deleteById(10);
+        assertTrue(emp.isDeleted());
         verify(employeeRepository).save(emp);
+        verify(userDetailsService).revoke(emp);
+        verify(employeeOffboardingService).offboard(1);
     }
 
     @Test
@@ -306,13 +330,16 @@ public class EmployeeServiceTest {
         mapped.setName("New");
         mapped.setSurname("User");
 
-        when(modelMapper.map(emp, EmployeeDTO.class))
+        when(employeeDtoMapper.toDto(emp))
                 .thenReturn(mapped);
 
         EmployeeDTO result = employeeService.updateEmployeeById(1, dto);
 
         assertEquals("New", result.getName());
         assertEquals("User", result.getSurname());
+        verify(userDetailsService).evict("old@example.com");
+        verify(taskChangeMarkerRepository).markEmployeeTasks(eq(1), any());
+        verify(eventPublisher).publishEvent(new EmployeeChangedEvent(1));
     }
 
     @Test
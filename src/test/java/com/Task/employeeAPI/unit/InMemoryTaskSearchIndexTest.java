@@ -0,0 +1,78 @@
+package com.Task.employeeAPI.unit;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.Task.employeeAPI.dao.Enums.Priority;
+import com.Task.employeeAPI.dao.Enums.Status;
+import com.Task.employeeAPI.dao.Repository.TaskRepository;
+import com.Task.employeeAPI.dto.TaskDTO;
+import com.Task.employeeAPI.events.TaskChangedEvent;
+import com.Task.employeeAPI.events.TaskSnapshot;
+import com.Task.employeeAPI.services.concrete.InMemoryTaskSearchIndex;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryTaskSearchIndexTest {
+
+    @Mock private TaskRepository taskRepository;
+
+    private InMemoryTaskSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InMemoryTaskSearchIndex(taskRepository);
+        when(taskRepository.streamAllViews()).thenReturn(Stream.of(
+                task(1, "Quarterly report", "Prepare the quarterly report for finance"),
+                task(2, "Fix login", "Login page rejects valid passwords"),
+                task(3, "Report bug", "Report the login bug to the vendor")
+        ));
+        index.rebuild();
+    }
+
+    private static TaskDTO task(int id, String title, String description) {
+        return new TaskDTO(id, title, description, Priority.LOW, Status.CREATED, null, null, null, null, null);
+    }
+
+    private static TaskSnapshot snapshot(int id, Status status) {
+        return new TaskSnapshot(id, status, Priority.LOW, null);
+    }
+
+    @Test
+    void search_matchesAllTermsAndRanksByTermFrequency() {
+        // Task 1 says "report" twice, task 3 once
+        assertEquals(List.of(1, 3), index.search("report", 0, 10));
+        assertEquals(List.of(3), index.search("REPORT, login!", 0, 10));
+        assertEquals(List.of(), index.search("report payroll", 0, 10));
+        assertEquals(List.of(3), index.search("report", 1, 10));
+    }
+
+    @Test
+    void taskChanges_updateThePostings() {
+        when(taskRepository.findViewById(2)).thenReturn(Optional.of(task(2, "Fix signup", "Signup form crashes")));
+        index.onTaskChanged(new TaskChangedEvent(snapshot(2, Status.CREATED), snapshot(2, Status.CREATED)));
+        index.onTaskChanged(TaskChangedEvent.deleted(snapshot(3, Status.CREATED)));
+
+        assertEquals(List.of(), index.search("login", 0, 10));
+        assertEquals(List.of(2), index.search("signup", 0, 10));
+        assertEquals(List.of(1), index.search("report", 0, 10));
+    }
+
+    @Test
+    void statusChanges_doNotReloadTheText() {
+        index.onTaskChanged(new TaskChangedEvent(snapshot(1, Status.CREATED), snapshot(1, Status.IN_PROGRESS)));
+
+        verify(taskRepository).streamAllViews();
+        verifyNoMoreInteractions(taskRepository);
+    }
+}
@@ -0,0 +1,203 @@
+package com.Task.employeeAPI.unit;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.Task.employeeAPI.dto.NotificationDTO;
+import com.Task.employeeAPI.notification.NotificationConsumer;
+import com.Task.employeeAPI.notification.NotificationDeadLetters;
+import com.Task.employeeAPI.notification.NotificationProducer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationProducerTest {
+
+    @Mock private NotificationConsumer consumer;
+
+    private SimpleMeterRegistry registry;
+    private NotificationDeadLetters deadLetters;
+    private NotificationProducer producer;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        deadLetters = new NotificationDeadLetters(10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (producer != null) {
+            producer.shutdown();
+        }
+    }
+
+    private NotificationProducer producer(int lanes, int laneCapacity, int maxAttempts) {
+        producer = new NotificationProducer(consumer, deadLetters, registry, lanes, laneCapacity, maxAttempts,
+                Duration.ofMillis(1), Duration.ofMillis(4));
+        return producer;
+    }
+
+    private static NotificationDTO notification(String subject) {
+        return new NotificationDTO("farid@example.com", subject, "body");
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Timed out waiting for the lanes");
+            Thread.sleep(5);
+        }
+    }
+
+    @Test
+    void sameRecipient_ShouldBeDeliveredInOrderAcrossARetry() throws Exception {
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(3);
+        AtomicBoolean failedOnce = new AtomicBoolean();
+        doAnswer(inv -> {
+            NotificationDTO notification = inv.getArgument(0);
+            if (notification.getSubject().equals("1") && failedOnce.compareAndSet(false, true)) {
+                throw new MailSendException("Mail server unavailable");
+            }
+            delivered.add(notification.getSubject());
+            done.countDown();
+            return null;
+        }).when(consumer).process(any());
+
+        NotificationProducer producer = producer(4, 16, 3);
+        for (int i = 1; i <= 3; i++) {
+            producer.sendNotification(notification(String.valueOf(i)));
+        }
+
+        assertTrue(done.await(5, SECONDS));
+        assertEquals(List.of("1", "2", "3"), delivered);
+        assertEquals(1.0, registry.counter("notifications.retries").count());
+        // Counted once the consumer returns, which is after the latch
+        await(() -> registry.counter("notifications.sent").count() == 3.0);
+    }
+
+    @Test
+    void waitingRetry_ShouldNotHoldUpOtherRecipientsOnTheLane() throws Exception {
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        doAnswer(inv -> {
+            NotificationDTO notification = inv.getArgument(0);
+            if (notification.getEmail().equals("farid@example.com")) {
+                throw new MailSendException("Mailbox unavailable");
+            }
+            delivered.add(notification.getSubject());
+            return null;
+        }).when(consumer).process(any());
+
+        // One lane and a backoff far longer than the test: the retry is still waiting when it ends
+        producer = new NotificationProducer(consumer, deadLetters, registry, 1, 16, 3,
+                Duration.ofMinutes(1), Duration.ofMinutes(1));
+        producer.sendNotification(notification("1"));
+        producer.sendNotification(notification("2"));
+        producer.sendNotification(new NotificationDTO("ann@example.com", "3", "body"));
+
+        await(() -> delivered.contains("3"));
+        // "2" is held behind the retry of "1", so it was never attempted
+        verify(consumer, times(2)).process(any());
+        assertEquals(2, producer.queued());
+        assertEquals(1.0, registry.counter("notifications.retries").count());
+    }
+
+    @Test
+    void failingEveryAttempt_ShouldBeDeadLettered() throws Exception {
+        doThrow(new MailSendException("Mail server unavailable")).when(consumer).process(any());
+
+        producer(1, 16, 3).sendNotification(notification("1"));
+
+        await(() -> deadLetters.size() == 1);
+        verify(consumer, times(3)).process(any());
+        assertEquals(3, deadLetters.snapshot().getFirst().attempts());
+        assertEquals(1.0, registry.counter("notifications.failed").count());
+    }
+
+    @Test
+    void fullLane_ShouldRejectWithoutBlocking() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(inv -> {
+            started.countDown();
+            release.await();
+            return null;
+        }).when(consumer).process(any());
+
+        NotificationProducer producer = producer(1, 1, 1);
+        assertTrue(producer.enqueue(notification("1")));
+        // The lane thread holds the first message, so one more fits in the queue
+        assertTrue(started.await(5, SECONDS));
+        assertTrue(producer.enqueue(notification("2")));
+        assertFalse(producer.enqueue(notification("3")));
+
+        assertEquals(1.0, registry.counter("notifications.rejected").count());
+        assertEquals("3", deadLetters.snapshot().getFirst().notification().getSubject());
+        release.countDown();
+    }
+
+    @Test
+    void shutdown_ShouldDeadLetterTheRetryAndEverythingHeldBehindIt() throws Exception {
+        doThrow(new MailSendException("Mail server unavailable")).when(consumer).process(any());
+
+        // A backoff far longer than the test: "1" waits to retry and "2", "3" are held behind it
+        producer = new NotificationProducer(consumer, deadLetters, registry, 1, 16, 3,
+                Duration.ofMinutes(1), Duration.ofMinutes(1));
+        for (int i = 1; i <= 3; i++) {
+            producer.sendNotification(notification(String.valueOf(i)));
+        }
+        await(() -> producer.queued() == 3 && registry.counter("notifications.retries").count() == 1.0);
+
+        producer.shutdown();
+
+        await(() -> deadLetters.size() == 3);
+        assertEquals(List.of("1", "2", "3"), deadLetters.snapshot().stream()
+                .map(letter -> letter.notification().getSubject()).toList());
+        assertEquals(0, producer.queued());
+        verify(consumer, times(1)).process(any());
+    }
+
+    @Test
+    void insideTransaction_ShouldBeQueuedOnCommit() {
+        NotificationProducer producer = producer(1, 16, 1);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            producer.sendNotification(notification("1"));
+            assertEquals(0, producer.queued());
+            verify(consumer, never()).process(any());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(consumer, timeout(5000)).process(any());
+    }
+}
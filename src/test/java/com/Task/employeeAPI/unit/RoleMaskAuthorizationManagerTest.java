@@ -0,0 +1,72 @@
+package com.Task.employeeAPI.unit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+import com.Task.employeeAPI.dao.Enums.Role;
+import com.Task.employeeAPI.security.AllowedRoles;
+import com.Task.employeeAPI.security.CustomUserDetails;
+import com.Task.employeeAPI.security.RoleMaskAuthorizationManager;
+
+class RoleMaskAuthorizationManagerTest {
+
+    static class Endpoints {
+        @AllowedRoles(value = {Role.HR, Role.HEAD_MANAGER}, owner = "id")
+        public void ownerOrManager(Integer id) {
+        }
+
+        @AllowedRoles(Role.HEAD_MANAGER)
+        public void headOnly() {
+        }
+
+        @AllowedRoles(value = Role.HR, owner = "missing")
+        public void brokenOwner(Integer id) {
+        }
+    }
+
+    private final RoleMaskAuthorizationManager manager = new RoleMaskAuthorizationManager();
+
+    private static Authentication principal(int id, Role role) {
+        CustomUserDetails user = CustomUserDetails.fromClaims(id, "u", "u@example.com", role);
+        return new TestingAuthenticationToken(user, null, user.getAuthorities().stream().toList());
+    }
+
+    private boolean check(Authentication authentication, String method, Object... args) throws Exception {
+        Class<?>[] types = args.length == 0 ? new Class<?>[0] : new Class<?>[]{Integer.class};
+        SimpleMethodInvocation invocation = new SimpleMethodInvocation(new Endpoints(), Endpoints.class.getMethod(method, types), args);
+        return manager.authorize(() -> authentication, invocation).isGranted();
+    }
+
+    @Test
+    void allowedRole_isGranted() throws Exception {
+        assertTrue(check(principal(1, Role.HEAD_MANAGER), "headOnly"));
+        assertTrue(check(principal(1, Role.HR), "ownerOrManager", 99));
+    }
+
+    @Test
+    void otherRole_isDenied() throws Exception {
+        assertFalse(check(principal(1, Role.HR_MANAGER), "headOnly"));
+        assertFalse(check(principal(1, Role.EMPLOYEE), "ownerOrManager", 99));
+    }
+
+    @Test
+    void owner_isGrantedWithoutRole() throws Exception {
+        assertTrue(check(principal(99, Role.EMPLOYEE), "ownerOrManager", 99));
+    }
+
+    @Test
+    void principalWithoutMask_fallsBackToAuthorities() throws Exception {
+        assertTrue(check(new TestingAuthenticationToken("user", null, "ROLE_HEAD_MANAGER"), "headOnly"));
+        assertFalse(check(new TestingAuthenticationToken("user", null, "ROLE_EMPLOYEE"), "headOnly"));
+    }
+
+    @Test
+    void unknownOwnerParameter_failsFast() {
+        assertThrows(IllegalStateException.class, () -> check(principal(1, Role.HR), "brokenOwner", 1));
+    }
+}
@@ -0,0 +1,132 @@
+package com.Task.employeeAPI.unit;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.Task.employeeAPI.security.SlidingWindowCounter;
+
+class SlidingWindowCounterTest {
+
+    private static final Duration WINDOW = Duration.ofMinutes(10);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final SlidingWindowCounter counter = new SlidingWindowCounter(1024, WINDOW, clock::get);
+
+    @Test
+    void estimate_countsIncrementsWithinWindow() {
+        for (int i = 0; i < 5; i++) {
+            counter.increment("farid@example.com");
+        }
+
+        assertEquals(5.0, counter.estimate("farid@example.com"));
+        assertEquals(0.0, counter.estimate("other@example.com"));
+    }
+
+    @Test
+    void estimate_previousWindowDecaysLinearly() {
+        for (int i = 0; i < 10; i++) {
+            counter.increment("farid@example.com");
+        }
+
+        // Halfway into the next window half of the old count still applies
+        clock.addAndGet(WINDOW.toNanos() + WINDOW.toNanos() / 2);
+        assertEquals(5.0, counter.estimate("farid@example.com"), 0.001);
+
+        counter.increment("farid@example.com");
+        assertEquals(6.0, counter.estimate("farid@example.com"), 0.001);
+    }
+
+    @Test
+    void estimate_afterTwoIdleWindows_isZero() {
+        counter.increment("farid@example.com");
+
+        clock.addAndGet(WINDOW.toNanos() * 3);
+
+        assertEquals(0.0, counter.estimate("farid@example.com"));
+    }
+
+    @Test
+    void estimate_neverUnderestimatesUnderManyKeys() {
+        for (int i = 0; i < 5_000; i++) {
+            counter.increment("client-" + i);
+        }
+        counter.increment("target");
+        counter.increment("target");
+
+        assertTrue(counter.estimate("target") >= 2.0);
+    }
+
+    @Test
+    void estimate_concurrentIncrementsOfOneKeyAreAllCounted() throws InterruptedException {
+        int threads = 8;
+        int perThread = 2_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < perThread; i++) {
+                    counter.increment("farid@example.com");
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertTrue(counter.estimate("farid@example.com") >= threads * perThread);
+    }
+
+    @Test
+    void estimate_keysWithEqualStringHashesAreCountedApart() {
+        // "AaAa" and "BBBB" have the same String.hashCode()
+        for (int i = 0; i < 5; i++) {
+            counter.increment("AaAa");
+        }
+
+        assertEquals(5.0, counter.estimate("AaAa"));
+        assertEquals(0.0, counter.estimate("BBBB"));
+    }
+
+    @Test
+    void estimate_sizedForTheLoad_doesNotLockOutUntouchedKeys() {
+        SlidingWindowCounter sized = new SlidingWindowCounter(SlidingWindowCounter.widthFor(40_000), WINDOW, clock::get);
+        for (int i = 0; i < 40_000; i++) {
+            sized.increment("attacker-" + i + "@example.com");
+        }
+
+        int lockedOut = 0;
+        for (int i = 0; i < 1_000; i++) {
+            lockedOut += sized.estimate("user-" + i + "@example.com") >= 5 ? 1 : 0;
+        }
+        assertEquals(0, lockedOut);
+    }
+
+    @Test
+    void widthFor_roundsUpToAPowerOfTwo() {
+        assertEquals(65_536, SlidingWindowCounter.widthFor(50_000));
+        assertEquals(1_024, SlidingWindowCounter.widthFor(1_024));
+        assertEquals(64, SlidingWindowCounter.widthFor(1));
+    }
+
+    @Test
+    void constructor_rejectsNonPowerOfTwoWidth() {
+        assertThrows(IllegalArgumentException.class, () -> new SlidingWindowCounter(1000, WINDOW, clock::get));
+    }
+}
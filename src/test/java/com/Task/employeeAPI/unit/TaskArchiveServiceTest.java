@@ -0,0 +1,108 @@
+package com.Task.employeeAPI.unit;
+
+import com.Task.employeeAPI.dao.Enums.Priority;
+import com.Task.employeeAPI.dao.Enums.Status;
+import com.Task.employeeAPI.dao.Repository.ArchivedTaskRepository;
+import com.Task.employeeAPI.dao.Repository.ArchivedTaskWorkflowRepository;
+import com.Task.employeeAPI.dao.Repository.TaskChangeMarkerRepository;
+import com.Task.employeeAPI.dao.Repository.TaskRepository;
+import com.Task.employeeAPI.dao.Repository.TaskWorkflowRepository;
+import com.Task.employeeAPI.events.TaskChangedEvent;
+import com.Task.employeeAPI.events.TaskSnapshot;
+import com.Task.employeeAPI.exceptions.NotFoundException;
+import com.Task.employeeAPI.services.concrete.TaskArchiveService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskArchiveServiceTest {
+
+    @Mock private TaskRepository taskRepository;
+    @Mock private TaskWorkflowRepository taskWorkflowRepository;
+    @Mock private TaskChangeMarkerRepository taskChangeMarkerRepository;
+    @Mock private ArchivedTaskRepository archivedTaskRepository;
+    @Mock private ArchivedTaskWorkflowRepository archivedTaskWorkflowRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private TransactionTemplate transactionTemplate;
+
+    private TaskArchiveService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TaskArchiveService(taskRepository, taskWorkflowRepository, taskChangeMarkerRepository,
+                archivedTaskRepository, archivedTaskWorkflowRepository, eventPublisher, transactionTemplate,
+                Duration.ofDays(90), 2);
+    }
+
+    private void runCallbacksInline() {
+        when(transactionTemplate.execute(any())).thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    private static TaskSnapshot task(int id) {
+        return new TaskSnapshot(id, Status.DONE, Priority.LOW, 7);
+    }
+
+    @Test
+    void archiveCompletedBefore_ShouldCopyThenDeleteEachChunk() {
+        runCallbacksInline();
+        LocalDateTime cutoff = LocalDateTime.of(2026, 1, 1, 0, 0);
+        when(taskRepository.findArchivableSnapshots(cutoff, Limit.of(2)))
+                .thenReturn(List.of(task(1), task(2)), List.of(task(3)));
+
+        assertEquals(3, service.archiveCompletedBefore(cutoff));
+
+        // Copies are taken before the rows they read are deleted
+        InOrder order = inOrder(archivedTaskRepository, archivedTaskWorkflowRepository, taskWorkflowRepository, taskRepository);
+        order.verify(archivedTaskRepository).copyFromTasks(eq(List.of(1, 2)), any());
+        order.verify(archivedTaskWorkflowRepository).copyFromWorkflows(List.of(1, 2));
+        order.verify(taskWorkflowRepository).deleteByTaskIdIn(List.of(1, 2));
+        order.verify(taskRepository).deleteByIdIn(List.of(1, 2));
+        order.verify(archivedTaskRepository).copyFromTasks(eq(List.of(3)), any());
+        order.verify(taskRepository).deleteByIdIn(List.of(3));
+
+        verify(taskChangeMarkerRepository).markDeleted(eq(List.of(3)), any());
+        verify(eventPublisher).publishEvent(TaskChangedEvent.deleted(task(1)));
+        verify(eventPublisher).publishEvent(TaskChangedEvent.deleted(task(3)));
+    }
+
+    @Test
+    void archiveCompletedBefore_ShouldStopWhenNothingIsDue() {
+        runCallbacksInline();
+        when(taskRepository.findArchivableSnapshots(any(), eq(Limit.of(2)))).thenReturn(List.of());
+
+        assertEquals(0, service.archiveCompletedBefore(LocalDateTime.now()));
+
+        verify(archivedTaskRepository, never()).copyFromTasks(any(), any());
+        verify(taskRepository, never()).deleteByIdIn(any());
+    }
+
+    @Test
+    void findArchivedWorkflows_ShouldThrowForUnknownTask() {
+        when(archivedTaskRepository.existsById(5)).thenReturn(false);
+
+        NotFoundException ex = assertThrows(NotFoundException.class, () -> service.findArchivedWorkflows(5));
+
+        assertEquals("Archived task with id 5 was not found!", ex.getMsg());
+    }
+}
@@ -0,0 +1,141 @@
+package com.Task.employeeAPI.unit;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.Task.employeeAPI.dao.Enums.Priority;
+import com.Task.employeeAPI.dao.Enums.Role;
+import com.Task.employeeAPI.dao.Enums.Status;
+import com.Task.employeeAPI.dao.Repository.TaskRepository;
+import com.Task.employeeAPI.dto.TaskBoardDTO;
+import com.Task.employeeAPI.dto.TaskDTO;
+import com.Task.employeeAPI.events.EmployeeChangedEvent;
+import com.Task.employeeAPI.events.TaskChangedEvent;
+import com.Task.employeeAPI.events.TaskSnapshot;
+import com.Task.employeeAPI.services.concrete.TaskBoardService;
+
+@ExtendWith(MockitoExtension.class)
+class TaskBoardServiceTest {
+
+    @Mock private TaskRepository taskRepository;
+
+    private TaskBoardService boardService;
+
+    @BeforeEach
+    void setUp() {
+        boardService = new TaskBoardService(taskRepository);
+    }
+
+    private static TaskDTO card(int id, Status status, Integer employeeId, String employeeName) {
+        return new TaskDTO(id, "Task " + id, "Description", Priority.MEDIUM, status,
+                employeeId, employeeName, "Doe", "e" + employeeId + "@example.com", Role.EMPLOYEE);
+    }
+
+    private static TaskChangedEvent changed(int taskId) {
+        return TaskChangedEvent.created(new TaskSnapshot(taskId, Status.CREATED, Priority.MEDIUM, null));
+    }
+
+    private static List<Integer> ids(TaskBoardDTO board, Status status) {
+        return board.getColumns().get(status).stream().map(TaskDTO::getId).toList();
+    }
+
+    @Test
+    void rebuild_bucketsCardsByStatusAndAssignee() {
+        when(taskRepository.streamAllViews()).thenReturn(Stream.of(
+                card(1, Status.CREATED, 7, "Ann"),
+                card(2, Status.IN_PROGRESS, 7, "Ann"),
+                card(3, null, 8, "Bob")
+        ));
+
+        boardService.rebuild();
+
+        TaskBoardDTO team = boardService.getTeamBoard();
+        assertEquals(List.of(1, 3), ids(team, Status.CREATED));
+        assertEquals(List.of(2), ids(team, Status.IN_PROGRESS));
+        assertTrue(ids(team, Status.DONE).isEmpty());
+
+        TaskBoardDTO ann = boardService.getEmployeeBoard(7);
+        assertEquals(List.of(1), ids(ann, Status.CREATED));
+        assertEquals(List.of(2), ids(ann, Status.IN_PROGRESS));
+        assertEquals(4, boardService.getEmployeeBoard(99).getColumns().size());
+    }
+
+    @Test
+    void taskChanged_movesCardBetweenColumnsAndAssignees() {
+        when(taskRepository.findViewById(1)).thenReturn(
+                Optional.of(card(1, Status.CREATED, 7, "Ann")),
+                Optional.of(card(1, Status.RESOLVED, 8, "Bob")),
+                Optional.empty());
+
+        boardService.onTaskChanged(changed(1));
+        assertEquals(List.of(1), ids(boardService.getEmployeeBoard(7), Status.CREATED));
+
+        boardService.onTaskChanged(changed(1));
+        assertTrue(ids(boardService.getTeamBoard(), Status.CREATED).isEmpty());
+        assertEquals(List.of(1), ids(boardService.getTeamBoard(), Status.RESOLVED));
+        assertTrue(ids(boardService.getEmployeeBoard(7), Status.CREATED).isEmpty());
+        assertEquals(List.of(1), ids(boardService.getEmployeeBoard(8), Status.RESOLVED));
+
+        // Deleted: the card leaves every board
+        boardService.onTaskChanged(changed(1));
+        assertTrue(ids(boardService.getTeamBoard(), Status.RESOLVED).isEmpty());
+        assertTrue(ids(boardService.getEmployeeBoard(8), Status.RESOLVED).isEmpty());
+    }
+
+    @Test
+    void employeeChanged_reloadsTheirCards() {
+        when(taskRepository.streamAllViews()).thenReturn(Stream.of(card(1, Status.CREATED, 7, "Ann")));
+        boardService.rebuild();
+
+        TaskDTO renamed = card(1, Status.CREATED, 7, "Anna");
+        when(taskRepository.findViewsByEmployeeId(7)).thenReturn(List.of(renamed));
+
+        boardService.onEmployeeChanged(new EmployeeChangedEvent(7));
+
+        assertEquals("Anna", boardService.getTeamBoard().getColumns().get(Status.CREATED).get(0).getEmployee().getName());
+    }
+
+    @Test
+    void taskChanged_slowReadDoesNotOverwriteANewerCard() {
+        // The first read is overtaken: while it runs, a later change is read and applied in full
+        AtomicInteger reads = new AtomicInteger();
+        when(taskRepository.findViewById(1)).thenAnswer(inv -> {
+            if (reads.incrementAndGet() == 1) {
+                boardService.onTaskChanged(changed(1));
+                return Optional.of(card(1, Status.IN_PROGRESS, 7, "Ann"));
+            }
+            return Optional.of(card(1, Status.RESOLVED, 7, "Ann"));
+        });
+
+        boardService.onTaskChanged(changed(1));
+
+        assertEquals(List.of(1), ids(boardService.getTeamBoard(), Status.RESOLVED));
+        assertTrue(ids(boardService.getTeamBoard(), Status.IN_PROGRESS).isEmpty());
+    }
+
+    @Test
+    void rebuild_replaysChangesMadeWhileStreaming() {
+        when(taskRepository.findViewById(2)).thenReturn(Optional.of(card(2, Status.IN_PROGRESS, 7, "Ann")));
+        when(taskRepository.streamAllViews()).thenAnswer(inv -> {
+            // Committed after the stream's snapshot: the board learns of it from the event
+            boardService.onTaskChanged(changed(2));
+            return Stream.of(card(1, Status.CREATED, 7, "Ann"));
+        });
+
+        boardService.rebuild();
+
+        assertEquals(List.of(1), ids(boardService.getTeamBoard(), Status.CREATED));
+        assertEquals(List.of(2), ids(boardService.getTeamBoard(), Status.IN_PROGRESS));
+    }
+}
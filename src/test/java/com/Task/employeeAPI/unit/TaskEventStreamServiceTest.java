@@ -0,0 +1,138 @@
+package com.Task.employeeAPI.unit;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.lenient;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.Task.employeeAPI.dao.Enums.Priority;
+import com.Task.employeeAPI.dao.Enums.Status;
+import com.Task.employeeAPI.dao.Repository.TaskRepository;
+import com.Task.employeeAPI.dto.TaskDTO;
+import com.Task.employeeAPI.events.TaskChangedEvent;
+import com.Task.employeeAPI.events.TaskSnapshot;
+import com.Task.employeeAPI.services.concrete.TaskEventStreamService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class TaskEventStreamServiceTest {
+
+    /** Records the event names it is asked to send; optionally blocks until released, like a stalled client. */
+    private static class RecordingEmitter extends SseEmitter {
+        final List<String> names = new CopyOnWriteArrayList<>();
+        final CountDownLatch sending = new CountDownLatch(1);
+        final CountDownLatch release;
+
+        RecordingEmitter(boolean blocked) {
+            this.release = new CountDownLatch(blocked ? 1 : 0);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sending.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            String text = builder.build().stream()
+                    .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                    .map(String::valueOf)
+                    .reduce("", String::concat);
+            names.add(text.startsWith("event:") ? text.substring(6, text.indexOf('\n')) : "comment");
+        }
+    }
+
+    @Mock private TaskRepository taskRepository;
+
+    private SimpleMeterRegistry registry;
+    private TaskEventStreamService streamService;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        streamService = new TaskEventStreamService(taskRepository, registry, Duration.ofMinutes(1), 16);
+        lenient().when(taskRepository.findViewById(anyInt())).thenReturn(Optional.of(new TaskDTO()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        streamService.shutdown();
+    }
+
+    private static TaskChangedEvent created(int taskId, int employeeId) {
+        return TaskChangedEvent.created(new TaskSnapshot(taskId, Status.CREATED, Priority.LOW, employeeId));
+    }
+
+    private static void awaitNames(RecordingEmitter emitter, List<String> expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!emitter.names.equals(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, emitter.names);
+    }
+
+    @Test
+    void events_areFilteredPerSubscriber() throws Exception {
+        RecordingEmitter team = new RecordingEmitter(false);
+        RecordingEmitter own = new RecordingEmitter(false);
+        streamService.register(team, null);
+        streamService.register(own, 7);
+
+        streamService.onTaskChanged(created(1, 7));
+        streamService.onTaskChanged(created(2, 8));
+        // Reassigned away from 7: they still hear about it
+        streamService.onTaskChanged(new TaskChangedEvent(
+                new TaskSnapshot(3, Status.CREATED, Priority.LOW, 7),
+                new TaskSnapshot(3, Status.CREATED, Priority.LOW, 8)));
+
+        awaitNames(team, List.of("connected", "task", "task", "task"));
+        awaitNames(own, List.of("connected", "task", "task"));
+        assertEquals(2, streamService.getSubscriberCount());
+    }
+
+    @Test
+    void slowSubscriber_overflowDropsBufferAndSignalsResync() throws Exception {
+        streamService.shutdown();
+        streamService = new TaskEventStreamService(taskRepository, registry, Duration.ofMinutes(1), 2);
+        RecordingEmitter slow = new RecordingEmitter(true);
+        streamService.register(slow, null);
+
+        // The writer is stuck on "connected"; two events fill the buffer and the third overflows it
+        assertTrue(slow.sending.await(5, TimeUnit.SECONDS));
+        for (int taskId = 1; taskId <= 3; taskId++) {
+            streamService.onTaskChanged(created(taskId, 7));
+        }
+
+        slow.release.countDown();
+        awaitNames(slow, List.of("connected", "resync"));
+        assertEquals(1.0, registry.get("tasks.events.resyncs").counter().count());
+    }
+
+    @Test
+    void heartbeat_isSentToIdleStreams() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter(false);
+        streamService.register(emitter, null);
+        awaitNames(emitter, List.of("connected"));
+
+        streamService.heartbeat();
+
+        awaitNames(emitter, List.of("connected", "comment"));
+    }
+}
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -11,14 +12,18 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.argThat;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.authentication.TestingAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 
@@ -26,15 +31,21 @@ import com.Task.employeeAPI.dao.Entity.Employee;
 import com.Task.employeeAPI.dao.Entity.Task;
 import com.Task.employeeAPI.dao.Entity.TaskWorkflow;
 import com.Task.employeeAPI.dao.Enums.Priority;
+import com.Task.employeeAPI.dao.Enums.Role;
+import com.Task.employeeAPI.dao.Enums.Status;
 import com.Task.employeeAPI.dao.Repository.EmployeeRepository;
+import com.Task.employeeAPI.dao.Repository.TaskChangeMarkerRepository;
 import com.Task.employeeAPI.dao.Repository.TaskRepository;
 import com.Task.employeeAPI.dao.Repository.TaskWorkflowRepository;
-import com.Task.employeeAPI.dto.EmployeeDTO;
+import com.Task.employeeAPI.dto.CursorPageDTO;
 import com.Task.employeeAPI.dto.NotificationDTO;
 import com.Task.employeeAPI.dto.TaskCreateDTO;
 import com.Task.employeeAPI.dto.TaskDTO;
+import com.Task.employeeAPI.events.TaskChangedEvent;
+import com.Task.employeeAPI.events.TaskSnapshot;
 import com.Task.employeeAPI.exceptions.BadRequestException;
 import com.Task.employeeAPI.exceptions.NotFoundException;
+import com.Task.employeeAPI.mapper.TaskDtoMapper;
 import com.Task.employeeAPI.notification.NotificationProducer;
 import com.Task.employeeAPI.security.CustomUserDetails;
 import com.Task.employeeAPI.services.concrete.EmailService;
@@ -60,7 +71,10 @@ class TaskServiceTest {
     private TaskWorkflowRepository taskWorkflowRepository;
 
     @Mock
-    private ModelMapper modelMapper;
+    private TaskChangeMarkerRepository taskChangeMarkerRepository;
+
+    @Mock
+    private TaskDtoMapper taskDtoMapper;
 
     @Mock
     private EmailService emailService;
@@ -68,6 +82,9 @@ class TaskServiceTest {
     @Mock
     private NotificationProducer notificationProducer; // ← This is the red one
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @BeforeEach
     void clearContext() {
         SecurityContextHolder.clearContext();
@@ -142,12 +159,10 @@ class TaskServiceTest {
                 .thenAnswer(inv -> inv.getArgument(0));
 
 
-        // modelMapper output
+        // mapper output
         TaskDTO out = new TaskDTO();
-        when(modelMapper.map(any(Task.class), eq(TaskDTO.class)))
+        when(taskDtoMapper.toDto(any(Task.class)))
                 .thenReturn(out);
-        when(modelMapper.map(eq(empEntity), eq(EmployeeDTO.class)))
-                .thenReturn(new EmployeeDTO());
 
         // Act
         TaskDTO result = taskService.createTask(in);
@@ -156,6 +171,61 @@ class TaskServiceTest {
         assertSame(out, result);                        // returned expected DTO
         verify(taskRepository).save(any(Task.class));   // task saved
         verify(taskWorkflowRepository).save(any(TaskWorkflow.class)); // workflow saved
+        verify(eventPublisher).publishEvent(TaskChangedEvent.created(new TaskSnapshot(0, Status.CREATED, Priority.MEDIUM, 7)));
+    }
+
+    private TaskCreateDTO batchItem(String title, int employeeId) {
+        TaskCreateDTO dto = new TaskCreateDTO();
+        dto.setTitle(title);
+        dto.setDescription("imported");
+        dto.setPriority(Priority.LOW);
+        dto.setEmployeeId(employeeId);
+        return dto;
+    }
+
+    @Test
+    void createTasks_unknownAssignee_throwsNotFoundBeforeInserting() {
+        Employee known = new Employee();
+        known.setId(7);
+        known.setRole(Role.EMPLOYEE);
+        when(employeeRepository.findByIdInAndIsDeletedFalse(argThat(ids -> ids.containsAll(List.of(7, 8)))))
+                .thenReturn(List.of(known));
+
+        assertThrows(NotFoundException.class,
+                () -> taskService.createTasks(List.of(batchItem("A", 7), batchItem("B", 8))));
+        verify(taskRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void createTasks_validBatch_savesTasksThenWorkflowsWithOneAssigneeQuery() {
+        Employee assignee = new Employee();
+        assignee.setId(7);
+        assignee.setName("Ann");
+        assignee.setRole(Role.EMPLOYEE);
+        when(employeeRepository.findByIdInAndIsDeletedFalse(argThat(ids -> ids.size() == 1 && ids.contains(7))))
+                .thenReturn(List.of(assignee));
+
+        setAuth("updater@example.com", 99);
+        Employee updater = new Employee();
+        when(employeeRepository.findByEmailAndIsDeletedFalse("updater@example.com")).thenReturn(updater);
+
+        doAnswer(inv -> {
+            List<Task> tasks = inv.getArgument(0);
+            for (int i = 0; i < tasks.size(); i++) {
+                tasks.get(i).setId(100 + i);
+            }
+            return tasks;
+        }).when(taskRepository).saveAll(any());
+
+        List<TaskDTO> result = taskService.createTasks(List.of(batchItem("A", 7), batchItem("B", 7)));
+
+        assertEquals(List.of(100, 101), result.stream().map(TaskDTO::getId).toList());
+        assertEquals("Ann", result.get(0).getEmployee().getName());
+        verify(taskWorkflowRepository).saveAll(argThat((List<TaskWorkflow> workflows) -> workflows.size() == 2
+                && workflows.get(1).getTask().getId() == 101
+                && workflows.get(1).getUpdatedBy() == updater));
+        verify(eventPublisher).publishEvent(TaskChangedEvent.created(new TaskSnapshot(101, Status.CREATED, Priority.LOW, 7)));
+        verify(taskRepository, never()).save(any(Task.class));
     }
 
 
@@ -164,73 +234,72 @@ class TaskServiceTest {
 
     @Test
     void findTaskById_notFound_throwsNotFound() {
-        when(taskRepository.findById(1)).thenReturn(Optional.empty());
+        when(taskRepository.findViewById(1)).thenReturn(Optional.empty());
         assertThrows(NotFoundException.class, () -> taskService.findTaskById(1));
     }
 
     @Test
     void findTaskById_found_returnsDto() {
-        Task t = new Task();
-        when(taskRepository.findById(2))
-                .thenReturn(Optional.of(t));
         TaskDTO dto = new TaskDTO();
-        when(modelMapper.map(t, TaskDTO.class)).thenReturn(dto);
+        when(taskRepository.findViewById(2))
+                .thenReturn(Optional.of(dto));
         assertSame(dto, taskService.findTaskById(2));
     }
 
     @Test
-    void findAll_returnsListOfDto() {
+    void findPage_fetchesOneExtraRowAndReturnsNextCursor() {
         // Arrange
-        Task t1 = new Task();
-        Task t2 = new Task();
-
-        when(taskRepository.findAll())
-                .thenReturn(List.of(t1, t2));
-
-        TaskDTO d1 = new TaskDTO();
-        TaskDTO d2 = new TaskDTO();
+        TaskDTO d1 = view(5);
+        TaskDTO d2 = view(7);
+        TaskDTO d3 = view(9);
 
-        when(modelMapper.map(t1, TaskDTO.class)).thenReturn(d1);
-        when(modelMapper.map(t2, TaskDTO.class)).thenReturn(d2);
+        when(taskRepository.findPageAfter(0, Status.CREATED, null, null, Limit.of(3)))
+                .thenReturn(List.of(d1, d2, d3));
 
         // Act
-        List<TaskDTO> list = taskService.findAll();
+        CursorPageDTO<TaskDTO> page = taskService.findPage(Status.CREATED, null, null, null, 2, Sort.Direction.ASC);
 
         // Assert
-        assertEquals(2, list.size());
-        assertTrue(list.containsAll(List.of(d1, d2)));
+        assertEquals(List.of(d1, d2), page.getItems());
+        assertEquals(7, page.getNextCursor());
     }
 
     @Test
-    void findAllEmployeeTasks_returnsOnlyThatEmployeeTasks() {
-        // Arrange
-        Employee e = new Employee();
-        e.setId(10);
+    void findPage_descendingLastPage_hasNoNextCursor() {
+        when(taskRepository.findPageBefore(10, null, Priority.HIGH, 4, Limit.of(51)))
+                .thenReturn(List.of(view(3)));
 
-        Task t = new Task();
-        t.setEmployee(e);
-
-        when(taskRepository.findByEmployee_id(10))
-                .thenReturn(List.of(t));
+        CursorPageDTO<TaskDTO> page = taskService.findPage(null, Priority.HIGH, 4, 10, 50, Sort.Direction.DESC);
 
-        TaskDTO mapped = new TaskDTO();
-        EmployeeDTO mappedEmp = new EmployeeDTO();
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
 
-        when(modelMapper.map(t, TaskDTO.class))
-                .thenReturn(mapped);
+    @Test
+    void findAllEmployeeTasks_returnsOnlyThatEmployeeTasks() {
+        // Arrange
+        TaskDTO row = new TaskDTO(1, "Title", "Description", Priority.LOW, Status.CREATED,
+                10, "Farid", "Valiyev", "farid@example.com", Role.EMPLOYEE);
 
-        when(modelMapper.map(e, EmployeeDTO.class))
-                .thenReturn(mappedEmp);
+        when(taskRepository.findViewsByEmployeeId(10))
+                .thenReturn(List.of(row));
 
         // Act
         List<TaskDTO> result = taskService.findAllEmployeeTasks(10);
 
         // Assert
         assertEquals(1, result.size());
-        assertSame(mapped, result.get(0));
-        assertSame(mappedEmp, result.get(0).getEmployee());
+        assertEquals(10, result.get(0).getEmployee().getId());
+        assertEquals("Farid", result.get(0).getEmployee().getName());
+        assertNull(result.get(0).getEmployee().getPassword());
 
-        verify(taskRepository).findByEmployee_id(10);
+        verify(taskRepository).findViewsByEmployeeId(10);
+    }
+
+    private static TaskDTO view(int id) {
+        TaskDTO dto = new TaskDTO();
+        dto.setId(id);
+        return dto;
     }
 
 
@@ -249,14 +318,9 @@ class TaskServiceTest {
         when(taskRepository.findById(6))
                 .thenReturn(Optional.of(t));
 
-        // Mock: workflows exist
-        List<TaskWorkflow> workflows = List.of(new TaskWorkflow(), new TaskWorkflow());
-        when(taskWorkflowRepository.findByTask_Id(6))
-                .thenReturn(workflows);
-
         // Map to DTO
         TaskDTO mapped = new TaskDTO();
-        when(modelMapper.map(t, TaskDTO.class))
+        when(taskDtoMapper.toDto(t))
                 .thenReturn(mapped);
 
         // Act
@@ -265,9 +329,10 @@ class TaskServiceTest {
         // Assert
         assertSame(mapped, out);
 
-        verify(taskWorkflowRepository).findByTask_Id(6);
-        verify(taskWorkflowRepository).deleteAll(workflows);
-        verify(taskRepository).delete(t);
+        verify(taskWorkflowRepository).deleteByTaskIdIn(List.of(6));
+        verify(taskRepository).deleteByIdIn(List.of(6));
+        verify(taskChangeMarkerRepository).save(argThat(marker -> marker.getTaskId() == 6 && marker.isDeleted()));
+        verify(eventPublisher).publishEvent(TaskChangedEvent.deleted(TaskSnapshot.of(t)));
     }
 
 
@@ -304,8 +369,7 @@ class TaskServiceTest {
 
         // output mapping
         TaskDTO mapped = new TaskDTO();
-        when(modelMapper.map(existing, TaskDTO.class)).thenReturn(mapped);
-        when(modelMapper.map(oldEmployee, EmployeeDTO.class)).thenReturn(new EmployeeDTO());
+        when(taskDtoMapper.toDto(existing)).thenReturn(mapped);
 
         // Act
         TaskDTO out = taskService.updateTaskById(3, input);
@@ -318,6 +382,7 @@ class TaskServiceTest {
         assertSame(oldEmployee, existing.getEmployee()); // employee does not change
 
         verify(taskRepository).save(existing);
+        verify(taskChangeMarkerRepository).save(argThat(marker -> !marker.isDeleted() && marker.getEmployeeId() == 10));
     }
 
 
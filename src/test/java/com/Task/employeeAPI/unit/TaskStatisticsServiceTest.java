@@ -0,0 +1,99 @@
+package com.Task.employeeAPI.unit;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.Task.employeeAPI.dao.Enums.Priority;
+import com.Task.employeeAPI.dao.Enums.Status;
+import com.Task.employeeAPI.dao.Repository.EmployeeRepository;
+import com.Task.employeeAPI.dao.Repository.TaskRepository;
+import com.Task.employeeAPI.dto.TaskStatsDTO;
+import com.Task.employeeAPI.events.EmployeeChangedEvent;
+import com.Task.employeeAPI.events.TaskChangedEvent;
+import com.Task.employeeAPI.events.TaskSnapshot;
+import com.Task.employeeAPI.services.concrete.TaskStatisticsService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class TaskStatisticsServiceTest {
+
+    @Mock private TaskRepository taskRepository;
+    @Mock private EmployeeRepository employeeRepository;
+
+    private SimpleMeterRegistry registry;
+    private TaskStatisticsService statisticsService;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        statisticsService = new TaskStatisticsService(taskRepository, employeeRepository, registry);
+    }
+
+    private static TaskRepository.TaskCount row(Status status, Priority priority, Integer employeeId, long count) {
+        return new TaskRepository.TaskCount() {
+            public Status getStatus() { return status; }
+            public Priority getPriority() { return priority; }
+            public Integer getEmployeeId() { return employeeId; }
+            public long getCount() { return count; }
+        };
+    }
+
+    @Test
+    void events_moveCountersIncrementally() {
+        TaskSnapshot created = new TaskSnapshot(1, Status.CREATED, Priority.HIGH, 7);
+        TaskSnapshot started = new TaskSnapshot(1, Status.IN_PROGRESS, Priority.HIGH, 7);
+        TaskSnapshot other = new TaskSnapshot(2, Status.CREATED, Priority.LOW, 8);
+
+        statisticsService.onTaskChanged(TaskChangedEvent.created(created));
+        statisticsService.onTaskChanged(TaskChangedEvent.created(other));
+        statisticsService.onTaskChanged(new TaskChangedEvent(created, started));
+        statisticsService.onTaskChanged(TaskChangedEvent.deleted(other));
+        statisticsService.onEmployeeChanged(EmployeeChangedEvent.created(7));
+        statisticsService.onEmployeeChanged(EmployeeChangedEvent.created(8));
+        statisticsService.onEmployeeChanged(new EmployeeChangedEvent(8));
+        statisticsService.onEmployeeChanged(EmployeeChangedEvent.deleted(8));
+
+        TaskStatsDTO stats = statisticsService.getStats();
+
+        assertEquals(1, stats.getTotalTasks());
+        assertEquals(1, stats.getActiveEmployees());
+        assertEquals(0, stats.getByStatus().get(Status.CREATED));
+        assertEquals(1, stats.getByStatus().get(Status.IN_PROGRESS));
+        assertEquals(1, stats.getByPriority().get(Priority.HIGH));
+        assertEquals(0, stats.getByPriority().get(Priority.LOW));
+        assertEquals(Map.of(7, 1L), stats.getByAssignee());
+    }
+
+    @Test
+    void reconcile_replacesCountersAndRecordsDrift() {
+        // One event the database never saw
+        statisticsService.onTaskChanged(TaskChangedEvent.created(new TaskSnapshot(9, Status.DONE, Priority.LOW, 4)));
+
+        when(taskRepository.countByStatusPriorityAndEmployee()).thenReturn(List.of(
+                row(Status.CREATED, Priority.HIGH, 7, 2),
+                row(Status.DONE, Priority.LOW, null, 1)
+        ));
+        when(employeeRepository.countByIsDeletedFalse()).thenReturn(1L);
+        statisticsService.reconcile();
+
+        TaskStatsDTO stats = statisticsService.getStats();
+
+        assertEquals(3, stats.getTotalTasks());
+        assertEquals(1, stats.getActiveEmployees());
+        assertEquals(2, stats.getByStatus().get(Status.CREATED));
+        assertEquals(1, stats.getByStatus().get(Status.DONE));
+        assertEquals(2, stats.getByPriority().get(Priority.HIGH));
+        assertEquals(Map.of(7, 2L), stats.getByAssignee());
+        // CREATED went 0 -> 2, DONE stayed 1
+        assertEquals(2.0, registry.get("tasks.stats.drift").counter().count());
+    }
+}
@@ -0,0 +1,84 @@
+package com.Task.employeeAPI.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.Test;
+
+import com.Task.employeeAPI.dao.Enums.Role;
+import com.Task.employeeAPI.dao.Enums.Status;
+import com.Task.employeeAPI.services.concrete.TaskTransitionMatrix;
+import com.Task.employeeAPI.services.concrete.TaskTransitionMatrix.Verdict;
+
+class TaskTransitionMatrixTest {
+
+    // The if/else rules the matrix replaced: the refusal message, or null when the move is allowed
+    private static String legacyRefusal(Status current, Status requested, boolean isHead) {
+        if (requested == Status.CREATED) {
+            return "Cannot set task to status CREATED!";
+        }
+        if (requested == Status.IN_PROGRESS) {
+            if (current == Status.CREATED && !isHead || current == Status.RESOLVED && isHead) {
+                return null;
+            }
+            return "Invalid transition to IN_PROGRESS.";
+        }
+        if (requested == Status.RESOLVED) {
+            if (current != Status.IN_PROGRESS) {
+                return "Task must be IN_PROGRESS to be set to RESOLVED.";
+            }
+            return isHead ? "Only employees can set task to RESOLVED, heads cannot." : null;
+        }
+        if (current != Status.RESOLVED) {
+            return "Task must be RESOLVED to be set to DONE.";
+        }
+        return isHead ? null : "Only HEAD_MANAGER can mark task as DONE.";
+    }
+
+    @Test
+    void everyCell_ShouldMatchTheLegacyRules() {
+        int allowed = 0;
+        for (Status current : Status.values()) {
+            for (Status requested : Status.values()) {
+                for (Role role : Role.values()) {
+                    boolean isHead = role == Role.HEAD_MANAGER;
+                    Verdict verdict = TaskTransitionMatrix.verdict(current, requested, role);
+                    String cell = current + " -> " + requested + " as " + role;
+
+                    assertEquals(legacyRefusal(current, requested, isHead), verdict.message(), cell);
+                    // Only the manager's moves out of review notify the assignee
+                    assertEquals(verdict.isAllowed() && isHead, verdict.notifiesAssignee(), cell);
+                    allowed += verdict.isAllowed() ? 1 : 0;
+                }
+            }
+        }
+        // Two moves for each of the three non-head roles, two for the head manager
+        assertEquals(8, allowed);
+    }
+
+    @Test
+    void roleMask_ShouldBeLookedUpUnderItsHighestRole() {
+        for (Status current : Status.values()) {
+            for (Status requested : Status.values()) {
+                assertSame(TaskTransitionMatrix.verdict(current, requested, Role.HEAD_MANAGER),
+                        TaskTransitionMatrix.verdict(current, requested, Role.maskOf(Role.EMPLOYEE, Role.HEAD_MANAGER)));
+                assertSame(TaskTransitionMatrix.verdict(current, requested, Role.HR_MANAGER),
+                        TaskTransitionMatrix.verdict(current, requested, Role.maskOf(Role.HR, Role.HR_MANAGER)));
+                assertSame(TaskTransitionMatrix.verdict(current, requested, Role.EMPLOYEE),
+                        TaskTransitionMatrix.verdict(current, requested, 0));
+            }
+        }
+    }
+
+    @Test
+    void sourceOf_ShouldBeTheOnlyStatusTheMoveIsAllowedFrom() {
+        for (Role role : Role.values()) {
+            for (Status requested : Status.values()) {
+                Status source = TaskTransitionMatrix.sourceOf(requested, role.mask());
+                for (Status current : Status.values()) {
+                    assertEquals(current == source, TaskTransitionMatrix.verdict(current, requested, role).isAllowed(),
+                            current + " -> " + requested + " by " + role);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.Task.employeeAPI.unit;
+
+import com.Task.employeeAPI.services.concrete.TaskWorkflowPartitionService;
+import com.Task.employeeAPI.services.concrete.TaskWorkflowPartitionService.RetentionAction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskWorkflowPartitionServiceTest {
+
+    private static final String CREATE = "select task_workflow_create_partition(?)";
+
+    @Mock private JdbcTemplate jdbcTemplate;
+
+    // queryForList is also stubbed for the partition listing, so strict stubs need the creating call spelled out
+    private void stubCreate(int year, int month) {
+        doReturn(List.of()).when(jdbcTemplate).queryForList(CREATE, Date.valueOf(LocalDate.of(year, month, 1)));
+    }
+
+    @Test
+    void maintain_ShouldCreateCurrentAndUpcomingMonths() {
+        new TaskWorkflowPartitionService(jdbcTemplate, 2, 0, RetentionAction.DETACH).maintain(YearMonth.of(2026, 11));
+
+        verify(jdbcTemplate).queryForList(CREATE, Date.valueOf(LocalDate.of(2026, 11, 1)));
+        verify(jdbcTemplate).queryForList(CREATE, Date.valueOf(LocalDate.of(2026, 12, 1)));
+        verify(jdbcTemplate).queryForList(CREATE, Date.valueOf(LocalDate.of(2027, 1, 1)));
+        // Retention is off, so existing partitions are not even listed
+        verify(jdbcTemplate, never()).queryForList(contains("pg_inherits"), eq(String.class));
+    }
+
+    @Test
+    void maintain_ShouldDetachMonthsPastRetentionOnly() {
+        stubCreate(2026, 2);
+        doReturn(List.of("task_workflow_default", "task_workflow_2025_12", "task_workflow_2026_01", "task_workflow_2026_02"))
+                .when(jdbcTemplate).queryForList(contains("pg_inherits"), eq(String.class));
+        when(jdbcTemplate.queryForObject(contains("\"task_workflow_2025_12\" w join tasks"), eq(Boolean.class))).thenReturn(false);
+
+        new TaskWorkflowPartitionService(jdbcTemplate, 0, 1, RetentionAction.DETACH).maintain(YearMonth.of(2026, 2));
+
+        verify(jdbcTemplate).execute("alter table task_workflow detach partition \"task_workflow_2025_12\"");
+        verify(jdbcTemplate, never()).execute(contains("task_workflow_2026_01"));
+        verify(jdbcTemplate, never()).execute(contains("task_workflow_default"));
+    }
+
+    @Test
+    void maintain_ShouldDropWhenConfigured() {
+        stubCreate(2026, 2);
+        doReturn(List.of("task_workflow_2025_12")).when(jdbcTemplate).queryForList(contains("pg_inherits"), eq(String.class));
+        when(jdbcTemplate.queryForObject(contains("join tasks"), eq(Boolean.class))).thenReturn(false);
+
+        new TaskWorkflowPartitionService(jdbcTemplate, 0, 1, RetentionAction.DROP).maintain(YearMonth.of(2026, 2));
+
+        verify(jdbcTemplate).execute("drop table \"task_workflow_2025_12\"");
+        verify(jdbcTemplate, never()).execute(contains("detach"));
+    }
+
+    @Test
+    void maintain_ShouldKeepMonthsWithLiveTasks() {
+        stubCreate(2026, 2);
+        doReturn(List.of("task_workflow_2025_11", "task_workflow_2025_12")).when(jdbcTemplate).queryForList(contains("pg_inherits"), eq(String.class));
+        // November's tasks are all archived; one of December's is still open
+        when(jdbcTemplate.queryForObject(contains("\"task_workflow_2025_11\" w join tasks"), eq(Boolean.class))).thenReturn(false);
+        when(jdbcTemplate.queryForObject(contains("\"task_workflow_2025_12\" w join tasks"), eq(Boolean.class))).thenReturn(true);
+
+        new TaskWorkflowPartitionService(jdbcTemplate, 0, 1, RetentionAction.DROP).maintain(YearMonth.of(2026, 2));
+
+        verify(jdbcTemplate).execute("drop table \"task_workflow_2025_11\"");
+        verify(jdbcTemplate, never()).execute(contains("task_workflow_2025_12"));
+    }
+}
@@ -1,56 +1,87 @@
 package com.Task.employeeAPI.unit;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
-import org.mockito.InjectMocks;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.Mock;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.TestingAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.Task.employeeAPI.dao.Entity.Employee;
 import com.Task.employeeAPI.dao.Entity.Task;
+import com.Task.employeeAPI.dao.Entity.TaskChangeMarker;
 import com.Task.employeeAPI.dao.Entity.TaskWorkflow;
+import com.Task.employeeAPI.dao.Enums.Priority;
 import com.Task.employeeAPI.dao.Enums.Status;
 import com.Task.employeeAPI.dao.Repository.EmployeeRepository;
+import com.Task.employeeAPI.dao.Repository.TaskChangeMarkerRepository;
 import com.Task.employeeAPI.dao.Repository.TaskRepository;
 import com.Task.employeeAPI.dao.Repository.TaskWorkflowRepository;
 import com.Task.employeeAPI.dto.NotificationDTO;
 import com.Task.employeeAPI.dto.TaskDTO;
+import com.Task.employeeAPI.dto.TaskStatusResultDTO;
 import com.Task.employeeAPI.dto.TaskWorkflowDTO;
+import com.Task.employeeAPI.events.TaskChangedEvent;
+import com.Task.employeeAPI.events.TaskSnapshot;
 import com.Task.employeeAPI.exceptions.BadRequestException;
+import com.Task.employeeAPI.exceptions.ConflictException;
 import com.Task.employeeAPI.exceptions.NotFoundException;
+import com.Task.employeeAPI.mapper.TaskWorkflowDtoMapper;
 import com.Task.employeeAPI.notification.NotificationProducer;
 import com.Task.employeeAPI.payload.TaskWorkflowPayload;
 import com.Task.employeeAPI.security.CustomUserDetails;
 import com.Task.employeeAPI.services.concrete.TaskService;
 import com.Task.employeeAPI.services.concrete.TaskWorkflowService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class TaskWorkflowServiceTest {
 
-    @InjectMocks
     private TaskWorkflowService taskWorkflowService;
+    private SimpleMeterRegistry registry;
 
     @Mock private TaskWorkflowRepository taskWorkflowRepository;
+    @Mock private TaskChangeMarkerRepository taskChangeMarkerRepository;
     @Mock private TaskRepository taskRepository;
     @Mock private EmployeeRepository employeeRepository;
     @Mock private TaskService taskService;
-    @Mock private ModelMapper modelMapper;
+    @Mock private TaskWorkflowDtoMapper taskWorkflowDtoMapper;
     @Mock private NotificationProducer notificationProducer;
-
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        taskWorkflowService = new TaskWorkflowService(taskWorkflowRepository, taskChangeMarkerRepository, employeeRepository, taskRepository, taskService,
+                taskWorkflowDtoMapper, notificationProducer, eventPublisher, transactionTemplate, registry, 3);
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
 
     private TaskWorkflowPayload payload;
     private Task task;
@@ -96,8 +127,8 @@ class TaskWorkflowServiceTest {
         taskDTO.setEmployeeId(100);
         taskDTO.setStatus(Status.CREATED);
 
-        when(taskRepository.findById(1)).thenReturn(Optional.of(task));
-        when(employeeRepository.findByEmailAndIsDeletedFalse(any())).thenReturn(employee);
+        when(taskRepository.moveStatus(1, 100, Status.CREATED, Status.IN_PROGRESS))
+                .thenReturn(Optional.of(new TaskSnapshot(1, Status.IN_PROGRESS, null, 100)));
 
         // Act
         TaskWorkflowPayload result = taskWorkflowService.setStatus(payload);
@@ -126,8 +157,8 @@ class TaskWorkflowServiceTest {
         payload.setTaskId(1);
         payload.setStatus(Status.RESOLVED);
 
-        when(taskRepository.findById(1)).thenReturn(Optional.of(task));
-        when(employeeRepository.findByEmailAndIsDeletedFalse(any())).thenReturn(employee);
+        when(taskRepository.moveStatus(1, 100, Status.IN_PROGRESS, Status.RESOLVED))
+                .thenReturn(Optional.of(new TaskSnapshot(1, Status.RESOLVED, null, 100)));
 
         // Act
         TaskWorkflowPayload result = taskWorkflowService.setStatus(payload);
@@ -156,8 +187,9 @@ class TaskWorkflowServiceTest {
         payload.setTaskId(1);
         payload.setStatus(Status.IN_PROGRESS);
 
-        when(taskRepository.findById(1)).thenReturn(Optional.of(task));
-        when(employeeRepository.findByEmailAndIsDeletedFalse(any())).thenReturn(employee);
+        when(taskRepository.moveStatus(1, null, Status.RESOLVED, Status.IN_PROGRESS))
+                .thenReturn(Optional.of(new TaskSnapshot(1, Status.IN_PROGRESS, null, 100)));
+        when(employeeRepository.findById(100)).thenReturn(Optional.of(employee));
 
         TaskWorkflowPayload result = taskWorkflowService.setStatus(payload);
 
@@ -181,8 +213,9 @@ class TaskWorkflowServiceTest {
         payload.setTaskId(1);
         payload.setStatus(Status.DONE);
 
-        when(taskRepository.findById(1)).thenReturn(Optional.of(task));
-        when(employeeRepository.findByEmailAndIsDeletedFalse(any())).thenReturn(employee);
+        when(taskRepository.moveStatus(1, null, Status.RESOLVED, Status.DONE))
+                .thenReturn(Optional.of(new TaskSnapshot(1, Status.DONE, null, 100)));
+        when(employeeRepository.findById(100)).thenReturn(Optional.of(employee));
 
         TaskWorkflowPayload result = taskWorkflowService.setStatus(payload);
 
@@ -295,6 +328,119 @@ class TaskWorkflowServiceTest {
         assertThrows(BadRequestException.class, () -> taskWorkflowService.setStatus(payload));
     }
 
+    @Test
+    void testLostCompareAndSet_ShouldRecheckAgainstCurrentStatus() {
+        setAuthWithRole("ROLE_HEAD_MANAGER", 999);
+
+        employee = new Employee();
+        employee.setId(100);
+        employee.setEmail("emp@example.com");
+
+        // The update missed, yet the task read next is still RESOLVED: a concurrent change moved it away and back
+        Task stale = new Task();
+        stale.setId(1);
+        stale.setEmployee(employee);
+        stale.setStatus(Status.RESOLVED);
+
+        Task current = new Task();
+        current.setId(1);
+        current.setEmployee(employee);
+        current.setStatus(Status.DONE);
+
+        payload = new TaskWorkflowPayload();
+        payload.setTaskId(1);
+        payload.setStatus(Status.DONE);
+
+        when(taskRepository.findById(1)).thenReturn(Optional.of(stale), Optional.of(current));
+
+        assertThrows(BadRequestException.class, () -> taskWorkflowService.setStatus(payload));
+        assertEquals(1.0, registry.counter("tasks.transitions.conflicts").count());
+        verify(taskWorkflowRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    void testCompareAndSetLostEveryAttempt_ShouldThrowConflict() {
+        setAuthWithRole("ROLE_EMPLOYEE", 100);
+
+        employee = new Employee();
+        employee.setId(100);
+
+        task = new Task();
+        task.setId(1);
+        task.setEmployee(employee);
+        task.setStatus(Status.CREATED);
+
+        payload = new TaskWorkflowPayload();
+        payload.setTaskId(1);
+        payload.setStatus(Status.IN_PROGRESS);
+
+        when(taskRepository.findById(1)).thenReturn(Optional.of(task));
+
+        assertThrows(ConflictException.class, () -> taskWorkflowService.setStatus(payload));
+        verify(taskRepository, times(3)).moveStatus(1, 100, Status.CREATED, Status.IN_PROGRESS);
+        assertEquals(2.0, registry.counter("tasks.transitions.conflicts").count());
+        assertEquals(1.0, registry.counter("tasks.transitions.exhausted").count());
+        verify(taskWorkflowRepository, never()).save(any());
+    }
+
+    @Test
+    void testWonCompareAndSet_ShouldRecordHistoryAndPublishTheMove() {
+        setAuthWithRole("ROLE_EMPLOYEE", 100);
+
+        employee = new Employee();
+        employee.setId(100);
+
+        task = new Task();
+        task.setId(1);
+        task.setEmployee(employee);
+        task.setStatus(Status.CREATED);
+
+        payload = new TaskWorkflowPayload();
+        payload.setTaskId(1);
+        payload.setStatus(Status.IN_PROGRESS);
+
+        when(taskRepository.moveStatus(1, 100, Status.CREATED, Status.IN_PROGRESS))
+                .thenReturn(Optional.of(new TaskSnapshot(1, Status.IN_PROGRESS, Priority.HIGH, 100)));
+        when(taskRepository.getReferenceById(1)).thenReturn(task);
+        when(employeeRepository.getReferenceById(100)).thenReturn(employee);
+
+        taskWorkflowService.setStatus(payload);
+
+        verify(taskWorkflowRepository).save(argThat((TaskWorkflow workflow) -> workflow.getTask() == task
+                && workflow.getStatus() == Status.IN_PROGRESS && workflow.getUpdatedBy() == employee));
+        verify(taskChangeMarkerRepository).save(argThat((TaskChangeMarker marker) -> marker.getTaskId() == 1
+                && marker.getEmployeeId() == 100 && !marker.isDeleted()));
+        verify(eventPublisher).publishEvent(new TaskChangedEvent(
+                new TaskSnapshot(1, Status.CREATED, Priority.HIGH, 100), new TaskSnapshot(1, Status.IN_PROGRESS, Priority.HIGH, 100)));
+        // The update is the only statement before the writes
+        verify(taskRepository, never()).findById(any());
+        verify(taskRepository, never()).save(any());
+        verify(employeeRepository, never()).findByEmailAndIsDeletedFalse(any());
+    }
+
+    @Test
+    void testReviewWithoutRecipient_ShouldFailAndWriteNoHistory() {
+        setAuthWithRole("ROLE_HEAD_MANAGER", 999);
+
+        employee = new Employee();
+        employee.setId(100);
+
+        payload = new TaskWorkflowPayload();
+        payload.setTaskId(1);
+        payload.setStatus(Status.DONE);
+
+        when(taskRepository.moveStatus(1, null, Status.RESOLVED, Status.DONE))
+                .thenReturn(Optional.of(new TaskSnapshot(1, Status.DONE, null, 100)));
+        when(employeeRepository.findById(100)).thenReturn(Optional.of(employee));
+
+        // Thrown inside the transaction, so the update is rolled back with it
+        assertThrows(BadRequestException.class, () -> taskWorkflowService.setStatus(payload));
+        verify(taskWorkflowRepository, never()).save(any());
+        verify(notificationProducer, never()).sendNotification(any());
+        verify(eventPublisher, never()).publishEvent(any(TaskChangedEvent.class));
+    }
+
     // ----------------------------   Tests for getAllTaskWorkflowsByTaskId method   ---------------------------------
     @Test
     void testTaskNotFound_ShouldTrowNotFoundException() {
@@ -397,11 +543,122 @@ class TaskWorkflowServiceTest {
         when(taskWorkflowRepository.findByTask_Id(1)).thenReturn(Collections.singletonList(taskWorkflow));
 
         taskWorkflowDTO = new TaskWorkflowDTO();
-        when(modelMapper.map(taskWorkflow, TaskWorkflowDTO.class)).thenReturn(taskWorkflowDTO);
+        when(taskWorkflowDtoMapper.toDtos(List.of(taskWorkflow))).thenReturn(List.of(taskWorkflowDTO));
 
         List<TaskWorkflowDTO> result = taskWorkflowService.getAllWorkflowsByTaskId(1);
 
         assertEquals(1, result.size());
         assertEquals(taskWorkflowDTO, result.getFirst());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testHistoryOfDatedTask_ShouldBeBoundedByCreationDay() {
+        setAuthWithRole("ROLE_HEAD_MANAGER", 1);
+
+        Employee employee = new Employee();
+        employee.setId(100);
+
+        Task task = new Task();
+        task.setId(1);
+        task.setEmployee(employee);
+        task.setCreatedAt(LocalDateTime.of(2026, 3, 14, 15, 9));
+
+        TaskWorkflow taskWorkflow = new TaskWorkflow();
+        taskWorkflow.setTask(task);
+
+        when(taskRepository.findById(1)).thenReturn(Optional.of(task));
+        when(taskWorkflowRepository.findByTask_IdAndLastUpdatedGreaterThanEqual(1, LocalDateTime.of(2026, 3, 13, 0, 0)))
+                .thenReturn(List.of(taskWorkflow));
+        when(taskWorkflowDtoMapper.toDtos(List.of(taskWorkflow))).thenReturn(List.of(new TaskWorkflowDTO()));
+
+        assertEquals(1, taskWorkflowService.getAllWorkflowsByTaskId(1).size());
+        verify(taskWorkflowRepository, never()).findByTask_Id(any());
+    }
+
+    // ----------------------------   Tests for setStatuses method   ---------------------------------
+    private TaskWorkflowPayload move(Integer taskId, Status status) {
+        TaskWorkflowPayload move = new TaskWorkflowPayload();
+        move.setTaskId(taskId);
+        move.setStatus(status);
+        return move;
+    }
+
+    @Test
+    void testBatchMove_ShouldApplyValidMovesAndReportTheRest() {
+        setAuthWithRole("ROLE_HEAD_MANAGER", 1);
+
+        employee = new Employee();
+        employee.setId(100);
+        employee.setEmail("emp@example.com");
+
+        Task resolved = new Task();
+        resolved.setId(1);
+        resolved.setStatus(Status.RESOLVED);
+        resolved.setEmployee(employee);
+
+        Task created = new Task();
+        created.setId(2);
+        created.setStatus(Status.CREATED);
+        created.setEmployee(employee);
+
+        when(taskRepository.findWithEmployeeByIdIn(Set.of(1, 2, 3))).thenReturn(List.of(resolved, created));
+        when(employeeRepository.getReferenceById(1)).thenReturn(new Employee());
+        when(taskRepository.updateStatusIfCurrent(1, Status.RESOLVED, Status.DONE)).thenReturn(1);
+
+        List<TaskStatusResultDTO> results = taskWorkflowService.setStatuses(List.of(
+                move(1, Status.DONE), move(2, Status.DONE), move(3, Status.DONE)));
+
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).isUpdated());
+        assertEquals(Status.DONE, results.get(0).getStatus());
+        // Written by the compare-and-set alone, not by dirty-checking the loaded entity
+        assertEquals(Status.RESOLVED, resolved.getStatus());
+        assertFalse(results.get(1).isUpdated());
+        assertEquals("Task must be RESOLVED to be set to DONE.", results.get(1).getError());
+        assertEquals(Status.CREATED, created.getStatus());
+        assertFalse(results.get(2).isUpdated());
+
+        verify(taskWorkflowRepository).saveAll(argThat((List<TaskWorkflow> workflows) -> workflows.size() == 1
+                && workflows.getFirst().getTask() == resolved && workflows.getFirst().getStatus() == Status.DONE));
+        verify(eventPublisher).publishEvent(new TaskChangedEvent(
+                new TaskSnapshot(1, Status.RESOLVED, null, 100), new TaskSnapshot(1, Status.DONE, null, 100)));
+        verify(taskRepository, never()).findById(any());
+    }
+
+    @Test
+    void testBatchMove_ShouldReportALostRaceWithoutStoppingTheOthers() {
+        setAuthWithRole("ROLE_EMPLOYEE", 100);
+
+        employee = new Employee();
+        employee.setId(100);
+        employee.setEmail("emp@example.com");
+
+        Task raced = new Task();
+        raced.setId(1);
+        raced.setStatus(Status.CREATED);
+        raced.setEmployee(employee);
+
+        Task other = new Task();
+        other.setId(2);
+        other.setStatus(Status.CREATED);
+        other.setEmployee(employee);
+
+        when(taskRepository.findWithEmployeeByIdIn(Set.of(1, 2))).thenReturn(List.of(raced, other));
+        when(employeeRepository.getReferenceById(100)).thenReturn(new Employee());
+        when(taskRepository.updateStatusIfCurrent(1, Status.CREATED, Status.IN_PROGRESS)).thenReturn(0);
+        when(taskRepository.updateStatusIfCurrent(2, Status.CREATED, Status.IN_PROGRESS)).thenReturn(1);
+
+        List<TaskStatusResultDTO> results = taskWorkflowService.setStatuses(List.of(
+                move(1, Status.IN_PROGRESS), move(2, Status.IN_PROGRESS)));
+
+        assertFalse(results.get(0).isUpdated());
+        assertEquals("Task 1 is being changed concurrently, try again.", results.get(0).getError());
+        assertTrue(results.get(1).isUpdated());
+        assertEquals(1.0, registry.counter("tasks.transitions.conflicts").count());
+
+        verify(taskWorkflowRepository).saveAll(argThat((List<TaskWorkflow> workflows) -> workflows.size() == 1
+                && workflows.getFirst().getTask() == other));
+        verify(taskChangeMarkerRepository).markChanged(eq(List.of(2)), any());
+        verify(eventPublisher, times(1)).publishEvent(any(TaskChangedEvent.class));
+    }
+}